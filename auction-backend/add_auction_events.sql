@@ -0,0 +1,22 @@
+-- 노드 간 이벤트 버스용 아웃박스 테이블 (auction.event-bus.mode=outbox)
+-- MariaDB 10.6 이상 (SELECT ... FOR UPDATE SKIP LOCKED)
+
+USE auctiondb;
+
+CREATE TABLE IF NOT EXISTS auction_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL COMMENT 'BID_ACCEPTED, AUCTION_CLOSED, NOTIFICATION_CREATED, CHAT_MESSAGE_POSTED',
+    payload TEXT NOT NULL COMMENT '이벤트 JSON',
+    origin_node VARCHAR(64) NOT NULL COMMENT '발행 노드',
+    seq BIGINT NULL COMMENT '커밋 순서 (순번 부여 전에는 NULL)',
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    UNIQUE KEY uk_auction_events_seq (seq),
+    INDEX idx_auction_events_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='경매 이벤트 아웃박스';
+
+CREATE TABLE IF NOT EXISTS auction_event_sequence (
+    id TINYINT PRIMARY KEY,
+    value BIGINT NOT NULL
+) ENGINE=InnoDB COMMENT='경매 이벤트 순번';
+
+INSERT IGNORE INTO auction_event_sequence (id, value) VALUES (1, 0);
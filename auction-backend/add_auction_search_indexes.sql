@@ -0,0 +1,17 @@
+-- 경매 검색(/api/auctions/search) 정렬/keyset 용 현재가 컬럼과 복합 인덱스
+-- MariaDB에서 실행
+
+USE auctiondb;
+
+-- 현재가 (입찰이 없으면 시작가). 가격 필터/정렬이 인덱스를 타도록 저장형 생성 컬럼으로 둔다
+ALTER TABLE auction
+    ADD COLUMN IF NOT EXISTS current_price INT AS (GREATEST(highest_bid, start_price)) STORED COMMENT '현재가';
+
+-- WHERE is_closed = ? [AND (정렬 키, id) 다음] ORDER BY 정렬 키, id
+CREATE INDEX idx_auction_closed_end ON auction(is_closed, end_time, id);
+CREATE INDEX idx_auction_closed_price ON auction(is_closed, current_price, id);
+CREATE INDEX idx_auction_closed_bids ON auction(is_closed, bid_count, id);
+CREATE INDEX idx_auction_closed_created ON auction(is_closed, created_at, id);
+
+-- 카테고리 목록: WHERE category = ? AND is_closed = ? ORDER BY end_time, id
+CREATE INDEX idx_auction_category_closed_end ON auction(category, is_closed, end_time, id);
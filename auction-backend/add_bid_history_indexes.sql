@@ -0,0 +1,7 @@
+-- 입찰 내역 keyset 페이지 조회용 인덱스
+-- MariaDB에서 실행
+
+USE auctiondb;
+
+-- /api/bids/user/{userId}: WHERE bidder = ? ORDER BY bid_time DESC, id DESC
+CREATE INDEX idx_bids_bidder_time ON bids(bidder, bid_time);
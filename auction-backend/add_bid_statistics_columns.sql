@@ -0,0 +1,8 @@
+-- statistics 테이블에 입찰 집계 컬럼 추가 (BidStatsService 가 주기적으로 반영)
+-- MariaDB에서 실행
+
+USE auctiondb;
+
+ALTER TABLE statistics ADD COLUMN IF NOT EXISTS total_amount BIGINT NOT NULL DEFAULT 0 COMMENT '입찰 금액 합계';
+ALTER TABLE statistics ADD COLUMN IF NOT EXISTS min_bid BIGINT NULL COMMENT '최저 입찰가';
+ALTER TABLE statistics ADD COLUMN IF NOT EXISTS max_bid BIGINT NULL COMMENT '최고 입찰가';
@@ -0,0 +1,37 @@
+-- 알림 복합 인덱스 + 90일 지난 알림 보관 테이블
+-- MariaDB에서 실행
+
+USE auctiondb;
+
+-- 안 읽은 알림 수: WHERE user_id = ? AND is_read = 0 (인덱스만으로 계산)
+CREATE INDEX idx_notifications_user_read ON notifications(user_id, is_read);
+
+-- 알림함 keyset: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at, id);
+
+-- 위 복합 인덱스로 대체된 단일 컬럼 인덱스 (idx_created_at 은 보관 작업이 사용)
+DROP INDEX IF EXISTS idx_user_id ON notifications;
+DROP INDEX IF EXISTS idx_is_read ON notifications;
+
+-- 보관 테이블 (연도별 파티션, 해가 바뀌기 전에 pmax 를 REORGANIZE 해서 다음 해 파티션을 추가)
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT NOT NULL,
+    auction_id BIGINT,
+    title VARCHAR(200),
+    user_id VARCHAR(100),
+    type VARCHAR(50),
+    message TEXT,
+    is_read TINYINT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL,
+    seller_id BIGINT,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at),
+    INDEX idx_notifications_archive_user_created (user_id, created_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관된 알림'
+PARTITION BY RANGE (YEAR(created_at)) (
+    PARTITION p2024 VALUES LESS THAN (2025),
+    PARTITION p2025 VALUES LESS THAN (2026),
+    PARTITION p2026 VALUES LESS THAN (2027),
+    PARTITION p2027 VALUES LESS THAN (2028),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
@@ -0,0 +1,18 @@
+-- 알림 전송(WebSocket/이메일) 아웃박스 테이블
+-- 알림과 같은 트랜잭션에서 기록되고 디스패처가 전송 후 삭제한다
+-- MariaDB 10.6 이상 (SELECT ... FOR UPDATE SKIP LOCKED)
+
+USE auctiondb;
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    channel VARCHAR(10) NOT NULL COMMENT 'WS, EMAIL',
+    user_id VARCHAR(50) NOT NULL COMMENT '수신자',
+    payload TEXT NOT NULL COMMENT '알림 JSON',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '실패 횟수',
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, DEAD',
+    next_attempt_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '다음 전송 시각',
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_notification_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='알림 전송 아웃박스';
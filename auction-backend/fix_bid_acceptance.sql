@@ -0,0 +1,16 @@
+-- 입찰 수락을 auction 행 단위 조건부 UPDATE(compare-and-set)로 전환
+-- MariaDB에서 실행
+
+USE auctiondb;
+
+-- 입찰마다 MAX(bid_amount)를 다시 계산하던 트리거 제거
+-- (highest_bid / bid_count 는 애플리케이션의 조건부 UPDATE가 직접 갱신)
+DROP TRIGGER IF EXISTS update_highest_bid_after_insert;
+
+-- 경매별 최고 입찰 조회용 인덱스
+CREATE INDEX idx_bids_auction_amount ON bids(auction_id, bid_amount);
+
+-- 기존 데이터 보정: highest_bid / bid_count 를 실제 입찰 내역과 맞춘다
+UPDATE auction a
+SET highest_bid = GREATEST(a.highest_bid, (SELECT COALESCE(MAX(b.bid_amount), 0) FROM bids b WHERE b.auction_id = a.id)),
+    bid_count = (SELECT COUNT(*) FROM bids b WHERE b.auction_id = a.id);
@@ -45,6 +45,7 @@ public class SecurityConfig {
                     "/api/auctions", 
                     "/api/auctions/*", 
                     "/api/auctions/*/view", 
+                    "/api/auctions/*/snapshot", 
                     "/api/bids/**", 
                     "/ws-auction/**", 
                     "/api/dashboard", 
@@ -92,7 +93,7 @@ public class SecurityConfig {
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(Arrays.asList("*"));
         config.setAllowCredentials(true);
-        config.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie"));
+        config.setExposedHeaders(Arrays.asList("Authorization", "Set-Cookie", "X-Next-Cursor"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
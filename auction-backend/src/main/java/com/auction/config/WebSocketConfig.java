@@ -1,23 +1,73 @@
 package com.auction.config;
 
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import com.auction.util.EmbeddedStompBroker;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // simple: JVM 내부 브로커 (단일 노드 기본값)
+    // relay: 외부 STOMP 브로커(RabbitMQ/ActiveMQ 등)로 /topic 을 중계해 여러 노드가 구독을 공유
+    // embedded: 같은 프로세스에 띄운 최소 STOMP 브로커로 relay 모드를 로컬/테스트에서 확인
+    @Value("${auction.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Value("${auction.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${auction.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${auction.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${auction.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${auction.websocket.relay.virtual-host:}")
+    private String relayVirtualHost;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // /topic 으로 시작하는 주소를 구독하도록 설정
-        config.enableSimpleBroker("/topic");
+        if ("relay".equals(brokerMode) || "embedded".equals(brokerMode)) {
+            // /topic 구독/전송을 외부 브로커로 중계 (노드 간 fan-out)
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                    .setRelayHost("embedded".equals(brokerMode) ? "127.0.0.1" : relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            if (!relayVirtualHost.isEmpty()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            // /topic 으로 시작하는 주소를 구독하도록 설정
+            config.enableSimpleBroker("/topic");
+        }
         // 메시지를 보낼 때 사용할 prefix
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    // embedded 모드에서 relay 가 연결할 로컬 브로커 (relay 는 컨텍스트 시작 시점에 연결하므로 그 전에 뜬다)
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "auction.websocket.broker", havingValue = "embedded")
+    public EmbeddedStompBroker embeddedStompBroker() throws IOException {
+        return new EmbeddedStompBroker("127.0.0.1", relayPort);
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 프론트엔드가 연결할 WebSocket 엔드포인트
@@ -1,13 +1,21 @@
 package com.auction.controller;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
+import com.auction.dto.AuctionDeltaDto;
 import com.auction.dto.AuctionDto;
+import com.auction.dto.AuctionListItemDto;
+import com.auction.dto.AuctionSearchCondition;
 import com.auction.dto.BidDto;
 import com.auction.dto.NotificationDto;
 import com.auction.entity.Auction;
 import com.auction.entity.User;
+import com.auction.service.AuctionBroadcaster;
 import com.auction.service.AuctionService;
 import com.auction.service.BidService;
 import com.auction.service.NotificationService;
@@ -16,6 +24,7 @@ import com.auction.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -24,11 +33,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/api/auctions")
-@CrossOrigin(origins = {"http://localhost:5173", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true")
+@CrossOrigin(origins = {"http://localhost:5173", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true", exposedHeaders = "X-Next-Cursor")
 public class AuctionController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuctionController.class);
 
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private AuctionService auctionService;
 
@@ -41,6 +54,9 @@ public class AuctionController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private AuctionBroadcaster auctionBroadcaster;
+
     // 모든 경매 조회
     @GetMapping
     public ResponseEntity<List<AuctionDto>> getAllAuctions() {
@@ -54,6 +70,62 @@ public class AuctionController {
         }
     }
 
+    // 경매 검색 (필터 + 정렬, 다음 페이지 커서는 X-Next-Cursor 헤더)
+    // 예: /api/auctions/search?q=아이폰&category=전자기기&closed=false&sort=price&order=desc
+    @GetMapping("/search")
+    public ResponseEntity<List<AuctionListItemDto>> searchAuctions(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long minPrice,
+            @RequestParam(required = false) Long maxPrice,
+            @RequestParam(required = false) Boolean closed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endingBefore,
+            @RequestParam(defaultValue = "endTime") String sort,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_SEARCH_SIZE) int limit) {
+        try {
+            AuctionSearchCondition condition = new AuctionSearchCondition();
+            condition.setQuery(blankToNull(q));
+            condition.setCategory(blankToNull(category));
+            condition.setBrand(blankToNull(brand));
+            condition.setStatus(blankToNull(status));
+            condition.setMinPrice(minPrice);
+            condition.setMaxPrice(maxPrice);
+            condition.setClosed(closed);
+            condition.setEndingBefore(endingBefore);
+            condition.setSort(AuctionSearchCondition.Sort.from(sort));
+            if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+                throw new IllegalArgumentException("정렬 방향은 asc 또는 desc 입니다.");
+            }
+            condition.setDescending("desc".equalsIgnoreCase(order));
+
+            int size = Math.max(1, Math.min(limit, MAX_SEARCH_SIZE));
+            String[] after = decodeSearchCursor(cursor, condition.getSort());
+            List<AuctionListItemDto> items = auctionService.searchAuctions(condition,
+                after != null ? condition.getSort().parseKey(after[0]) : null,
+                after != null ? Long.valueOf(after[1]) : null,
+                size + 1);
+
+            // limit+1 개를 조회해 다음 페이지가 있으면 커서를 헤더로 내려준다
+            if (items.size() <= size) {
+                return ResponseEntity.ok(items);
+            }
+            List<AuctionListItemDto> content = items.subList(0, size);
+            AuctionListItemDto last = content.get(size - 1);
+            return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, encodeSearchCursor(condition.getSort(), last))
+                .body(content);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(null);
+        } catch (Exception e) {
+            logger.error("경매 검색 실패", e);
+            return ResponseEntity.status(500).body(null);
+        }
+    }
+
     // 랜덤 경매 조회
     @GetMapping("/random")
     public ResponseEntity<List<AuctionDto>> getRandomAuctions(@RequestParam(defaultValue = "5") int count) {
@@ -135,9 +207,11 @@ public class AuctionController {
 
     // 입찰 내역 조회
     @GetMapping("/{auctionId}/bids")
-    public ResponseEntity<List<BidDto>> getBidsByAuction(@PathVariable Long auctionId) {
+    public ResponseEntity<List<BidDto>> getBidsByAuction(@PathVariable Long auctionId,
+                                                         @RequestParam(defaultValue = "100") int limit) {
         try {
-            List<BidDto> bids = bidService.getBidsByAuctionId(auctionId);
+            // 전체 내역/페이지 이동은 /api/bids/auction/{id} 사용
+            List<BidDto> bids = bidService.getBidsByAuctionId(auctionId, null, null, Math.max(1, Math.min(limit, 1000)));
             return ResponseEntity.ok(bids);
         } catch (Exception e) {
             logger.error("입찰 내역 조회 실패 - auctionId: {}", auctionId, e);
@@ -145,6 +219,19 @@ public class AuctionController {
         }
     }
 
+    // 실시간 상태 스냅샷 (/topic/auctions/{id} 의 sequence 가 비었을 때 다시 맞추는 용도)
+    @GetMapping("/{auctionId}/snapshot")
+    public ResponseEntity<AuctionDeltaDto> getSnapshot(@PathVariable Long auctionId) {
+        try {
+            return ResponseEntity.ok(auctionBroadcaster.snapshot(auctionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            logger.error("경매 스냅샷 조회 실패 - auctionId: {}", auctionId, e);
+            return ResponseEntity.status(500).body(null);
+        }
+    }
+
     // 조회수 증가
     @PostMapping("/{id}/view")
     public ResponseEntity<String> incrementViewCount(@PathVariable Long id) {
@@ -242,4 +329,25 @@ public class AuctionController {
             return ResponseEntity.status(500).body("즉시구매 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // 커서: "정렬 기준|정렬 키|id" (다른 정렬 기준의 커서는 거부)
+    private static String encodeSearchCursor(AuctionSearchCondition.Sort sort, AuctionListItemDto last) {
+        String raw = sort.getParam() + "|" + sort.keyOf(last) + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeSearchCursor(String cursor, AuctionSearchCondition.Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || !parts[0].equals(sort.getParam())) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return new String[] { parts[1], parts[2] };
+    }
 }
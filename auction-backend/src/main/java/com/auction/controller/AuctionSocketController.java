@@ -1,13 +1,23 @@
 package com.auction.controller;
 
+import com.auction.dto.AuctionDeltaDto;
 import com.auction.dto.AuctionDto;
+import com.auction.service.AuctionBroadcaster;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 @Controller
 public class AuctionSocketController {
 
+    private final AuctionBroadcaster auctionBroadcaster;
+
+    public AuctionSocketController(AuctionBroadcaster auctionBroadcaster) {
+        this.auctionBroadcaster = auctionBroadcaster;
+    }
+
     // 메시지 받기: /app/bid
     // 메시지 브로드캐스트: /topic/auction-updates
     @MessageMapping("/bid")
@@ -15,4 +25,11 @@ public class AuctionSocketController {
     public AuctionDto broadcastBid(AuctionDto auctionDto) {
         return auctionDto; // 단순히 응답 브로드캐스트
     }
+
+    // 스냅샷 요청: /app/auctions/{id}/snapshot 구독 시 요청한 세션에만 한 번 응답
+    // 이후 변경분은 /topic/auctions/{id} 에서 sequence 순서대로 받는다
+    @SubscribeMapping("/auctions/{auctionId}/snapshot")
+    public AuctionDeltaDto snapshot(@DestinationVariable Long auctionId) {
+        return auctionBroadcaster.snapshot(auctionId);
+    }
 }
@@ -2,6 +2,7 @@ package com.auction.controller;
 
 import com.auction.dto.AutoBidDto;
 import com.auction.service.AutoBidService;
+import com.auction.service.BidEngine;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,9 +13,11 @@ import java.util.List;
 @CrossOrigin(origins = {"http://localhost:5173", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"})
 public class AutoBidController {
     private final AutoBidService autoBidService;
+    private final BidEngine bidEngine;
 
-    public AutoBidController(AutoBidService autoBidService) {
+    public AutoBidController(AutoBidService autoBidService, BidEngine bidEngine) {
         this.autoBidService = autoBidService;
+        this.bidEngine = bidEngine;
     }
 
     // 자동입찰 등록/갱신
@@ -23,6 +26,7 @@ public class AutoBidController {
                                                   @RequestParam String userId,
                                                   @RequestParam int maxAmount) {
         autoBidService.registerAutoBid(auctionId, userId, maxAmount);
+        bidEngine.resolveProxies(auctionId);
         return ResponseEntity.ok("자동입찰이 등록되었습니다.");
     }
 
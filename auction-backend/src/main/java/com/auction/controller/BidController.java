@@ -1,30 +1,70 @@
 package com.auction.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.auction.dto.BidDto;
 import com.auction.service.BidService;
 
 @RestController
 @RequestMapping("/api/bids")
-@CrossOrigin(origins = {"http://localhost:5173", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true")
+@CrossOrigin(origins = {"http://localhost:5173", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true", exposedHeaders = "X-Next-Cursor")
 public class BidController {
     
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+
     @Autowired
     private BidService bidService;
 
-    // 경매별 입찰 내역 조회
+    // 경매별 입찰 내역 조회 (금액 높은 순, 다음 페이지 커서는 X-Next-Cursor 헤더)
     @GetMapping("/auction/{auctionId}")
-    public ResponseEntity<List<BidDto>> getBidsByAuction(@PathVariable Long auctionId) {
+    public ResponseEntity<List<BidDto>> getBidsByAuction(@PathVariable Long auctionId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
-            List<BidDto> bids = bidService.getBidsByAuctionId(auctionId);
-            return ResponseEntity.ok(bids);
+            int size = pageSize(limit);
+            String[] after = decodeCursor(cursor);
+            List<BidDto> bids = bidService.getBidsByAuctionId(auctionId,
+                after != null ? Long.valueOf(after[0]) : null,
+                after != null ? Long.valueOf(after[1]) : null,
+                size + 1);
+            return page(bids, size, last -> encodeCursor(String.valueOf(last.getBidAmount()), last.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
+    }
+
+    // 경매별 입찰 내역 전체 내보내기 (NDJSON 스트리밍)
+    @GetMapping(value = "/auction/{auctionId}/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportBidsByAuction(@PathVariable Long auctionId) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(out -> bidService.exportBidsByAuctionId(auctionId, out));
+    }
+
+    // 특정 시점 기준 입찰 내역 재구성 (예: ?at=2025-08-01T12:00:00)
+    @GetMapping("/auction/{auctionId}/at")
+    public ResponseEntity<List<BidDto>> getBidsByAuctionAt(@PathVariable Long auctionId,
+                                                           @RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        try {
+            return ResponseEntity.ok(bidService.getBidsByAuctionIdAt(auctionId, at));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(null);
         }
@@ -48,17 +88,34 @@ public class BidController {
         }
     }
 
-    // 사용자별 입찰 내역 조회
+    // 사용자별 입찰 내역 조회 (최근 순, 다음 페이지 커서는 X-Next-Cursor 헤더)
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<BidDto>> getBidsByUser(@PathVariable Long userId) {
+    public ResponseEntity<List<BidDto>> getBidsByUser(@PathVariable Long userId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
-            List<BidDto> bids = bidService.getBidsByUserId(userId);
-            return ResponseEntity.ok(bids);
+            int size = pageSize(limit);
+            String[] after = decodeCursor(cursor);
+            List<BidDto> bids = bidService.getBidsByUserId(userId,
+                after != null ? LocalDateTime.parse(after[0]) : null,
+                after != null ? Long.valueOf(after[1]) : null,
+                size + 1);
+            return page(bids, size, last -> encodeCursor(last.getBidTime().toString(), last.getId()));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(null);
         } catch (Exception e) {
             return ResponseEntity.status(500).body(null);
         }
     }
 
+    // 사용자별 입찰 내역 전체 내보내기 (NDJSON 스트리밍)
+    @GetMapping(value = "/user/{userId}/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportBidsByUser(@PathVariable Long userId) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(out -> bidService.exportBidsByUserId(userId, out));
+    }
+
     // 입찰 통계
     @GetMapping("/stats/auction/{auctionId}")
     public ResponseEntity<Map<String, Object>> getBidStats(@PathVariable Long auctionId) {
@@ -93,4 +150,35 @@ public class BidController {
             return ResponseEntity.status(500).body("모의 데이터 생성 실패: " + e.getMessage());
         }
     }
+
+    private static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    // limit+1 개를 조회해 다음 페이지가 있으면 커서를 헤더로 내려준다 (응답 본문은 기존처럼 배열)
+    private static ResponseEntity<List<BidDto>> page(List<BidDto> bids, int size, Function<BidDto, String> cursorOf) {
+        if (bids.size() <= size) {
+            return ResponseEntity.ok(bids);
+        }
+        List<BidDto> content = bids.subList(0, size);
+        return ResponseEntity.ok()
+            .header(NEXT_CURSOR_HEADER, cursorOf.apply(content.get(size - 1)))
+            .body(content);
+    }
+
+    private static String encodeCursor(String key, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return parts;
+    }
 }
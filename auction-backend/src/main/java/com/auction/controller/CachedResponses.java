@@ -0,0 +1,36 @@
+package com.auction.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+// 미리 직렬화해 둔 JSON 응답 (If-None-Match / If-Modified-Since 가 맞으면 304)
+final class CachedResponses {
+
+    private CachedResponses() {}
+
+    static ResponseEntity<byte[]> json(byte[] body, String etag, WebRequest request) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache())
+            .body(body);
+    }
+
+    static ResponseEntity<byte[]> json(byte[] body, String etag, long lastModified, WebRequest request) {
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).lastModified(lastModified).build();
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .lastModified(lastModified)
+            .cacheControl(CacheControl.noCache())
+            .body(body);
+    }
+}
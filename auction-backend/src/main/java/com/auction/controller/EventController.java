@@ -14,30 +14,46 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.EventDto;
 import com.auction.service.EventService;
+import com.auction.service.PublishedContentCache;
 
 @RestController
 @RequestMapping("/api/event")
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true")
 public class EventController {
     private final EventService eventService;
+    private final PublishedContentCache publishedContentCache;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, PublishedContentCache publishedContentCache) {
         this.eventService = eventService;
+        this.publishedContentCache = publishedContentCache;
     }
 
     // ===== 일반 사용자 API =====
     
+    // 공개/진행 중 이벤트 (캐시, ETag/Last-Modified 조건부 요청 지원)
     @GetMapping("/published")
-    public List<EventDto> getPublishedEvents() {
-        return eventService.getPublishedEvents();
+    public ResponseEntity<byte[]> getPublishedEvents(WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.EVENT, "published", eventService::getPublishedEvents);
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/ongoing")
-    public List<EventDto> getOngoingEvents() {
-        return eventService.getOngoingEvents();
+    public ResponseEntity<byte[]> getOngoingEvents(WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.EVENT, "ongoing", eventService::getOngoingEvents);
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/published/{id}")
@@ -46,8 +62,13 @@ public class EventController {
     }
 
     @GetMapping("/category/{category}")
-    public List<EventDto> getEventsByCategory(@PathVariable String category) {
-        return eventService.getEventsByCategory(category);
+    public ResponseEntity<byte[]> getEventsByCategory(@PathVariable String category, WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.EVENT, "category:" + category, () -> eventService.getEventsByCategory(category));
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/search")
@@ -14,18 +14,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.FAQDto;
 import com.auction.service.FAQService;
+import com.auction.service.PublishedContentCache;
 
 @RestController
 @RequestMapping("/api/faq")
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true")
 public class FAQController {
     private final FAQService faqService;
+    private final PublishedContentCache publishedContentCache;
 
-    public FAQController(FAQService faqService) {
+    public FAQController(FAQService faqService, PublishedContentCache publishedContentCache) {
         this.faqService = faqService;
+        this.publishedContentCache = publishedContentCache;
     }
 
     // ===== 일반 사용자 API =====
@@ -67,10 +72,15 @@ public class FAQController {
         }
     }
     
+    // 공개 FAQ (캐시, ETag/Last-Modified 조건부 요청 지원)
     @GetMapping("/published")
-    public List<FAQDto> getPublishedFAQs() {
-        System.out.println("publish");
-        return faqService.getPublishedFAQs();
+    public ResponseEntity<byte[]> getPublishedFAQs(WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.FAQ, "published", faqService::getPublishedFAQs);
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/published/{id}")
@@ -79,8 +89,13 @@ public class FAQController {
     }
 
     @GetMapping("/category/{category}")
-    public List<FAQDto> getFAQsByCategory(@PathVariable String category) {
-        return faqService.getFAQsByCategory(category);
+    public ResponseEntity<byte[]> getFAQsByCategory(@PathVariable String category, WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.FAQ, "category:" + category, () -> faqService.getFAQsByCategory(category));
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/search")
@@ -1,6 +1,7 @@
 package com.auction.controller;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.auction.dto.AuctionDto;
 import com.auction.dto.EventDto;
@@ -19,7 +21,9 @@ import com.auction.dto.NoticeDto;
 import com.auction.service.AuctionService;
 import com.auction.service.EventService;
 import com.auction.service.FAQService;
+import com.auction.service.HomeSnapshotService;
 import com.auction.service.NoticeService;
+import com.auction.service.SectionLoader;
 
 @RestController
 @RequestMapping("/api")
@@ -38,68 +42,29 @@ public class IntegratedController {
     @Autowired
     private EventService eventService;
 
-    // 통합 데이터 조회 API
+    @Autowired
+    private HomeSnapshotService homeSnapshotService;
+
+    @Autowired
+    private SectionLoader sectionLoader;
+
+    // 통합 데이터 조회 API (미리 만들어 둔 스냅샷, If-None-Match 가 같으면 304)
     @GetMapping("/dashboard")
-    public ResponseEntity<Map<String, Object>> getDashboardData() {
+    public ResponseEntity<byte[]> getDashboardData(WebRequest request) {
         try {
-            Map<String, Object> dashboardData = new HashMap<>();
-            
-            // 경매 데이터
-            List<AuctionDto> auctions = auctionService.getAllAuctions();
-            dashboardData.put("auctions", auctions);
-            
-            // 공지사항 데이터
-            List<NoticeDto> notices = noticeService.getPublishedNotices();
-            dashboardData.put("notices", notices);
-            
-            // FAQ 데이터
-            List<FAQDto> faqs = faqService.getPublishedFAQs();
-            dashboardData.put("faqs", faqs);
-            
-            // 이벤트 데이터
-            List<EventDto> events = eventService.getPublishedEvents();
-            dashboardData.put("events", events);
-            
-            return ResponseEntity.ok(dashboardData);
+            HomeSnapshotService.Snapshot snapshot = homeSnapshotService.getDashboard();
+            return CachedResponses.json(snapshot.getBody(), snapshot.getEtag(), request);
         } catch (Exception e) {
             return ResponseEntity.status(500).body(null);
         }
     }
 
-    // 홈페이지용 데이터 조회 API
+    // 홈페이지용 데이터 조회 API (미리 만들어 둔 스냅샷, If-None-Match 가 같으면 304)
     @GetMapping("/home")
-    public ResponseEntity<Map<String, Object>> getHomeData() {
+    public ResponseEntity<byte[]> getHomeData(WebRequest request) {
         try {
-            Map<String, Object> homeData = new HashMap<>();
-            
-            // 활성 경매 (최신 6개)
-            List<AuctionDto> activeAuctions = auctionService.getAllAuctions().stream()
-                .filter(auction -> !auction.getIsClosed())
-                .limit(6)
-                .toList();
-            homeData.put("activeAuctions", activeAuctions);
-            
-            // 중요 공지사항 (최신 3개)
-            List<NoticeDto> importantNotices = noticeService.getPublishedNotices().stream()
-                .filter(notice -> notice.isImportant())
-                .limit(3)
-                .toList();
-            homeData.put("importantNotices", importantNotices);
-            
-            // 중요 FAQ (최신 5개)
-            List<FAQDto> importantFaqs = faqService.getPublishedFAQs().stream()
-                .filter(faq -> faq.isImportant())
-                .limit(5)
-                .toList();
-            homeData.put("importantFaqs", importantFaqs);
-            
-            // 진행 중인 이벤트 (최신 3개)
-            List<EventDto> ongoingEvents = eventService.getOngoingEvents().stream()
-                .limit(3)
-                .toList();
-            homeData.put("ongoingEvents", ongoingEvents);
-            
-            return ResponseEntity.ok(homeData);
+            HomeSnapshotService.Snapshot snapshot = homeSnapshotService.getHome();
+            return CachedResponses.json(snapshot.getBody(), snapshot.getEtag(), request);
         } catch (Exception e) {
             return ResponseEntity.status(500).body(null);
         }
@@ -315,6 +280,9 @@ public class IntegratedController {
             } catch (Exception e) {
                 results.put("auctions", "경매 샘플 데이터 생성 실패: " + e.getMessage());
             }
+
+            // 바로 이어지는 /api/dashboard 조회에 샘플 데이터가 보이도록 스냅샷을 다시 만든다
+            homeSnapshotService.refresh();
             
             return ResponseEntity.ok(results);
         } catch (Exception e) {
@@ -331,38 +299,21 @@ public class IntegratedController {
             status.put("timestamp", java.time.LocalDateTime.now());
             status.put("version", "1.0.0");
             
-            // 각 서비스 상태 확인
-            try {
-                List<AuctionDto> auctions = auctionService.getAllAuctions();
-                status.put("auctions", auctions.size());
-            } catch (Exception e) {
-                status.put("auctions", "error");
-            }
-            
-            try {
-                List<NoticeDto> notices = noticeService.getPublishedNotices();
-                status.put("notices", notices.size());
-            } catch (Exception e) {
-                status.put("notices", "error");
-            }
-            
-            try {
-                List<FAQDto> faqs = faqService.getPublishedFAQs();
-                status.put("faqs", faqs.size());
-            } catch (Exception e) {
-                status.put("faqs", "error");
-            }
-            
-            try {
-                List<EventDto> events = eventService.getPublishedEvents();
-                status.put("events", events.size());
-            } catch (Exception e) {
-                status.put("events", "error");
-            }
+            // 각 서비스 상태 확인 (병렬 조회, 실패/시간 초과한 구역은 "error")
+            SectionLoader.Batch batch = sectionLoader.batch("status");
+            Map<String, SectionLoader.Section<Object>> sections = new LinkedHashMap<>();
+            sections.put("auctions", batch.add("auctions", () -> auctionService.getAllAuctions().size(), "error"));
+            sections.put("notices", batch.add("notices", () -> noticeService.getPublishedNotices().size(), "error"));
+            sections.put("faqs", batch.add("faqs", () -> faqService.getPublishedFAQs().size(), "error"));
+            sections.put("events", batch.add("events", () -> eventService.getPublishedEvents().size(), "error"));
+            batch.await();
+            sections.forEach((name, section) -> status.put(name, section.get()));
             
-            return ResponseEntity.ok(status);
+            return ResponseEntity.ok()
+                .header("Server-Timing", batch.serverTiming())
+                .body(status);
         } catch (Exception e) {
             return ResponseEntity.status(500).body(null);
         }
     }
-} 
\ No newline at end of file
+}
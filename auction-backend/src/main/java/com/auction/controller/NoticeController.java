@@ -16,18 +16,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.NoticeDto;
 import com.auction.service.NoticeService;
+import com.auction.service.PublishedContentCache;
 
 @RestController
 @RequestMapping("/api/notice")
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000", "http://auction-react-bucket-20250804-prj.s3-website.ap-northeast-2.amazonaws.com"}, allowCredentials = "true")
 public class NoticeController {
     private final NoticeService noticeService;
+    private final PublishedContentCache publishedContentCache;
 
-    public NoticeController(NoticeService noticeService) {
+    public NoticeController(NoticeService noticeService, PublishedContentCache publishedContentCache) {
         this.noticeService = noticeService;
+        this.publishedContentCache = publishedContentCache;
     }
 
     // ===== 일반 사용자 API =====
@@ -49,9 +54,15 @@ public class NoticeController {
         }
     }
     
+    // 공개 공지사항 (캐시, ETag/Last-Modified 조건부 요청 지원)
     @GetMapping("/published")
-    public List<NoticeDto> getPublishedNotices() {
-        return noticeService.getPublishedNotices();
+    public ResponseEntity<byte[]> getPublishedNotices(WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.NOTICE, "published", noticeService::getPublishedNotices);
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     @GetMapping("/published/{id}")
@@ -60,8 +71,13 @@ public class NoticeController {
     }
 
     @GetMapping("/category/{category}")
-    public List<NoticeDto> getNoticesByCategory(@PathVariable String category) {
-        return noticeService.getNoticesByCategory(category);
+    public ResponseEntity<byte[]> getNoticesByCategory(@PathVariable String category, WebRequest request) {
+        try {
+            PublishedContentCache.Entry entry = publishedContentCache.get(ContentChangedEvent.NOTICE, "category:" + category, () -> noticeService.getNoticesByCategory(category));
+            return CachedResponses.json(entry.getBody(), entry.getEtag(), entry.getLastModified(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(null);
+        }
     }
 
     // Mock 데이터 테스트 API (데이터베이스 연결 없이)
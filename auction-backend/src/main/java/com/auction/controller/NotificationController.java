@@ -26,12 +26,12 @@ public class NotificationController {
         this.notificationService = notificationService;
     }
 
-    // 🔔 사용자 알림 전체 조회
+    // 🔔 사용자 알림 조회 (최신순, beforeId 로 이전 페이지)
     @GetMapping("/{userId}")
-    public List<NotificationDto> getNotifications(@PathVariable String userId) {
-        notificationService.getUserNotifications(userId).stream().map(NotificationDto::getIsRead).forEach(System.out::println);
-        System.out.println("Fetching notifications for user: " + userId);
-        return notificationService.getUserNotifications(userId);
+    public List<NotificationDto> getNotifications(@PathVariable String userId,
+                                                  @RequestParam(required = false) Long beforeId,
+                                                  @RequestParam(defaultValue = "50") int limit) {
+        return notificationService.getUserNotifications(userId, beforeId, Math.max(1, Math.min(limit, 200)));
     }
 
     // 🔔 읽지 않은 알림 개수 조회
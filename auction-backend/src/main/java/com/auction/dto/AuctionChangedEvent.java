@@ -0,0 +1,28 @@
+package com.auction.dto;
+
+import java.time.LocalDateTime;
+
+// 이벤트 버스: 경매 등록/수정/삭제 (AUCTION_CHANGED, 상세 캐시/입찰 엔진 상태/마감 예약/랜덤 추천 후보 갱신용)
+public class AuctionChangedEvent {
+    private Long auctionId;
+    private LocalDateTime endTime;
+    // 진행 중이면 true, 종료되었거나 삭제되었으면 false
+    private boolean open;
+
+    public AuctionChangedEvent() {}
+
+    public AuctionChangedEvent(Long auctionId, LocalDateTime endTime, boolean open) {
+        this.auctionId = auctionId;
+        this.endTime = endTime;
+        this.open = open;
+    }
+
+    public Long getAuctionId() { return auctionId; }
+    public void setAuctionId(Long auctionId) { this.auctionId = auctionId; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public boolean isOpen() { return open; }
+    public void setOpen(boolean open) { this.open = open; }
+}
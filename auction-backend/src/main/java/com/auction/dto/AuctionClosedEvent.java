@@ -0,0 +1,20 @@
+package com.auction.dto;
+
+// 이벤트 버스: 경매 마감 (AUCTION_CLOSED, 시간 만료/즉시구매/수동 종료)
+public class AuctionClosedEvent {
+    private Long auctionId;
+    private String winner;
+
+    public AuctionClosedEvent() {}
+
+    public AuctionClosedEvent(Long auctionId, String winner) {
+        this.auctionId = auctionId;
+        this.winner = winner;
+    }
+
+    public Long getAuctionId() { return auctionId; }
+    public void setAuctionId(Long auctionId) { this.auctionId = auctionId; }
+
+    public String getWinner() { return winner; }
+    public void setWinner(String winner) { this.winner = winner; }
+}
@@ -0,0 +1,48 @@
+package com.auction.dto;
+
+import java.time.LocalDateTime;
+
+// 경매별 토픽(/topic/auctions/{id})으로 보내는 실시간 변경분
+public class AuctionDeltaDto {
+    private Long auctionId;
+    private Long price;
+    private String leader;
+    private Integer bidCount;
+    private LocalDateTime endTime;
+    private Long sequence;
+    // 이 변경분에 합쳐져 따로 전송되지 않은 중간 입찰 수
+    private int intermediateBids;
+
+    public AuctionDeltaDto() {}
+
+    public AuctionDeltaDto(Long auctionId, Long price, String leader, Integer bidCount,
+                           LocalDateTime endTime, Long sequence) {
+        this.auctionId = auctionId;
+        this.price = price;
+        this.leader = leader;
+        this.bidCount = bidCount;
+        this.endTime = endTime;
+        this.sequence = sequence;
+    }
+
+    public Long getAuctionId() { return auctionId; }
+    public void setAuctionId(Long auctionId) { this.auctionId = auctionId; }
+
+    public Long getPrice() { return price; }
+    public void setPrice(Long price) { this.price = price; }
+
+    public String getLeader() { return leader; }
+    public void setLeader(String leader) { this.leader = leader; }
+
+    public Integer getBidCount() { return bidCount; }
+    public void setBidCount(Integer bidCount) { this.bidCount = bidCount; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+
+    public int getIntermediateBids() { return intermediateBids; }
+    public void setIntermediateBids(int intermediateBids) { this.intermediateBids = intermediateBids; }
+}
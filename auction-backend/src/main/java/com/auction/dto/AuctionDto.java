@@ -169,4 +169,44 @@ public class AuctionDto {
     public void setClosed(boolean closed) { 
         this.isClosed = closed; 
     }
+
+    // 캐시에 보관한 값을 호출한 쪽이 바꾸지 못하도록 넘겨줄 때 복사한다
+    public AuctionDto copy() {
+        AuctionDto copy = new AuctionDto();
+        copy.id = id;
+        copy.title = title;
+        copy.category = category;
+        copy.status = status;
+        copy.brand = brand;
+        copy.imageUrl1 = imageUrl1;
+        copy.imageUrl2 = imageUrl2;
+        copy.imageUrl3 = imageUrl3;
+        copy.description = description;
+        copy.startPrice = startPrice;
+        copy.buyNowPrice = buyNowPrice;
+        copy.bidUnit = bidUnit;
+        copy.startTime = startTime;
+        copy.endTime = endTime;
+        copy.minBidCount = minBidCount;
+        copy.autoExtend = autoExtend;
+        copy.shippingFee = shippingFee;
+        copy.shippingType = shippingType;
+        copy.location = location;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.highestBid = highestBid;
+        copy.isClosed = isClosed;
+        copy.winner = winner;
+        copy.winnerId = winnerId;
+        copy.viewCount = viewCount;
+        copy.bidCount = bidCount;
+        copy.userId = userId;
+        copy.seller = seller;
+        copy.imageUrl = imageUrl;
+        copy.currentPrice = currentPrice;
+        copy.startAt = startAt;
+        copy.endAt = endAt;
+        copy.ownerId = ownerId;
+        return copy;
+    }
 }
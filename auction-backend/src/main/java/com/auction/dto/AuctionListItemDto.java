@@ -0,0 +1,58 @@
+package com.auction.dto;
+
+import java.time.LocalDateTime;
+
+// 경매 목록/검색 결과 한 줄 (상세 설명/이미지 2·3 등 목록에 필요 없는 필드는 뺀다)
+public class AuctionListItemDto {
+    private Long id;
+    private String title;
+    private String category;
+    private String brand;
+    private String status;
+    private String imageUrl1;
+    // 현재가 (입찰이 없으면 시작가)
+    private Long currentPrice;
+    private Integer buyNowPrice;
+    private Integer bidCount;
+    private LocalDateTime endTime;
+    private Boolean isClosed;
+    private LocalDateTime createdAt;
+
+    public AuctionListItemDto() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) { this.brand = brand; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getImageUrl1() { return imageUrl1; }
+    public void setImageUrl1(String imageUrl1) { this.imageUrl1 = imageUrl1; }
+
+    public Long getCurrentPrice() { return currentPrice; }
+    public void setCurrentPrice(Long currentPrice) { this.currentPrice = currentPrice; }
+
+    public Integer getBuyNowPrice() { return buyNowPrice; }
+    public void setBuyNowPrice(Integer buyNowPrice) { this.buyNowPrice = buyNowPrice; }
+
+    public Integer getBidCount() { return bidCount; }
+    public void setBidCount(Integer bidCount) { this.bidCount = bidCount; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public Boolean getIsClosed() { return isClosed; }
+    public void setIsClosed(Boolean isClosed) { this.isClosed = isClosed; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,93 @@
+package com.auction.dto;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// 경매 검색 조건 (null 인 조건은 적용하지 않음)
+public class AuctionSearchCondition {
+
+    // 정렬 기준. column 은 keyset 비교에 그대로 쓰이므로 복합 인덱스의 컬럼과 같아야 한다
+    public enum Sort {
+        END_TIME("endTime", "a.end_time", true, item -> String.valueOf(item.getEndTime())),
+        PRICE("price", "a.current_price", false, item -> String.valueOf(item.getCurrentPrice())),
+        BID_COUNT("bidCount", "a.bid_count", false, item -> String.valueOf(item.getBidCount())),
+        CREATED_AT("createdAt", "a.created_at", true, item -> String.valueOf(item.getCreatedAt()));
+
+        private final String param;
+        private final String column;
+        private final boolean time;
+        private final Function<AuctionListItemDto, String> keyOf;
+
+        Sort(String param, String column, boolean time, Function<AuctionListItemDto, String> keyOf) {
+            this.param = param;
+            this.column = column;
+            this.time = time;
+            this.keyOf = keyOf;
+        }
+
+        public String getParam() { return param; }
+        public String getColumn() { return column; }
+
+        // 커서에 넣을 정렬 키 값
+        public String keyOf(AuctionListItemDto item) {
+            return keyOf.apply(item);
+        }
+
+        // 커서의 정렬 키 값을 컬럼 타입으로 변환
+        public Object parseKey(String key) {
+            return time ? LocalDateTime.parse(key) : (Object) Long.valueOf(key);
+        }
+
+        public static Sort from(String param) {
+            for (Sort sort : values()) {
+                if (sort.param.equalsIgnoreCase(param)) {
+                    return sort;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + param);
+        }
+    }
+
+    private String query;
+    private String category;
+    private String brand;
+    private String status;
+    private Long minPrice;
+    private Long maxPrice;
+    private Boolean closed;
+    private LocalDateTime endingBefore;
+    private Sort sort = Sort.END_TIME;
+    private boolean descending;
+
+    public AuctionSearchCondition() {}
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) { this.brand = brand; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Long getMinPrice() { return minPrice; }
+    public void setMinPrice(Long minPrice) { this.minPrice = minPrice; }
+
+    public Long getMaxPrice() { return maxPrice; }
+    public void setMaxPrice(Long maxPrice) { this.maxPrice = maxPrice; }
+
+    public Boolean getClosed() { return closed; }
+    public void setClosed(Boolean closed) { this.closed = closed; }
+
+    public LocalDateTime getEndingBefore() { return endingBefore; }
+    public void setEndingBefore(LocalDateTime endingBefore) { this.endingBefore = endingBefore; }
+
+    public Sort getSort() { return sort; }
+    public void setSort(Sort sort) { this.sort = sort; }
+
+    public boolean isDescending() { return descending; }
+    public void setDescending(boolean descending) { this.descending = descending; }
+}
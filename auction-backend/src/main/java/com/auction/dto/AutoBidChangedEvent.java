@@ -0,0 +1,15 @@
+package com.auction.dto;
+
+// 이벤트 버스: 자동입찰 등록/갱신/삭제 (AUTOBID_CHANGED, 경매별 자동입찰 목록 캐시 갱신용)
+public class AutoBidChangedEvent {
+    private Long auctionId;
+
+    public AutoBidChangedEvent() {}
+
+    public AutoBidChangedEvent(Long auctionId) {
+        this.auctionId = auctionId;
+    }
+
+    public Long getAuctionId() { return auctionId; }
+    public void setAuctionId(Long auctionId) { this.auctionId = auctionId; }
+}
@@ -0,0 +1,70 @@
+package com.auction.dto;
+
+import java.time.LocalDateTime;
+
+// 이벤트 버스: 입찰이 DB에 반영됨 (BID_ACCEPTED)
+public class BidAcceptedEvent {
+    private Long bidId;
+    private Long auctionId;
+    private String title;
+    private Long sellerId;
+    private String bidder;
+    private Long amount;
+    private LocalDateTime bidTime;
+    private Integer bidCount;
+    private Long sequence;
+    private LocalDateTime endTime;
+    private boolean extended;
+
+    public BidAcceptedEvent() {}
+
+    public BidAcceptedEvent(Long bidId, Long auctionId, String title, Long sellerId, String bidder, Long amount,
+                            LocalDateTime bidTime, Integer bidCount, Long sequence, LocalDateTime endTime,
+                            boolean extended) {
+        this.bidId = bidId;
+        this.auctionId = auctionId;
+        this.title = title;
+        this.sellerId = sellerId;
+        this.bidder = bidder;
+        this.amount = amount;
+        this.bidTime = bidTime;
+        this.bidCount = bidCount;
+        this.sequence = sequence;
+        this.endTime = endTime;
+        this.extended = extended;
+    }
+
+    // bids.id
+    public Long getBidId() { return bidId; }
+    public void setBidId(Long bidId) { this.bidId = bidId; }
+
+    public Long getAuctionId() { return auctionId; }
+    public void setAuctionId(Long auctionId) { this.auctionId = auctionId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Long getSellerId() { return sellerId; }
+    public void setSellerId(Long sellerId) { this.sellerId = sellerId; }
+
+    public String getBidder() { return bidder; }
+    public void setBidder(String bidder) { this.bidder = bidder; }
+
+    public Long getAmount() { return amount; }
+    public void setAmount(Long amount) { this.amount = amount; }
+
+    public LocalDateTime getBidTime() { return bidTime; }
+    public void setBidTime(LocalDateTime bidTime) { this.bidTime = bidTime; }
+
+    public Integer getBidCount() { return bidCount; }
+    public void setBidCount(Integer bidCount) { this.bidCount = bidCount; }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public boolean isExtended() { return extended; }
+    public void setExtended(boolean extended) { this.extended = extended; }
+}
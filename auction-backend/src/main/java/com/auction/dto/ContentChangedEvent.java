@@ -0,0 +1,20 @@
+package com.auction.dto;
+
+// 이벤트 버스: 경매/공지사항/FAQ/이벤트 내용 변경 (CONTENT_CHANGED, 홈 화면 스냅샷 등 캐시 갱신용)
+public class ContentChangedEvent {
+    public static final String AUCTION = "auction";
+    public static final String NOTICE = "notice";
+    public static final String FAQ = "faq";
+    public static final String EVENT = "event";
+
+    private String type;
+
+    public ContentChangedEvent() {}
+
+    public ContentChangedEvent(String type) {
+        this.type = type;
+    }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+}
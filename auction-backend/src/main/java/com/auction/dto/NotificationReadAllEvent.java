@@ -0,0 +1,21 @@
+package com.auction.dto;
+
+// 이벤트 버스: 사용자의 알림 전체 읽음 (NOTIFICATION_READ_ALL, 모든 노드의 알림함 캐시 갱신용)
+public class NotificationReadAllEvent {
+    private String userId;
+    // 읽음 처리한 알림 id 의 상한 (이 id 이하의 알림만 읽음으로 바뀌었다)
+    private long upToId;
+
+    public NotificationReadAllEvent() {}
+
+    public NotificationReadAllEvent(String userId, long upToId) {
+        this.userId = userId;
+        this.upToId = upToId;
+    }
+
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public long getUpToId() { return upToId; }
+    public void setUpToId(long upToId) { this.upToId = upToId; }
+}
@@ -2,6 +2,8 @@ package com.auction.entity;
 
 public enum NotificationType {
     BID_PLACED("입찰 알림"),
+    NEW_BID("새 입찰 알림"),
+    BID_REJECTED("입찰 취소 알림"),
     WIN("낙찰 알림"),
     LOSE("패찰 알림"),
     END("경매 종료"),
@@ -2,12 +2,15 @@ package com.auction.mapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.lang.NonNull;
 
 import com.auction.dto.AuctionDto;
 
+// auction 행 + users 조인(seller) → AuctionDto (AuctionServiceImpl.toDto 와 같은 필드를 채운다)
 public class AuctionRowMapper implements RowMapper<AuctionDto> {
 
     @Override
@@ -15,13 +18,60 @@ public class AuctionRowMapper implements RowMapper<AuctionDto> {
         AuctionDto dto = new AuctionDto();
         dto.setId(rs.getLong("id"));
         dto.setTitle(rs.getString("title"));
-        dto.setStartPrice(rs.getInt("start_price"));
+        dto.setCategory(rs.getString("category"));
+        dto.setStatus(rs.getString("status"));
+        dto.setBrand(rs.getString("brand"));
+        dto.setImageUrl1(rs.getString("image_url1"));
+        dto.setImageUrl2(rs.getString("image_url2"));
+        dto.setImageUrl3(rs.getString("image_url3"));
+        dto.setDescription(rs.getString("description"));
+        dto.setStartPrice(getInteger(rs, "start_price"));
+        dto.setBuyNowPrice(getInteger(rs, "buy_now_price"));
+        dto.setBidUnit(getInteger(rs, "bid_unit"));
+        dto.setStartTime(getDateTime(rs, "start_time"));
+        dto.setEndTime(getDateTime(rs, "end_time"));
+        dto.setMinBidCount(getInteger(rs, "min_bid_count"));
+        dto.setAutoExtend(getBoolean(rs, "auto_extend"));
+        dto.setShippingFee(rs.getString("shipping_fee"));
+        dto.setShippingType(rs.getString("shipping_type"));
+        dto.setLocation(rs.getString("location"));
+        dto.setCreatedAt(getDateTime(rs, "created_at"));
+        dto.setUpdatedAt(getDateTime(rs, "updated_at"));
+        dto.setHighestBid(getInteger(rs, "highest_bid"));
+        dto.setIsClosed(getBoolean(rs, "is_closed"));
+        dto.setWinner(rs.getString("winner"));
+        dto.setViewCount(getInteger(rs, "view_count"));
+        dto.setBidCount(getInteger(rs, "bid_count"));
+        long userId = rs.getLong("user_id");
+        dto.setUserId(rs.wasNull() ? null : userId);
         // 판매자 닉네임 매핑
         try {
             dto.setSeller(rs.getString("seller"));
         } catch (SQLException e) {
             dto.setSeller(null);
         }
+
+        dto.setImageUrl(dto.getImageUrl1());
+        Integer price = dto.getHighestBid() != null ? dto.getHighestBid() : dto.getStartPrice();
+        dto.setCurrentPrice(price != null ? price.longValue() : null);
+        dto.setStartAt(dto.getStartTime());
+        dto.setEndAt(dto.getEndTime());
+        dto.setOwnerId(null);
         return dto;
     }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Boolean getBoolean(ResultSet rs, String column) throws SQLException {
+        boolean value = rs.getBoolean(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toLocalDateTime() : null;
+    }
 }
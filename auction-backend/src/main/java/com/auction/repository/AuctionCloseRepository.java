@@ -0,0 +1,122 @@
+package com.auction.repository;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 경매 일괄 마감용 쿼리 모음.
+ * 경매 수만큼 쿼리를 날리지 않도록 모든 조회/갱신을 id 목록 단위로 처리한다.
+ */
+@Repository
+public class AuctionCloseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuctionCloseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 아직 종료되지 않은 경매 조회
+    public List<ClosingAuction> findOpenByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "SELECT id, title, user_id, end_time, winner FROM auction " +
+                     "WHERE is_closed = 0 AND id IN (" + placeholders(ids.size()) + ")";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ClosingAuction(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getObject("user_id") != null ? rs.getLong("user_id") : null,
+            rs.getTimestamp("end_time") != null ? rs.getTimestamp("end_time").toLocalDateTime() : null,
+            rs.getString("winner")
+        ), ids.toArray());
+    }
+
+    // 경매별 최고 입찰자 (동일 금액이면 먼저 입찰한 사람)를 한 번에 조회
+    public Map<Long, String> findWinners(List<Long> ids) {
+        Map<Long, String> winners = new HashMap<>();
+        if (ids.isEmpty()) {
+            return winners;
+        }
+        String in = placeholders(ids.size());
+        String sql = "SELECT b.auction_id, b.bidder FROM bids b " +
+                     "JOIN (SELECT auction_id, MAX(bid_amount) AS max_amount FROM bids " +
+                     "      WHERE auction_id IN (" + in + ") GROUP BY auction_id) m " +
+                     "ON b.auction_id = m.auction_id AND b.bid_amount = m.max_amount " +
+                     "ORDER BY b.auction_id, b.bid_time ASC, b.id ASC";
+        jdbcTemplate.query(sql, rs -> {
+            winners.putIfAbsent(rs.getLong("auction_id"), rs.getString("bidder"));
+        }, ids.toArray());
+        return winners;
+    }
+
+    // 경매별 입찰자 목록 (중복 제거)
+    public Map<Long, List<String>> findBidders(List<Long> ids) {
+        Map<Long, List<String>> bidders = new HashMap<>();
+        if (ids.isEmpty()) {
+            return bidders;
+        }
+        String sql = "SELECT DISTINCT auction_id, bidder FROM bids WHERE auction_id IN (" + placeholders(ids.size()) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            bidders.computeIfAbsent(rs.getLong("auction_id"), id -> new ArrayList<>()).add(rs.getString("bidder"));
+        }, ids.toArray());
+        return bidders;
+    }
+
+    // 일괄 종료 (JDBC batch). 실제로 종료 처리된 경매만 돌려준다
+    public List<ClosingAuction> closeAll(List<ClosingAuction> auctions) {
+        if (auctions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = "UPDATE auction SET is_closed = 1, status = '종료', winner = ? WHERE id = ? AND is_closed = 0";
+        List<Object[]> args = new ArrayList<>(auctions.size());
+        for (ClosingAuction auction : auctions) {
+            args.add(new Object[] { auction.getWinner(), auction.getId() });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        List<ClosingAuction> closed = new ArrayList<>(auctions.size());
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 성공으로 본다
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                closed.add(auctions.get(i));
+            }
+        }
+        return closed;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    // 마감 대상 경매
+    public static class ClosingAuction {
+        private final Long id;
+        private final String title;
+        private final Long sellerId;
+        private final LocalDateTime endTime;
+        private String winner;
+
+        public ClosingAuction(Long id, String title, Long sellerId, LocalDateTime endTime, String winner) {
+            this.id = id;
+            this.title = title;
+            this.sellerId = sellerId;
+            this.endTime = endTime;
+            this.winner = winner;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public Long getSellerId() { return sellerId; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public String getWinner() { return winner; }
+        public void setWinner(String winner) { this.winner = winner; }
+    }
+}
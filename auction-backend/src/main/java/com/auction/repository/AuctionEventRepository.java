@@ -0,0 +1,87 @@
+package com.auction.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// 노드 간 이벤트 버스 아웃박스 (auction_events / auction_event_sequence)
+@Repository
+public class AuctionEventRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuctionEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 호출한 쪽의 트랜잭션이 있으면 그 안에서 기록된다 (상태 변경과 함께 커밋/롤백)
+    public void insert(String type, String payload, String originNode) {
+        jdbcTemplate.update("INSERT INTO auction_events (event_type, payload, origin_node) VALUES (?, ?, ?)",
+            type, payload, originNode);
+    }
+
+    // 아직 순번이 없는 이벤트에 커밋 순서대로 seq 를 매긴다. 처리한 건수를 돌려준다
+    // 여러 노드가 동시에 호출해도 SKIP LOCKED 로 서로 다른 행을 가져가고,
+    // 카운터 행 잠금 때문에 먼저 커밋한 트랜잭션이 항상 더 작은 seq 를 갖는다 (읽는 쪽은 seq 순서대로 빈틈없이 본다)
+    @Transactional
+    public int assignSequences(int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM auction_events WHERE seq IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+            Long.class, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.update("UPDATE auction_event_sequence SET value = LAST_INSERT_ID(value + ?) WHERE id = 1", ids.size());
+        Long last = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        long next = last - ids.size() + 1;
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            args.add(new Object[] { next++, id });
+        }
+        jdbcTemplate.batchUpdate("UPDATE auction_events SET seq = ? WHERE id = ?", args);
+        return ids.size();
+    }
+
+    public List<StoredEvent> findAfter(long seq, int limit) {
+        return jdbcTemplate.query(
+            "SELECT seq, event_type, payload, origin_node FROM auction_events WHERE seq > ? ORDER BY seq LIMIT ?",
+            (rs, rowNum) -> new StoredEvent(rs.getLong("seq"), rs.getString("event_type"),
+                rs.getString("payload"), rs.getString("origin_node")),
+            seq, limit);
+    }
+
+    public long findMaxSequence() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM auction_events", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    // 모든 노드가 읽고 지나간 오래된 이벤트 정리
+    public int deleteBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM auction_events WHERE seq IS NOT NULL AND created_at < ? LIMIT ?",
+            Timestamp.valueOf(before), limit);
+    }
+
+    public static class StoredEvent {
+        private final long seq;
+        private final String type;
+        private final String payload;
+        private final String originNode;
+
+        public StoredEvent(long seq, String type, String payload, String originNode) {
+            this.seq = seq;
+            this.type = type;
+            this.payload = payload;
+            this.originNode = originNode;
+        }
+
+        public long getSeq() { return seq; }
+        public String getType() { return type; }
+        public String getPayload() { return payload; }
+        public String getOriginNode() { return originNode; }
+    }
+}
@@ -0,0 +1,132 @@
+package com.auction.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.auction.dto.AuctionListItemDto;
+import com.auction.dto.AuctionSearchCondition;
+
+/**
+ * 경매 검색 (필터 + 정렬 + keyset 페이지).
+ * 목록에 필요한 컬럼만 읽고, (정렬 키, id) 기준으로 다음 페이지를 이어서 읽으므로
+ * 페이지가 뒤로 가도 OFFSET 처럼 앞 행을 다시 훑지 않는다.
+ */
+@Repository
+public class AuctionSearchRepository {
+
+    private static final String COLUMNS =
+        "SELECT a.id, a.title, a.category, a.brand, a.status, a.image_url1, a.current_price, " +
+        "a.buy_now_price, a.bid_count, a.end_time, a.is_closed, a.created_at FROM auction a";
+
+    private static final RowMapper<AuctionListItemDto> ROW_MAPPER = AuctionSearchRepository::mapItem;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuctionSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // afterKey/afterId 가 있으면 그 행 다음부터 limit 개
+    public List<AuctionListItemDto> search(AuctionSearchCondition condition, Object afterKey, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(COLUMNS);
+        List<Object> args = new ArrayList<>();
+        List<String> where = new ArrayList<>();
+
+        if (condition.getClosed() != null) {
+            where.add("a.is_closed = ?");
+            args.add(condition.getClosed());
+        }
+        if (condition.getCategory() != null) {
+            where.add("a.category = ?");
+            args.add(condition.getCategory());
+        }
+        if (condition.getBrand() != null) {
+            where.add("a.brand = ?");
+            args.add(condition.getBrand());
+        }
+        if (condition.getStatus() != null) {
+            where.add("a.status = ?");
+            args.add(condition.getStatus());
+        }
+        if (condition.getMinPrice() != null) {
+            where.add("a.current_price >= ?");
+            args.add(condition.getMinPrice());
+        }
+        if (condition.getMaxPrice() != null) {
+            where.add("a.current_price <= ?");
+            args.add(condition.getMaxPrice());
+        }
+        if (condition.getEndingBefore() != null) {
+            where.add("a.end_time < ?");
+            args.add(Timestamp.valueOf(condition.getEndingBefore()));
+        }
+        if (condition.getQuery() != null) {
+            // 한글 검색어는 MariaDB FULLTEXT(ngram 미지원)로 찾을 수 없어 부분 일치로 찾는다
+            String pattern = "%" + escapeLike(condition.getQuery()) + "%";
+            where.add("(a.title LIKE ? OR a.brand LIKE ? OR a.description LIKE ?)");
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+        }
+
+        String column = condition.getSort().getColumn();
+        String direction = condition.isDescending() ? "DESC" : "ASC";
+        if (afterId != null) {
+            String op = condition.isDescending() ? "<" : ">";
+            where.add("(" + column + " " + op + " ? OR (" + column + " = ? AND a.id " + op + " ?))");
+            Object key = toSqlValue(afterKey);
+            args.add(key);
+            args.add(key);
+            args.add(afterId);
+        }
+
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", where));
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+           .append(", a.id ").append(direction)
+           .append(" LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private static Object toSqlValue(Object key) {
+        return key instanceof LocalDateTime ? Timestamp.valueOf((LocalDateTime) key) : key;
+    }
+
+    // LIKE 패턴의 와일드카드를 문자 그대로 찾도록 (기본 이스케이프 문자는 '\')
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static AuctionListItemDto mapItem(ResultSet rs, int rowNum) throws SQLException {
+        AuctionListItemDto item = new AuctionListItemDto();
+        item.setId(rs.getLong("id"));
+        item.setTitle(rs.getString("title"));
+        item.setCategory(rs.getString("category"));
+        item.setBrand(rs.getString("brand"));
+        item.setStatus(rs.getString("status"));
+        item.setImageUrl1(rs.getString("image_url1"));
+        item.setCurrentPrice(rs.getLong("current_price"));
+        int buyNowPrice = rs.getInt("buy_now_price");
+        item.setBuyNowPrice(rs.wasNull() ? null : buyNowPrice);
+        item.setBidCount(rs.getInt("bid_count"));
+        item.setEndTime(toLocalDateTime(rs.getTimestamp("end_time")));
+        item.setIsClosed(rs.getBoolean("is_closed"));
+        item.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        return item;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+}
@@ -1,15 +1,28 @@
 package com.auction.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.auction.dto.BidDto;
 
 @Repository
 public class BidRepository {
+    private static final int STREAM_FETCH_SIZE = 1000;
+    // 다중 행 INSERT 한 번에 넣을 최대 입찰 수 (placeholder 4개 × 500)
+    private static final int INSERT_CHUNK = 500;
+
     private final JdbcTemplate jdbcTemplate;
 
     public BidRepository(JdbcTemplate jdbcTemplate) {
@@ -21,32 +34,158 @@ public class BidRepository {
         jdbcTemplate.update(sql, bid.getAuctionId(), bid.getBidder(), bid.getBidAmount(), Timestamp.valueOf(bid.getBidTime()));
     }
 
-    public List<BidDto> findByAuctionId(Long auctionId) {
-        String sql = "SELECT * FROM bids WHERE auction_id = ? ORDER BY bid_amount DESC";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            BidDto bid = new BidDto();
-            bid.setId(rs.getLong("id"));
-            bid.setAuctionId(rs.getLong("auction_id"));
-            bid.setBidder(rs.getString("bidder"));
-            bid.setBidAmount(rs.getLong("bid_amount"));
-            bid.setBidTime(rs.getTimestamp("bid_time").toLocalDateTime());
-            bid.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-            return bid;
-        }, auctionId);
-    }
-
-    public List<BidDto> findByUserId(Long userId) {
-        String sql = "SELECT * FROM bids WHERE bidder = ? ORDER BY bid_time DESC";
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            BidDto bid = new BidDto();
-            bid.setId(rs.getLong("id"));
-            bid.setAuctionId(rs.getLong("auction_id"));
-            bid.setBidder(rs.getString("bidder"));
-            bid.setBidAmount(rs.getLong("bid_amount"));
-            bid.setBidTime(rs.getTimestamp("bid_time").toLocalDateTime());
-            bid.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-            return bid;
-        }, userId);
+    // 입찰 일괄 수락 (compare-and-set + group commit)
+    // 경매 행의 최고가가 조건을 만족할 때만 갱신하고, 갱신에 성공한 입찰만 bids 에 기록한다
+    // 경매 행 갱신은 순서대로 batch 실행되므로 같은 경매의 연속 입찰도 앞 입찰 기준으로 검사된다
+    // 기록된 입찰에는 생성된 bids.id 를 채운다
+    @Transactional
+    public boolean[] acceptBids(List<BidDto> bids) {
+        boolean[] accepted = new boolean[bids.size()];
+        if (bids.isEmpty()) {
+            return accepted;
+        }
+        String updateSql = "UPDATE auction SET highest_bid = ?, bid_count = bid_count + 1 " +
+                           "WHERE id = ? AND is_closed = 0 " +
+                           "AND ? >= IF(highest_bid > 0, highest_bid + bid_unit, start_price) " +
+                           "AND (buy_now_price IS NULL OR ? < buy_now_price)";
+        List<Object[]> updateArgs = new ArrayList<>(bids.size());
+        for (BidDto bid : bids) {
+            updateArgs.add(new Object[] { bid.getBidAmount(), bid.getAuctionId(), bid.getBidAmount(), bid.getBidAmount() });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(updateSql, updateArgs);
+
+        List<BidDto> inserts = new ArrayList<>(bids.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                accepted[i] = true;
+                inserts.add(bids.get(i));
+            }
+        }
+        for (int from = 0; from < inserts.size(); from += INSERT_CHUNK) {
+            insertChunk(inserts.subList(from, Math.min(inserts.size(), from + INSERT_CHUNK)));
+        }
+        return accepted;
+    }
+
+    // 다중 행 INSERT 한 번으로 기록하고 키는 RETURNING 으로 받는다 (MariaDB 10.5+, VALUES 순서대로 돌려줌)
+    private void insertChunk(List<BidDto> chunk) {
+        String sql = "INSERT INTO bids (auction_id, bidder, bid_amount, bid_time) VALUES " +
+                     String.join(",", Collections.nCopies(chunk.size(), "(?, ?, ?, ?)")) +
+                     " RETURNING id";
+        List<Long> ids = jdbcTemplate.query(sql, ps -> {
+            int i = 1;
+            for (BidDto bid : chunk) {
+                ps.setLong(i++, bid.getAuctionId());
+                ps.setString(i++, bid.getBidder());
+                ps.setLong(i++, bid.getBidAmount());
+                ps.setTimestamp(i++, Timestamp.valueOf(bid.getBidTime()));
+            }
+        }, (rs, rowNum) -> rs.getLong(1));
+        for (int i = 0; i < ids.size() && i < chunk.size(); i++) {
+            chunk.get(i).setId(ids.get(i));
+        }
+    }
+
+    // 이미 기록된 입찰의 bids.id (없으면 null). 반영 여부가 불확실한 배치를 다시 반영할 때 중복을 거른다
+    // 같은 경매/금액/입찰자/입찰 시각이면 같은 입찰로 본다 (경매별 금액은 조건부 갱신으로 유일)
+    public Long[] findExistingIds(List<BidDto> bids) {
+        Long[] ids = new Long[bids.size()];
+        if (bids.isEmpty()) {
+            return ids;
+        }
+        String sql = "SELECT id, auction_id, bidder, bid_amount, bid_time FROM bids WHERE (auction_id, bid_amount) IN (" +
+                     String.join(",", Collections.nCopies(bids.size(), "(?, ?)")) + ")";
+        Object[] args = new Object[bids.size() * 2];
+        for (int i = 0; i < bids.size(); i++) {
+            args[i * 2] = bids.get(i).getAuctionId();
+            args[i * 2 + 1] = bids.get(i).getBidAmount();
+        }
+        jdbcTemplate.query(sql, rs -> {
+            long auctionId = rs.getLong("auction_id");
+            long amount = rs.getLong("bid_amount");
+            String bidder = rs.getString("bidder");
+            LocalDateTime bidTime = rs.getTimestamp("bid_time").toLocalDateTime();
+            for (int i = 0; i < bids.size(); i++) {
+                BidDto bid = bids.get(i);
+                if (ids[i] == null && bid.getAuctionId() == auctionId && bid.getBidAmount() == amount
+                        && bid.getBidder().equals(bidder) && bid.getBidTime().withNano(0).equals(bidTime.withNano(0))) {
+                    ids[i] = rs.getLong("id");
+                    break;
+                }
+            }
+        }, args);
+        return ids;
+    }
+
+    // 사용자별 입찰 내역 한 페이지 (bid_time, id 내림차순 keyset)
+    public List<BidDto> findByUserIdPage(Long userId, LocalDateTime beforeTime, Long beforeId, int limit) {
+        String columns = "SELECT id, auction_id, bidder, bid_amount, bid_time, created_at FROM bids ";
+        if (beforeTime == null) {
+            return jdbcTemplate.query(columns + "WHERE bidder = ? ORDER BY bid_time DESC, id DESC LIMIT ?",
+                this::mapBid, userId, limit);
+        }
+        Timestamp before = Timestamp.valueOf(beforeTime);
+        return jdbcTemplate.query(columns +
+            "WHERE bidder = ? AND (bid_time < ? OR (bid_time = ? AND id < ?)) ORDER BY bid_time DESC, id DESC LIMIT ?",
+            this::mapBid, userId, before, before, beforeId, limit);
+    }
+
+    // 경매별 입찰 내역 한 페이지 (bid_amount, id 내림차순 keyset)
+    public List<BidDto> findByAuctionIdPage(Long auctionId, Long beforeAmount, Long beforeId, int limit) {
+        String columns = "SELECT id, auction_id, bidder, bid_amount, bid_time, created_at FROM bids ";
+        if (beforeAmount == null) {
+            return jdbcTemplate.query(columns + "WHERE auction_id = ? ORDER BY bid_amount DESC, id DESC LIMIT ?",
+                this::mapBid, auctionId, limit);
+        }
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        return jdbcTemplate.query(columns +
+            "WHERE auction_id = ? AND (bid_amount < ? OR (bid_amount = ? AND id < ?)) " +
+            "ORDER BY bid_amount DESC, id DESC LIMIT ?",
+            this::mapBid, auctionId, beforeAmount, beforeAmount, before, limit);
+    }
+
+    // 특정 시점까지의 경매별 입찰 내역 (bid_amount, id 내림차순)
+    public List<BidDto> findByAuctionIdAt(Long auctionId, LocalDateTime at) {
+        String columns = "SELECT id, auction_id, bidder, bid_amount, bid_time, created_at FROM bids ";
+        if (at == null) {
+            return jdbcTemplate.query(columns + "WHERE auction_id = ? ORDER BY bid_amount DESC, id DESC",
+                this::mapBid, auctionId);
+        }
+        return jdbcTemplate.query(columns + "WHERE auction_id = ? AND bid_time <= ? ORDER BY bid_amount DESC, id DESC",
+            this::mapBid, auctionId, Timestamp.valueOf(at));
+    }
+
+    // 경매별 입찰 수 (입찰 로그 완결성 확인용)
+    public Map<Long, Long> countByAuction() {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT auction_id, COUNT(*) AS bid_count FROM bids GROUP BY auction_id",
+            rs -> {
+                counts.put(rs.getLong("auction_id"), rs.getLong("bid_count"));
+            });
+        return counts;
+    }
+
+    // 경매별 입찰 내역 스트리밍 (bid_amount, id 내림차순)
+    public void streamByAuctionId(Long auctionId, BidRowCallback callback) {
+        stream("SELECT id, auction_id, bidder, bid_amount, bid_time FROM bids WHERE auction_id = ? " +
+               "ORDER BY bid_amount DESC, id DESC", callback, auctionId);
+    }
+
+    // 사용자별 입찰 내역 스트리밍 (bid_time, id 내림차순)
+    public void streamByUserId(Long userId, BidRowCallback callback) {
+        stream("SELECT id, auction_id, bidder, bid_amount, bid_time FROM bids WHERE bidder = ? " +
+               "ORDER BY bid_time DESC, id DESC", callback, userId);
+    }
+
+    private BidDto mapBid(ResultSet rs, int rowNum) throws SQLException {
+        BidDto bid = new BidDto();
+        bid.setId(rs.getLong("id"));
+        bid.setAuctionId(rs.getLong("auction_id"));
+        bid.setBidder(rs.getString("bidder"));
+        bid.setBidAmount(rs.getLong("bid_amount"));
+        bid.setBidTime(rs.getTimestamp("bid_time").toLocalDateTime());
+        bid.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        return bid;
     }
 
     public Long findHighestBidByAuctionId(Long auctionId) {
@@ -60,4 +199,40 @@ public class BidRepository {
         List<String> results = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getString("bidder"), auctionId);
         return results.isEmpty() ? null : results.get(0);
     }
+
+    // 마감 직전 입찰로 인한 종료 시각 연장 (더 늦은 시각으로만 갱신)
+    public void extendEndTime(Long auctionId, LocalDateTime endTime) {
+        String sql = "UPDATE auction SET end_time = ? WHERE id = ? AND is_closed = 0 AND end_time < ?";
+        jdbcTemplate.update(sql, endTime, auctionId, endTime);
+    }
+
+    // 경매별 입찰자 목록 (중복 제거)
+    public List<String> findBiddersByAuctionId(Long auctionId) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT bidder FROM bids WHERE auction_id = ?", String.class, auctionId);
+    }
+
+    // afterId 이후의 입찰을 id 순으로 스트리밍 (입찰 로그 따라잡기용)
+    public void streamAfterId(long afterId, BidRowCallback callback) {
+        stream("SELECT id, auction_id, bidder, bid_amount, bid_time FROM bids WHERE id > ? ORDER BY id", callback, afterId);
+    }
+
+    // 결과를 힙에 모으지 않고 고정 fetch size 로 한 행씩 넘긴다
+    private void stream(String sql, BidRowCallback callback, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, rs -> {
+            callback.accept(rs.getLong("id"), rs.getLong("auction_id"), rs.getString("bidder"), rs.getLong("bid_amount"),
+                rs.getTimestamp("bid_time").toLocalDateTime());
+        });
+    }
+
+    @FunctionalInterface
+    public interface BidRowCallback {
+        void accept(long id, long auctionId, String bidder, long amount, LocalDateTime bidTime);
+    }
 }
@@ -1,8 +1,11 @@
 package com.auction.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.auction.mapper.AuctionRowMapper;
 import com.auction.dto.AuctionDto;
 
@@ -15,9 +18,84 @@ public class CustomAuctionRepository {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    // 판매자 닉네임까지 한 번의 조인으로 읽는다 (경매마다 users 를 따로 조회하지 않음)
+    private static final String SELECT_WITH_SELLER =
+        "SELECT a.*, u.username as seller FROM auction a LEFT JOIN users u ON a.user_id = u.id ";
+
+    private static final AuctionRowMapper ROW_MAPPER = new AuctionRowMapper();
+
     public List<AuctionDto> findByUserId(String userId) {
-        String sql = "SELECT a.*, u.username as seller FROM auction a LEFT JOIN users u ON a.user_id = u.id WHERE a.user_id = ?";
-        return jdbcTemplate.query(sql, new Object[] { userId }, new AuctionRowMapper());
+        String sql = SELECT_WITH_SELLER + "WHERE a.user_id = ?";
+        return jdbcTemplate.query(sql, ROW_MAPPER, userId);
+    }
+
+    public List<AuctionDto> findAllWithSeller() {
+        return jdbcTemplate.query(SELECT_WITH_SELLER, ROW_MAPPER);
+    }
+
+    // 진행 중인 최신 경매 limit 건 (is_closed, created_at, id 인덱스 순서로 읽고 바로 멈춤)
+    public List<AuctionDto> findLatestOpenWithSeller(int limit) {
+        String sql = SELECT_WITH_SELLER + "WHERE a.is_closed = 0 ORDER BY a.created_at DESC, a.id DESC LIMIT ?";
+        return jdbcTemplate.query(sql, ROW_MAPPER, limit);
+    }
+
+    // 진행 중인 경매 ID (is_closed 로 시작하는 복합 인덱스만 읽음)
+    public List<Long> findOpenIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM auction WHERE is_closed = 0", Long.class);
+    }
+
+    // 진행 중인 경매만 한 번의 IN 조회로 (순서는 보장하지 않음)
+    public List<AuctionDto> findOpenByIdsWithSeller(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        String sql = SELECT_WITH_SELLER + "WHERE a.id IN (" + placeholders + ") AND a.is_closed = 0";
+        return jdbcTemplate.query(sql, ROW_MAPPER, ids.toArray());
+    }
+
+    public AuctionDto findByIdWithSeller(Long id) {
+        List<AuctionDto> rows = jdbcTemplate.query(SELECT_WITH_SELLER + "WHERE a.id = ?", ROW_MAPPER, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // 조회수/입찰수 증가분 반영 ({증가분, 경매 ID} 배열). 두 배치를 한 트랜잭션으로 묶어 재시도 시 중복 반영을 막는다
+    @Transactional
+    public void addCounts(List<Object[]> viewDeltas, List<Object[]> bidDeltas) {
+        if (!viewDeltas.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE auction SET view_count = view_count + ? WHERE id = ?", viewDeltas);
+        }
+        if (!bidDeltas.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE auction SET bid_count = bid_count + ? WHERE id = ?", bidDeltas);
+        }
+    }
+
+    // 판매자가 수정할 수 있는 항목만 갱신 (조회수/입찰수/최고가/종료 여부는 각자의 경로로만 바뀐다)
+    public int updateDetails(Long id, AuctionDto dto) {
+        String sql = "UPDATE auction SET title = ?, category = ?, status = ?, brand = ?, " +
+                     "image_url1 = ?, image_url2 = ?, image_url3 = ?, description = ?, " +
+                     "start_price = ?, buy_now_price = ?, bid_unit = ?, start_time = ?, end_time = ?, " +
+                     "min_bid_count = ?, auto_extend = ?, shipping_fee = ?, shipping_type = ?, location = ?, " +
+                     "updated_at = ? WHERE id = ?";
+        return jdbcTemplate.update(sql, dto.getTitle(), dto.getCategory(), dto.getStatus(), dto.getBrand(),
+            dto.getImageUrl1(), dto.getImageUrl2(), dto.getImageUrl3(), dto.getDescription(),
+            dto.getStartPrice(), dto.getBuyNowPrice(), dto.getBidUnit(), dto.getStartTime(), dto.getEndTime(),
+            dto.getMinBidCount(), dto.getAutoExtend(), dto.getShippingFee(), dto.getShippingType(), dto.getLocation(),
+            LocalDateTime.now(), id);
+    }
+
+    // 즉시구매 종료. 진행 중인 경매일 때만 갱신하므로 동시에 들어온 즉시구매/마감 중 하나만 성공한다
+    public boolean buyNow(Long id, String buyerId) {
+        String sql = "UPDATE auction SET highest_bid = COALESCE(buy_now_price, highest_bid), status = '종료', " +
+                     "is_closed = 1, winner = ?, updated_at = ? WHERE id = ? AND is_closed = 0";
+        return jdbcTemplate.update(sql, buyerId, LocalDateTime.now(), id) > 0;
+    }
+
+    // 수동 종료. 이미 정해진 낙찰자가 있으면 유지하고, 진행 중인 경매일 때만 갱신한다
+    public boolean close(Long id, String winner) {
+        String sql = "UPDATE auction SET is_closed = 1, status = '종료', winner = COALESCE(winner, ?), updated_at = ? " +
+                     "WHERE id = ? AND is_closed = 0";
+        return jdbcTemplate.update(sql, winner, LocalDateTime.now(), id) > 0;
     }
 
     public String getBuyerNickname(Long buyerId) {
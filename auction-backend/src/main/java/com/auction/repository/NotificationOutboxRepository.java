@@ -0,0 +1,105 @@
+package com.auction.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// 알림 부수 효과(WebSocket 전송/이메일) 아웃박스 (notification_outbox)
+@Repository
+public class NotificationOutboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 다중 행 INSERT 한 번에 넣을 최대 항목 수
+    private static final int INSERT_CHUNK = 500;
+
+    // args: channel, user_id, payload (호출한 쪽 트랜잭션에 포함된다)
+    // 항목마다 INSERT 하지 않고 다중 행 INSERT 로 묶어 왕복 횟수를 줄인다
+    public void insertAll(List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += INSERT_CHUNK) {
+            List<Object[]> chunk = args.subList(from, Math.min(args.size(), from + INSERT_CHUNK));
+            Object[] params = new Object[chunk.size() * 3];
+            int i = 0;
+            for (Object[] row : chunk) {
+                params[i++] = row[0];
+                params[i++] = row[1];
+                params[i++] = row[2];
+            }
+            jdbcTemplate.update("INSERT INTO notification_outbox (channel, user_id, payload) VALUES " +
+                String.join(",", Collections.nCopies(chunk.size(), "(?, ?, ?)")), params);
+        }
+    }
+
+    // 전송할 차례가 된 항목을 가져가고 lease 동안 다른 디스패처(다른 노드 포함)가 가져가지 못하게 미룬다
+    // 차례 판정과 lease 모두 DB 시각 기준이라 노드 간 시계 차이에 영향받지 않는다
+    @Transactional
+    public List<OutboxEntry> claimDue(int limit, long leaseSeconds) {
+        List<OutboxEntry> entries = jdbcTemplate.query(
+            "SELECT id, channel, user_id, payload, attempts FROM notification_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= NOW(3) ORDER BY next_attempt_at, id LIMIT ? " +
+            "FOR UPDATE SKIP LOCKED",
+            (rs, rowNum) -> new OutboxEntry(rs.getLong("id"), rs.getString("channel"), rs.getString("user_id"),
+                rs.getString("payload"), rs.getInt("attempts")),
+            limit);
+        if (entries.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+            args.add(new Object[] { leaseSeconds, entry.getId() });
+        }
+        jdbcTemplate.batchUpdate("UPDATE notification_outbox SET next_attempt_at = NOW(3) + INTERVAL ? SECOND WHERE id = ?", args);
+        return entries;
+    }
+
+    // 전송 완료된 항목 삭제
+    public void deleteAll(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            args.add(new Object[] { id });
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM notification_outbox WHERE id = ?", args);
+    }
+
+    // 실패 기록: args: attempts, 재시도까지 초(DB 시각 기준), status, last_error, id
+    public void markFailed(List<Object[]> args) {
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("UPDATE notification_outbox SET attempts = ?, next_attempt_at = NOW(3) + INTERVAL ? SECOND, " +
+                                 "status = ?, last_error = ? WHERE id = ?", args);
+    }
+
+    public static class OutboxEntry {
+        private final long id;
+        private final String channel;
+        private final String userId;
+        private final String payload;
+        private final int attempts;
+
+        public OutboxEntry(long id, String channel, String userId, String payload, int attempts) {
+            this.id = id;
+            this.channel = channel;
+            this.userId = userId;
+            this.payload = payload;
+            this.attempts = attempts;
+        }
+
+        public long getId() { return id; }
+        public String getChannel() { return channel; }
+        public String getUserId() { return userId; }
+        public String getPayload() { return payload; }
+        public int getAttempts() { return attempts; }
+    }
+}
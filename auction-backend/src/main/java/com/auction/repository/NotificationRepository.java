@@ -2,12 +2,19 @@ package com.auction.repository;
 
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.auction.dto.NotificationDto;
 import com.auction.entity.Notification;
@@ -37,6 +44,41 @@ public class NotificationRepository {
         );
     }
 
+    // 다중 행 INSERT 한 번에 넣을 최대 알림 수 (placeholder 8개 × 500)
+    private static final int INSERT_CHUNK = 500;
+
+    // 여러 알림을 다중 행 INSERT 로 한 번에 저장하고 생성된 id를 각 DTO에 채운다 (경매 일괄 마감 등)
+    // 드라이버 3.x 에는 rewriteBatchedStatements 가 없으므로 VALUES 를 직접 묶고, 키는 RETURNING 으로 받는다 (MariaDB 10.5+)
+    public void saveAll(List<NotificationDto> dtos) {
+        for (int from = 0; from < dtos.size(); from += INSERT_CHUNK) {
+            insertChunk(dtos.subList(from, Math.min(dtos.size(), from + INSERT_CHUNK)));
+        }
+    }
+
+    private void insertChunk(List<NotificationDto> chunk) {
+        String sql = "INSERT INTO notifications (auction_id, title, user_id, type, message, is_read, created_at, seller_id) VALUES " +
+                     String.join(",", Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?, ?, ?, ?)")) +
+                     " RETURNING id";
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = jdbcTemplate.query(sql, ps -> {
+            int i = 1;
+            for (NotificationDto dto : chunk) {
+                ps.setObject(i++, dto.getAuctionId());
+                ps.setString(i++, dto.getTitle());
+                ps.setString(i++, dto.getUserId());
+                ps.setString(i++, dto.getType());
+                ps.setString(i++, dto.getMessage());
+                ps.setInt(i++, dto.getIsRead());
+                ps.setTimestamp(i++, Timestamp.valueOf(dto.getCreatedAt() != null ? dto.getCreatedAt() : now));
+                ps.setObject(i++, dto.getSellerId());
+            }
+        }, (rs, rowNum) -> rs.getLong(1));
+        // RETURNING 은 VALUES 순서대로 행을 돌려준다
+        for (int i = 0; i < ids.size() && i < chunk.size(); i++) {
+            chunk.get(i).setId(ids.get(i));
+        }
+    }
+
     // ✅ Entity 기반 저장 + KeyHolder 반환
     public Notification save(Notification notification) {
         String sql = "INSERT INTO notifications (auction_id, title, user_id, type, message, is_read, created_at, seller_id) " +
@@ -76,8 +118,14 @@ public class NotificationRepository {
         jdbcTemplate.update("UPDATE notifications SET is_read = 1 WHERE id = ?", notificationId);
     }
 
-    public void markAllAsRead(String userId) {
-        jdbcTemplate.update("UPDATE notifications SET is_read = 1 WHERE user_id = ?", userId);
+    // 지금까지의 알림을 모두 읽음 처리하고 그 id 상한을 돌려준다 (알림함 캐시의 전체 읽음 기준)
+    public long markAllAsRead(String userId) {
+        Long upToId = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MAX(id), 0) FROM notifications WHERE user_id = ?", Long.class, userId);
+        // 이미 읽은 행은 건드리지 않는다 (idx_notifications_user_read 범위만 갱신)
+        jdbcTemplate.update("UPDATE notifications SET is_read = 1 WHERE user_id = ? AND is_read = 0 AND id <= ?",
+            userId, upToId);
+        return upToId;
     }
 
     public List<String> findBiddersByAuctionId(Long auctionId) {
@@ -86,25 +134,77 @@ public class NotificationRepository {
         );
     }
 
-    public List<Notification> findByUserId(String userId) {
-        String sql = "SELECT id, auction_id, title, user_id, type, message, is_read, created_at, seller_id " +
-                     "FROM notifications WHERE user_id = ? ORDER BY created_at DESC";
+    // 입찰 알림에 필요한 경매 제목/판매자를 한 번에 조회
+    public Map<Long, AuctionSummary> findAuctionSummaries(Collection<Long> auctionIds) {
+        Map<Long, AuctionSummary> summaries = new HashMap<>();
+        if (auctionIds.isEmpty()) {
+            return summaries;
+        }
+        String sql = "SELECT id, title, user_id FROM auction WHERE id IN (" +
+                     String.join(",", Collections.nCopies(auctionIds.size(), "?")) + ")";
+        jdbcTemplate.query(sql, rs -> {
+            long id = rs.getLong("id");
+            summaries.put(id, new AuctionSummary(id, rs.getString("title"),
+                rs.getObject("user_id") != null ? rs.getLong("user_id") : null));
+        }, auctionIds.toArray());
+        return summaries;
+    }
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            Notification notification = new Notification();
-            notification.setId(rs.getLong("id"));
-            notification.setAuctionId(rs.getLong("auction_id"));
-            notification.setTitle(rs.getString("title"));
-            notification.setUserId(rs.getString("user_id"));
-            notification.setType(rs.getString("type"));
-            notification.setMessage(rs.getString("message"));
-            notification.setIsRead(rs.getInt("is_read"));
-            notification.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-            notification.setSellerId(rs.getObject("seller_id") != null ? rs.getLong("seller_id") : null);
-            return notification;
-        }, userId);
+    // 사용자 알림 한 페이지 ((created_at, id) 내림차순 keyset, 커서가 null 이면 최신부터)
+    // idx_notifications_user_created(user_id, created_at, id) 범위 조회로 limit 건만 읽는다
+    public List<Notification> findPageByUserId(String userId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        String select = "SELECT id, auction_id, title, user_id, type, message, is_read, created_at, seller_id " +
+                        "FROM notifications ";
+        if (beforeCreatedAt == null || beforeId == null) {
+            return jdbcTemplate.query(select + "WHERE user_id = ? ORDER BY created_at DESC, id DESC LIMIT ?",
+                NOTIFICATION_ROW_MAPPER, userId, limit);
+        }
+        Timestamp before = Timestamp.valueOf(beforeCreatedAt);
+        return jdbcTemplate.query(select +
+            "WHERE user_id = ? AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?",
+            NOTIFICATION_ROW_MAPPER, userId, before, before, beforeId, limit);
     }
 
+    // keyset 커서로 쓸 알림의 생성 시각 (없으면 null)
+    public LocalDateTime findCreatedAt(Long id) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+            "SELECT created_at FROM notifications WHERE id = ?", Timestamp.class, id);
+        return rows.isEmpty() || rows.get(0) == null ? null : rows.get(0).toLocalDateTime();
+    }
+
+    // cutoff 이전에 생성된 알림을 보관 테이블로 최대 limit 건 옮기고 옮긴 건수를 반환
+    @Transactional
+    public int archiveBefore(LocalDateTime cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM notifications WHERE created_at < ? ORDER BY created_at, id LIMIT ? FOR UPDATE",
+            Long.class, Timestamp.valueOf(cutoff), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        jdbcTemplate.update(
+            "INSERT INTO notifications_archive (id, auction_id, title, user_id, type, message, is_read, created_at, seller_id) " +
+            "SELECT id, auction_id, title, user_id, type, message, is_read, created_at, seller_id " +
+            "FROM notifications WHERE id IN (" + in + ")", args);
+        return jdbcTemplate.update("DELETE FROM notifications WHERE id IN (" + in + ")", args);
+    }
+
+    private static final RowMapper<Notification> NOTIFICATION_ROW_MAPPER = (rs, rowNum) -> {
+        Notification notification = new Notification();
+        notification.setId(rs.getLong("id"));
+        notification.setAuctionId(rs.getLong("auction_id"));
+        notification.setTitle(rs.getString("title"));
+        notification.setUserId(rs.getString("user_id"));
+        notification.setType(rs.getString("type"));
+        notification.setMessage(rs.getString("message"));
+        notification.setIsRead(rs.getInt("is_read"));
+        notification.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        notification.setSellerId(rs.getObject("seller_id") != null ? rs.getLong("seller_id") : null);
+        return notification;
+    };
+
     public List<Notification> findSeller(Long id) {
         String sql = "SELECT a.user_id as seller_id, n.* FROM notifications n " +
                      "JOIN auctions a ON n.auction_id = a.id WHERE seller_id = ?";
@@ -144,4 +244,21 @@ public class NotificationRepository {
             return null;
         }
     }
+
+    // 알림 메시지용 경매 요약
+    public static class AuctionSummary {
+        private final Long id;
+        private final String title;
+        private final Long sellerId;
+
+        public AuctionSummary(Long id, String title, Long sellerId) {
+            this.id = id;
+            this.title = title;
+            this.sellerId = sellerId;
+        }
+
+        public Long getId() { return id; }
+        public String getTitle() { return title; }
+        public Long getSellerId() { return sellerId; }
+    }
 }
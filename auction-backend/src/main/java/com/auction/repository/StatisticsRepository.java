@@ -0,0 +1,29 @@
+package com.auction.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class StatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatisticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 경매별 입찰 집계 일괄 저장 (args: bid_count, unique_bidders, total_amount, min_bid, max_bid, auction_id)
+    // 삭제된 경매는 SELECT 결과가 없어 건너뛴다
+    public void upsertBidStats(List<Object[]> args) {
+        if (args.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO statistics (auction_id, bid_count, unique_bidders, total_amount, min_bid, max_bid) " +
+                     "SELECT id, ?, ?, ?, ?, ? FROM auction WHERE id = ? " +
+                     "ON DUPLICATE KEY UPDATE bid_count = VALUES(bid_count), unique_bidders = VALUES(unique_bidders), " +
+                     "total_amount = VALUES(total_amount), min_bid = VALUES(min_bid), max_bid = VALUES(max_bid)";
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+}
@@ -0,0 +1,141 @@
+package com.auction.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.AuctionDeltaDto;
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.entity.Auction;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매별 실시간 업데이트 전송.
+ * 입찰이 반영될 때마다 해당 경매 토픽(/topic/auctions/{id})에만 변경분(가격/선두/입찰 수/종료 시각/sequence)을 보낸다.
+ * 입찰은 tick 동안 경매별로 모아 최신 상태 하나와 중간 입찰 수만 보내므로, 전송 횟수는 입찰 수가 아니라 tick 에 비례한다.
+ * 마지막으로 보낸 변경분을 경매별로 보관해 두고, sequence 가 비는 클라이언트에게 스냅샷으로 돌려준다.
+ * 입찰/마감은 이벤트 버스로 받으므로 다른 노드에서 들어온 입찰도 이 노드의 구독자에게 전달된다.
+ */
+@Component
+public class AuctionBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionBroadcaster.class);
+
+    public static final String TOPIC_PREFIX = "/topic/auctions/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketFanOut webSocketFanOut;
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, AuctionDeltaDto> latest = new ConcurrentHashMap<>();
+    // 다음 tick 에 보낼 경매별 최신 변경분
+    private final Map<Long, AuctionDeltaDto> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+
+    public AuctionBroadcaster(SimpMessagingTemplate messagingTemplate,
+                              WebSocketFanOut webSocketFanOut,
+                              AuctionEventBus auctionEventBus,
+                              AuctionRepository auctionRepository,
+                              BidRepository bidRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${auction.broadcast.tick-ms:50}") long tickMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.webSocketFanOut = webSocketFanOut;
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.objectMapper = objectMapper;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::flush, tickMs, tickMs, TimeUnit.MILLISECONDS);
+
+        auctionEventBus.subscribe(AuctionEventBus.BID_ACCEPTED, BidAcceptedEvent.class, this::onBidAccepted);
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class,
+            (event, local) -> latest.remove(event.getAuctionId()));
+    }
+
+    // 입찰 반영 순서대로 호출된다 (전송은 다음 tick 에서)
+    private void onBidAccepted(BidAcceptedEvent event, boolean local) {
+        AuctionDeltaDto delta = new AuctionDeltaDto(event.getAuctionId(), event.getAmount(),
+            event.getBidder(), event.getBidCount(), event.getEndTime(), event.getSequence());
+        if (!webSocketFanOut.shouldSend(local)) {
+            // 공유 브로커에서는 발행한 노드가 전송하므로 스냅샷용 상태만 맞춘다
+            latest.put(event.getAuctionId(), delta);
+            return;
+        }
+        pending.merge(event.getAuctionId(), delta, (previous, next) -> {
+            // 아직 전송되지 않은 이전 변경분은 중간 입찰로 센다
+            next.setIntermediateBids(previous.getIntermediateBids() + 1);
+            return next;
+        });
+    }
+
+    // tick 마다 모인 변경분을 경매별로 한 번씩 전송
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<AuctionDeltaDto> deltas = new ArrayList<>(pending.size());
+        for (Long auctionId : pending.keySet()) {
+            AuctionDeltaDto delta = pending.remove(auctionId);
+            if (delta != null) {
+                deltas.add(delta);
+            }
+        }
+        for (AuctionDeltaDto delta : deltas) {
+            latest.put(delta.getAuctionId(), delta);
+            try {
+                // 한 번 직렬화한 바이트를 구독자 전원에게 그대로 보낸다
+                Message<byte[]> message = MessageBuilder.withPayload(objectMapper.writeValueAsBytes(delta))
+                    .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                    .build();
+                messagingTemplate.send(TOPIC_PREFIX + delta.getAuctionId(), message);
+            } catch (Exception e) {
+                logger.error("경매 업데이트 전송 실패 - auctionId: {}", delta.getAuctionId(), e);
+            }
+        }
+    }
+
+    // 현재 상태 스냅샷 (재시작 후 아직 입찰이 없던 경매는 DB 기준)
+    public AuctionDeltaDto snapshot(Long auctionId) {
+        AuctionDeltaDto delta = latest.get(auctionId);
+        if (delta != null) {
+            return delta;
+        }
+        Auction auction = auctionRepository.findById(auctionId)
+            .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다. ID: " + auctionId));
+        long price = auction.getHighestBid() != null ? auction.getHighestBid() : 0L;
+        int bidCount = auction.getBidCount() != null ? auction.getBidCount() : 0;
+        // 엔진은 로드 시 sequence 를 bid_count 로 맞추므로 이후 변경분과 이어진다
+        return new AuctionDeltaDto(auctionId, price, bidRepository.findTopBidderByAuctionId(auctionId),
+            bidCount, auction.getEndTime(), (long) bidCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,107 @@
+package com.auction.service;
+
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.AuctionDto;
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.util.LruTtlCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 경매 상세(AuctionDto) read-through 캐시.
+ * 조회 시 없으면 DB에서 읽어 채우고, 입찰 반영 시 가격/입찰 수/종료 시각을 바로 고치며,
+ * 마감(즉시구매/종료/일괄 마감)은 이벤트 버스로 받아 무효화한다. 다른 노드의 변경도 이벤트로 반영된다.
+ * 적중/미적중/제거 횟수는 auction.cache.* 메트릭으로 Actuator 에 노출한다.
+ */
+@Component
+public class AuctionCache {
+
+    private final LruTtlCache<Long, AuctionDto> cache;
+
+    public AuctionCache(AuctionEventBus auctionEventBus,
+                        MeterRegistry meterRegistry,
+                        @Value("${auction.cache.auction.max-size:10000}") int maxSize,
+                        @Value("${auction.cache.auction.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000);
+
+        FunctionCounter.builder("auction.cache.requests", cache, LruTtlCache::hitCount)
+            .tag("cache", "auction").tag("result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder("auction.cache.requests", cache, LruTtlCache::missCount)
+            .tag("cache", "auction").tag("result", "miss")
+            .register(meterRegistry);
+        FunctionCounter.builder("auction.cache.evictions", cache, LruTtlCache::evictionCount)
+            .tag("cache", "auction")
+            .register(meterRegistry);
+        Gauge.builder("auction.cache.size", cache, LruTtlCache::size)
+            .tag("cache", "auction")
+            .register(meterRegistry);
+
+        auctionEventBus.subscribe(AuctionEventBus.BID_ACCEPTED, BidAcceptedEvent.class, (event, local) -> onBidAccepted(event));
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class,
+            (event, local) -> cache.invalidate(event.getAuctionId()));
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CHANGED, AuctionChangedEvent.class,
+            (event, local) -> cache.invalidate(event.getAuctionId()));
+    }
+
+    // 캐시에 없으면 loader 로 읽어 채운다 (없는 경매는 캐시하지 않음). 반환값은 복사본
+    public AuctionDto get(Long id, Function<Long, AuctionDto> loader) {
+        AuctionDto cached = cache.get(id);
+        if (cached != null) {
+            return cached.copy();
+        }
+        long stamp = cache.stamp(id);
+        AuctionDto loaded = loader.apply(id);
+        if (loaded == null) {
+            return null;
+        }
+        // 읽는 동안 입찰/수정이 반영되었으면 넣지 않는다 (다음 조회에서 다시 읽음)
+        cache.putIfUnchanged(id, loaded.copy(), stamp);
+        return loaded;
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    // 반영된 조회수/입찰수 증가분을 캐시된 경매에 더한다 (캐시에 없으면 다음 조회 때 DB 값을 읽음)
+    public void addCounts(Long id, long views, long bids) {
+        cache.update(id, cached -> {
+            AuctionDto updated = cached.copy();
+            if (views != 0) {
+                updated.setViewCount((cached.getViewCount() != null ? cached.getViewCount() : 0) + (int) views);
+            }
+            if (bids != 0) {
+                updated.setBidCount((cached.getBidCount() != null ? cached.getBidCount() : 0) + (int) bids);
+            }
+            return updated;
+        });
+    }
+
+    private void onBidAccepted(BidAcceptedEvent event) {
+        cache.update(event.getAuctionId(), cached -> {
+            if (cached.getBidCount() != null && event.getBidCount() != null
+                    && cached.getBidCount() >= event.getBidCount()) {
+                // 이미 반영된 입찰
+                return cached;
+            }
+            AuctionDto updated = cached.copy();
+            updated.setHighestBid(event.getAmount().intValue());
+            updated.setCurrentPrice(event.getAmount());
+            updated.setBidCount(event.getBidCount());
+            if (event.getEndTime() != null) {
+                updated.setEndTime(event.getEndTime());
+                updated.setEndAt(event.getEndTime());
+            }
+            return updated;
+        });
+    }
+}
@@ -0,0 +1,219 @@
+package com.auction.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.NotificationDto;
+import com.auction.entity.NotificationType;
+import com.auction.repository.AuctionCloseRepository;
+import com.auction.repository.AuctionCloseRepository.ClosingAuction;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매 일괄 마감 파이프라인.
+ * 마감 시각이 된 경매 id를 큐에 모았다가 batch 단위로 꺼내
+ * 낙찰자 조회 → 경매 일괄 종료 → 낙찰/패찰/판매 알림과 알림 아웃박스 일괄 저장 → 마감 이벤트 기록을 한 트랜잭션으로 처리한다.
+ * 낙찰자를 정하기 전에 이 노드가 수락한 해당 경매 입찰이 원장에서 모두 DB에 반영되기를 기다린다.
+ */
+@Component
+public class AuctionClosePipeline {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionClosePipeline.class);
+
+    private final AuctionCloseRepository auctionCloseRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final AuctionEventBus auctionEventBus;
+    private final AuctionCloseScheduler auctionCloseScheduler;
+    private final BidEngine bidEngine;
+    private final int batchSize;
+    private final long commitWaitMs;
+
+    private final BlockingQueue<Long> dueQueue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public AuctionClosePipeline(AuctionCloseRepository auctionCloseRepository,
+                                NotificationOutbox notificationOutbox,
+                                TransactionTemplate transactionTemplate,
+                                AuctionEventBus auctionEventBus,
+                                @Lazy AuctionCloseScheduler auctionCloseScheduler,
+                                BidEngine bidEngine,
+                                @Value("${auction.close.batch-size:500}") int batchSize,
+                                @Value("${auction.close.commit-wait-ms:3000}") long commitWaitMs) {
+        this.auctionCloseRepository = auctionCloseRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.auctionEventBus = auctionEventBus;
+        this.auctionCloseScheduler = auctionCloseScheduler;
+        this.bidEngine = bidEngine;
+        this.batchSize = batchSize;
+        this.commitWaitMs = commitWaitMs;
+        this.worker = new Thread(this::run, "auction-close");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // 마감 시각이 된 경매 등록 (타이밍 휠 워커에서 호출되므로 바로 반환)
+    public void enqueue(Long auctionId) {
+        dueQueue.offer(auctionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Long first = dueQueue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                dueQueue.drainTo(batch, batchSize - 1);
+                closeBatch(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (Exception e) {
+                logger.error("경매 일괄 마감 실패 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void closeBatch(List<Long> ids) {
+        long started = System.currentTimeMillis();
+        List<NotificationDto> notifications = new ArrayList<>();
+
+        // 원장에 남은 입찰이 반영되기 전에 마감하면 더 높은 입찰이 낙찰자에서 빠지고 조건부 갱신에서 거절된다
+        if (!bidEngine.awaitCommitted(ids, commitWaitMs)) {
+            LocalDateTime retryAt = LocalDateTime.now().plusSeconds(1);
+            for (Long id : ids) {
+                auctionCloseScheduler.schedule(id, retryAt);
+            }
+            logger.warn("입찰 반영 대기 시간 초과로 마감을 미룸 - {}건", ids.size());
+            return;
+        }
+
+        List<ClosingAuction> closed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ClosingAuction> due = new ArrayList<>(ids.size());
+            for (ClosingAuction auction : auctionCloseRepository.findOpenByIds(ids)) {
+                if (auction.getEndTime() != null && auction.getEndTime().isAfter(now)) {
+                    // 그 사이에 종료 시각이 연장됨
+                    auctionCloseScheduler.schedule(auction.getId(), auction.getEndTime());
+                } else {
+                    due.add(auction);
+                }
+            }
+            if (due.isEmpty()) {
+                return Collections.<ClosingAuction>emptyList();
+            }
+
+            List<Long> dueIds = new ArrayList<>(due.size());
+            for (ClosingAuction auction : due) {
+                dueIds.add(auction.getId());
+            }
+            Map<Long, String> winners = auctionCloseRepository.findWinners(dueIds);
+            for (ClosingAuction auction : due) {
+                if (auction.getWinner() == null) {
+                    auction.setWinner(winners.get(auction.getId()));
+                }
+            }
+
+            List<ClosingAuction> result = auctionCloseRepository.closeAll(due);
+            Map<Long, List<String>> bidders = auctionCloseRepository.findBidders(dueIds);
+            for (ClosingAuction auction : result) {
+                buildNotifications(auction, bidders.getOrDefault(auction.getId(), Collections.emptyList()), notifications);
+            }
+            // 실시간 전송/이메일은 커밋된 아웃박스에서 디스패처가 처리
+            notificationOutbox.write(notifications);
+            // 마감 이벤트도 같은 트랜잭션에 기록 (메모리 상태 정리는 커밋 후 구독자가 모든 노드에서 처리)
+            for (ClosingAuction auction : result) {
+                auctionEventBus.publish(AuctionEventBus.AUCTION_CLOSED, new AuctionClosedEvent(auction.getId(), auction.getWinner()));
+            }
+            return result;
+        });
+
+        if (closed == null || closed.isEmpty()) {
+            return;
+        }
+        logger.info("경매 일괄 마감 - {}건 종료, 알림 {}건, {}ms",
+            closed.size(), notifications.size(), System.currentTimeMillis() - started);
+    }
+
+    // 낙찰자가 있는 경매만 알림: 입찰자에게 낙찰/패찰, 판매자에게 판매 완료
+    private void buildNotifications(ClosingAuction auction, List<String> bidders, List<NotificationDto> out) {
+        String winner = auction.getWinner();
+        if (winner == null) {
+            return;
+        }
+        String title = auction.getTitle();
+        Long sellerId = auction.getSellerId();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (String bidder : bidders) {
+            boolean won = bidder.equals(winner);
+            out.add(NotificationDto.builder()
+                .auctionId(auction.getId())
+                .title(won ? "낙찰 알림" : "패찰 알림")
+                .userId(bidder)
+                .type(won ? NotificationType.WIN.name() : NotificationType.LOSE.name())
+                .message(won
+                    ? String.format("🏆 '%s' 경매에서 낙찰되었습니다!", title)
+                    : String.format("😢 '%s' 경매에서 패찰되었습니다. 낙찰자: %s", title, winner))
+                .sellerId(sellerId)
+                .createdAt(now)
+                .build());
+        }
+        if (!bidders.contains(winner)) {
+            // 즉시구매 등으로 bids 에 없는 낙찰자
+            out.add(NotificationDto.builder()
+                .auctionId(auction.getId())
+                .title("낙찰 알림")
+                .userId(winner)
+                .type(NotificationType.WIN.name())
+                .message(String.format("🏆 '%s' 경매에서 낙찰되었습니다!", title))
+                .sellerId(sellerId)
+                .createdAt(now)
+                .build());
+        }
+        if (sellerId != null && !String.valueOf(sellerId).equals(winner)) {
+            out.add(NotificationDto.builder()
+                .auctionId(auction.getId())
+                .title("판매 완료")
+                .userId(String.valueOf(sellerId))
+                .type(NotificationType.SOLD.name())
+                .message(String.format("📦 '%s' 경매가 마감되었습니다. 낙찰자: %s", title, winner))
+                .sellerId(sellerId)
+                .createdAt(now)
+                .build());
+        }
+    }
+}
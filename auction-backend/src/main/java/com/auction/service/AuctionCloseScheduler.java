@@ -0,0 +1,106 @@
+package com.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.util.HashedTimingWheel;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매 마감 스케줄러.
+ * 시작 시 진행 중인 경매의 end_time을 타이밍 휠에 적재하고, 마감 시각이 되면 마감 파이프라인으로 넘긴다.
+ * 마감 직전 입찰로 종료 시각이 연장되면 예약을 다시 건다.
+ */
+@Component
+public class AuctionCloseScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionCloseScheduler.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<Long> wheel;
+
+    public AuctionCloseScheduler(JdbcTemplate jdbcTemplate,
+                                 AuctionClosePipeline auctionClosePipeline,
+                                 AuctionEventBus auctionEventBus,
+                                 @Value("${auction.close.tick-ms:100}") long tickMs,
+                                 @Value("${auction.close.wheel-size:1024}") int wheelSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 휠 워커는 마감 처리를 넘기기만 하고, 실제 종료(DB/알림)는 파이프라인에서 일괄 처리
+        this.wheel = new HashedTimingWheel<>("auction-close-wheel", tickMs, TimeUnit.MILLISECONDS, wheelSize,
+            auctionId -> {
+                timeouts.computeIfPresent(auctionId, (id, timeout) -> timeout.isExpired() ? null : timeout);
+                auctionClosePipeline.enqueue(auctionId);
+            });
+
+        // 마감 연장된 입찰이면 예약을 새 종료 시각으로 옮긴다
+        // (다른 노드에서 연장된 경우도 포함)
+        auctionEventBus.subscribe(AuctionEventBus.BID_ACCEPTED, BidAcceptedEvent.class, (event, local) -> {
+            if (event.isExtended()) {
+                schedule(event.getAuctionId(), event.getEndTime());
+            }
+        });
+        // 다른 경로(즉시구매/수동 종료/다른 노드의 마감)로 끝난 경매는 예약 해제
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class,
+            (event, local) -> cancel(event.getAuctionId()));
+        // 등록/수정된 경매는 (새) 종료 시각으로 예약하고, 삭제되었거나 종료 상태로 바뀐 경매는 해제
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CHANGED, AuctionChangedEvent.class, (event, local) -> {
+            if (event.isOpen()) {
+                schedule(event.getAuctionId(), event.getEndTime());
+            } else {
+                cancel(event.getAuctionId());
+            }
+        });
+    }
+
+    // 시작 시 진행 중인 모든 경매를 적재 (DB 폴링 없이 이후에는 휠만 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOpenAuctions() {
+        String sql = "SELECT id, end_time FROM auction WHERE is_closed = 0 AND end_time IS NOT NULL";
+        jdbcTemplate.query(sql, rs -> {
+            schedule(rs.getLong("id"), rs.getTimestamp("end_time").toLocalDateTime());
+        });
+        logger.info("경매 마감 예약 적재 완료 - {}건", wheel.pendingCount());
+    }
+
+    // 마감 예약 (이미 예약되어 있으면 교체)
+    public void schedule(Long auctionId, LocalDateTime endTime) {
+        if (auctionId == null || endTime == null) {
+            return;
+        }
+        long delayMs = Duration.between(LocalDateTime.now(), endTime).toMillis();
+        HashedTimingWheel.Timeout<Long> previous =
+            timeouts.put(auctionId, wheel.schedule(auctionId, delayMs, TimeUnit.MILLISECONDS));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    // 마감 예약 취소 (수동 종료, 즉시구매, 삭제)
+    public void cancel(Long auctionId) {
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(auctionId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+    }
+}
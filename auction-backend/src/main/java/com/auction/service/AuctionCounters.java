@@ -0,0 +1,166 @@
+package com.auction.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.AuctionDto;
+import com.auction.repository.CustomAuctionRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매별 조회수/입찰수 누적기.
+ * 증가는 경매별 LongAdder 에만 더하고(락 없음), 주기적으로 쌓인 증가분만
+ * UPDATE auction SET view_count = view_count + ? 배치 한 번으로 반영한다.
+ * 아직 반영되지 않은 증가분은 조회 응답에 더해 바로 보이게 한다.
+ * 반영한 증가분은 DB와 캐시에 더한 뒤에야 누적기에서 빼므로 응답의 값이 잠깐 줄어 보이지 않는다
+ * (DB 커밋과 차감 사이의 짧은 순간에는 증가분이 두 번 더해져 보일 수 있다).
+ */
+@Component
+public class AuctionCounters {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionCounters.class);
+
+    private final CustomAuctionRepository customAuctionRepository;
+    private final AuctionCache auctionCache;
+
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> bids = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public AuctionCounters(CustomAuctionRepository customAuctionRepository,
+                           AuctionCache auctionCache,
+                           @Value("${auction.counters.flush-ms:3000}") long flushMs) {
+        this.customAuctionRepository = customAuctionRepository;
+        this.auctionCache = auctionCache;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-counters-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushMs, flushMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void incrementView(Long auctionId) {
+        increment(views, auctionId);
+    }
+
+    public void incrementBid(Long auctionId) {
+        increment(bids, auctionId);
+    }
+
+    // DB/캐시 값에 아직 반영되지 않은 증가분을 더한다
+    public AuctionDto applyPending(AuctionDto dto) {
+        if (dto == null || dto.getId() == null) {
+            return dto;
+        }
+        long pendingViews = pending(views, dto.getId());
+        if (pendingViews > 0) {
+            dto.setViewCount((dto.getViewCount() != null ? dto.getViewCount() : 0) + (int) pendingViews);
+        }
+        long pendingBids = pending(bids, dto.getId());
+        if (pendingBids > 0) {
+            dto.setBidCount((dto.getBidCount() != null ? dto.getBidCount() : 0) + (int) pendingBids);
+        }
+        return dto;
+    }
+
+    public List<AuctionDto> applyPending(List<AuctionDto> dtos) {
+        if (views.isEmpty() && bids.isEmpty()) {
+            return dtos;
+        }
+        for (AuctionDto dto : dtos) {
+            applyPending(dto);
+        }
+        return dtos;
+    }
+
+    // 쌓인 증가분을 DB에 반영하고 캐시된 경매에도 더한 뒤 누적기에서 뺀다
+    public synchronized void flush() {
+        Map<Long, Long> viewDeltas = collect(views);
+        Map<Long, Long> bidDeltas = collect(bids);
+        if (viewDeltas.isEmpty() && bidDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            customAuctionRepository.addCounts(toArgs(viewDeltas), toArgs(bidDeltas));
+        } catch (Exception e) {
+            // 누적기는 그대로이므로 다음 주기에 다시 반영
+            logger.error("조회수/입찰수 반영 실패 - 조회 {}건, 입찰 {}건", viewDeltas.size(), bidDeltas.size(), e);
+            return;
+        }
+        viewDeltas.forEach((id, delta) -> auctionCache.addCounts(id, delta, 0));
+        bidDeltas.forEach((id, delta) -> auctionCache.addCounts(id, 0, delta));
+        subtract(views, viewDeltas);
+        subtract(bids, bidDeltas);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private static void increment(Map<Long, LongAdder> counters, Long auctionId) {
+        LongAdder adder = adder(counters, auctionId);
+        adder.increment();
+        if (counters.get(auctionId) != adder) {
+            // 증가하는 사이에 flush 가 이 누적기를 정리했으면 남은 값을 새 누적기로 옮긴다
+            moveDetached(counters, auctionId, adder);
+        }
+    }
+
+    private static LongAdder adder(Map<Long, LongAdder> counters, Long auctionId) {
+        return counters.computeIfAbsent(auctionId, id -> new LongAdder());
+    }
+
+    private static long pending(Map<Long, LongAdder> counters, Long auctionId) {
+        LongAdder adder = counters.get(auctionId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // 경매별 증가분을 읽는다 (빼는 것은 반영이 끝난 뒤). 이번 주기에 증가가 없던 경매는 맵에서 뺀다
+    private static Map<Long, Long> collect(Map<Long, LongAdder> counters) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (counters.remove(entry.getKey(), entry.getValue())) {
+                // 빼는 사이에 더해진 값은 새 누적기로 옮긴다 (sumThenReset 은 셀 단위 getAndSet 이라 한 번만 옮겨짐)
+                moveDetached(counters, entry.getKey(), entry.getValue());
+            }
+        }
+        return deltas;
+    }
+
+    // 반영한 만큼만 뺀다 (읽은 뒤에 더해진 증가분은 다음 주기로 남음)
+    // 0이 아닌 누적기는 flush 만 맵에서 빼므로 collect 이후에도 같은 누적기가 남아 있다
+    private static void subtract(Map<Long, LongAdder> counters, Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> counters.get(id).add(-delta));
+    }
+
+    private static void moveDetached(Map<Long, LongAdder> counters, Long auctionId, LongAdder detached) {
+        long late = detached.sumThenReset();
+        if (late != 0) {
+            adder(counters, auctionId).add(late);
+        }
+    }
+
+    private static List<Object[]> toArgs(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[] { delta, id }));
+        return args;
+    }
+}
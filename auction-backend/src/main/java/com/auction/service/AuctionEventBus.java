@@ -0,0 +1,29 @@
+package com.auction.service;
+
+/**
+ * 경매 이벤트 버스.
+ * 입찰 반영/경매 마감/경매 등록·수정·삭제/자동입찰 변경/알림 생성/알림 전체 읽음/채팅 메시지/내용 변경을 발행하고, 구독자는 이벤트가 이 노드에서 발행되었는지(local)와 함께 받는다.
+ * local 모드는 같은 프로세스 안에서만 전달하고, outbox 모드는 DB 아웃박스를 통해 다른 노드에도 전달한다.
+ */
+public interface AuctionEventBus {
+    String BID_ACCEPTED = "BID_ACCEPTED";
+    String AUCTION_CLOSED = "AUCTION_CLOSED";
+    String AUCTION_CHANGED = "AUCTION_CHANGED";
+    String AUTOBID_CHANGED = "AUTOBID_CHANGED";
+    String NOTIFICATION_CREATED = "NOTIFICATION_CREATED";
+    String NOTIFICATION_READ_ALL = "NOTIFICATION_READ_ALL";
+    String CHAT_MESSAGE_POSTED = "CHAT_MESSAGE_POSTED";
+    String CONTENT_CHANGED = "CONTENT_CHANGED";
+
+    // 발행한 노드의 구독자는 호출 스레드에서 받는다 (트랜잭션 안에서 발행하면 커밋된 뒤에, 롤백되면 전달하지 않음)
+    void publish(String type, Object payload);
+
+    // 한 이벤트 타입의 구독자는 모두 같은 payload 타입을 써야 한다
+    <T> void subscribe(String type, Class<T> payloadType, EventHandler<T> handler);
+
+    @FunctionalInterface
+    interface EventHandler<T> {
+        // local: 이 노드에서 발행한 이벤트이면 true, 다른 노드에서 전달된 이벤트이면 false
+        void handle(T payload, boolean local);
+    }
+}
@@ -0,0 +1,171 @@
+package com.auction.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.repository.CustomAuctionRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 진행 중인 경매 ID 표본 추출기.
+ * 진행 중인 경매 ID를 배열로 들고 있다가 Floyd 알고리즘으로 k개를 뽑으므로 경매 수와 무관하게 O(k)다.
+ * 등록/마감/삭제 시 바로 반영하고(마감은 이벤트 버스로 다른 노드 것도 받음),
+ * 다른 노드에서 등록된 경매는 주기적인 전체 재적재로 반영한다.
+ */
+@Component
+public class AuctionSampler {
+    private static final Logger logger = LoggerFactory.getLogger(AuctionSampler.class);
+
+    private final CustomAuctionRepository customAuctionRepository;
+
+    // ids[0..size) 가 진행 중인 경매, positions 는 ID → 배열 위치 (삭제는 마지막 항목과 자리 바꿈)
+    private long[] ids = new long[256];
+    private int size;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    // 재적재의 DB 조회 중에 들어온 등록(true)/마감·삭제(false). 배열을 바꾼 뒤 순서대로 다시 적용한다 (재적재 중이 아니면 null)
+    private Map<Long, Boolean> changedDuringRefresh;
+    private final ScheduledExecutorService refresher;
+
+    public AuctionSampler(CustomAuctionRepository customAuctionRepository,
+                          AuctionEventBus auctionEventBus,
+                          @Value("${auction.sampler.refresh-minutes:5}") long refreshMinutes) {
+        this.customAuctionRepository = customAuctionRepository;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-sampler-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refresher.scheduleWithFixedDelay(this::refresh, 0, refreshMinutes, TimeUnit.MINUTES);
+
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class,
+            (event, local) -> remove(event.getAuctionId()));
+        // 커밋된 뒤에만 후보에 넣고 빼므로 롤백된 등록이 추천되지 않는다
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CHANGED, AuctionChangedEvent.class, (event, local) -> {
+            if (event.isOpen()) {
+                add(event.getAuctionId());
+            } else {
+                remove(event.getAuctionId());
+            }
+        });
+    }
+
+    // 진행 중인 경매 ID 중 최대 count 개 (중복 없음, 순서도 무작위)
+    public synchronized List<Long> sample(int count) {
+        int k = Math.min(count, size);
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Floyd: j = n-k..n-1 마다 [0, j] 에서 하나를 뽑고, 이미 뽑혔으면 j 를 넣는다
+        Set<Integer> picked = new LinkedHashSet<>(k * 2);
+        for (int j = size - k; j < size; j++) {
+            int t = random.nextInt(j + 1);
+            picked.add(picked.contains(t) ? j : t);
+        }
+        List<Long> sample = new ArrayList<>(k);
+        for (int index : picked) {
+            sample.add(ids[index]);
+        }
+        // Floyd 는 뒤쪽 위치가 나중에 들어가는 경향이 있어 순서를 섞는다
+        Collections.shuffle(sample, random);
+        return sample;
+    }
+
+    public synchronized void add(Long auctionId) {
+        record(auctionId, true);
+        insert(auctionId);
+    }
+
+    public synchronized void remove(Long auctionId) {
+        record(auctionId, false);
+        delete(auctionId);
+    }
+
+    private void record(Long auctionId, boolean open) {
+        if (changedDuringRefresh != null && auctionId != null) {
+            // 같은 경매가 여러 번 바뀌면 마지막 변경만 남긴다
+            changedDuringRefresh.remove(auctionId);
+            changedDuringRefresh.put(auctionId, open);
+        }
+    }
+
+    private void insert(Long auctionId) {
+        if (auctionId == null || positions.containsKey(auctionId)) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        positions.put(auctionId, size);
+        ids[size++] = auctionId;
+    }
+
+    private void delete(Long auctionId) {
+        Integer index = positions.remove(auctionId);
+        if (index == null) {
+            return;
+        }
+        long last = ids[--size];
+        if (index != size) {
+            ids[index] = last;
+            positions.put(last, index);
+        }
+    }
+
+    // DB 기준으로 전체 재적재 (다른 노드에서 등록된 경매 반영)
+    // 조회는 락 밖에서 하므로 그동안의 등록/마감을 기록해 두었다가 교체 직후 적용한다 (조회 결과가 더 오래된 상태일 수 있음)
+    public void refresh() {
+        synchronized (this) {
+            changedDuringRefresh = new LinkedHashMap<>();
+        }
+        try {
+            List<Long> openIds = customAuctionRepository.findOpenIds();
+            synchronized (this) {
+                ids = new long[Math.max(256, openIds.size() * 2)];
+                size = 0;
+                positions.clear();
+                for (Long id : openIds) {
+                    insert(id);
+                }
+                changedDuringRefresh.forEach((id, open) -> {
+                    if (open) {
+                        insert(id);
+                    } else {
+                        delete(id);
+                    }
+                });
+            }
+            logger.debug("경매 표본 재적재 - 진행 중 {}건", openIds.size());
+        } catch (Exception e) {
+            logger.error("경매 표본 재적재 실패", e);
+        } finally {
+            synchronized (this) {
+                changedDuringRefresh = null;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+}
@@ -3,18 +3,24 @@ package com.auction.service;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 import com.auction.dto.AuctionDto;
+import com.auction.dto.AuctionListItemDto;
+import com.auction.dto.AuctionSearchCondition;
 import com.auction.entity.Auction;
 
 public interface AuctionService {
     AuctionDto createAuction(AuctionDto auctionDto, MultipartFile imageFile);
     AuctionDto createAuction(AuctionDto auctionDto);
     List<AuctionDto> getAllAuctions();
+    List<AuctionDto> getLatestOpenAuctions(int limit);
     AuctionDto getAuctionById(Long id);
     AuctionDto updateAuction(Long id, AuctionDto auctionDto);
     void deleteAuction(Long id);
     AuctionDto checkAndCloseAuction(AuctionDto auctionDto);
     List<AuctionDto> getRandomAuctions(int count);
     List<AuctionDto> getAuctionsByUserId(Long userId);
+
+    // 조건 검색 (afterKey/afterId 는 이전 페이지 마지막 항목의 정렬 키와 id)
+    List<AuctionListItemDto> searchAuctions(AuctionSearchCondition condition, Object afterKey, Long afterId, int limit);
     
     // 즉시구매 처리
     Auction buyNow(Long id, String buyerId);
@@ -6,21 +6,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.context.annotation.Lazy;
 
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
 import com.auction.dto.AuctionDto;
+import com.auction.dto.AuctionListItemDto;
+import com.auction.dto.AuctionSearchCondition;
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.NotificationDto;
 import com.auction.entity.Auction;
 import com.auction.repository.AuctionRepository;
+import com.auction.repository.AuctionSearchRepository;
 import com.auction.repository.BidRepository;
 import com.auction.repository.UserRepository;
 import com.auction.repository.CustomAuctionRepository;
@@ -44,6 +52,21 @@ public class AuctionServiceImpl implements AuctionService {
     @Autowired
     private CustomAuctionRepository customAuctionRepository;
 
+    @Autowired
+    private AuctionSearchRepository auctionSearchRepository;
+
+    @Autowired
+    private AuctionEventBus auctionEventBus;
+
+    @Autowired
+    private AuctionCache auctionCache;
+
+    @Autowired
+    private AuctionCounters auctionCounters;
+
+    @Autowired
+    private AuctionSampler auctionSampler;
+
     private final String uploadDir = "uploads/";
 
     private AuctionDto toDto(Auction auction) {
@@ -120,6 +143,7 @@ public class AuctionServiceImpl implements AuctionService {
     }
 
     @Override
+    @Transactional
     public AuctionDto createAuction(AuctionDto dto, MultipartFile imageFile) {
         String imageUrl = null;
         if (imageFile != null && !imageFile.isEmpty()) {
@@ -143,57 +167,61 @@ public class AuctionServiceImpl implements AuctionService {
 
         dto.setImageUrl1(imageUrl);
         Auction auction = toEntity(dto);
-        return toDto(auctionRepository.save(auction));
+        Auction saved = auctionRepository.save(auction);
+        auctionChanged(saved.getId(), saved.getEndTime(), !Boolean.TRUE.equals(saved.getIsClosed()));
+        return toDto(saved);
     }
 
     @Override
+    @Transactional
     public AuctionDto createAuction(AuctionDto dto) {
         return createAuction(dto, null);
     }
 
     @Override
     public List<AuctionDto> getAllAuctions() {
-        return auctionRepository.findAll().stream().map(this::toDto).collect(Collectors.toList());
+        // 판매자 닉네임을 조인으로 함께 읽어 경매마다 users 를 조회하지 않는다
+        return auctionCounters.applyPending(customAuctionRepository.findAllWithSeller());
+    }
+
+    @Override
+    public List<AuctionDto> getLatestOpenAuctions(int limit) {
+        return auctionCounters.applyPending(customAuctionRepository.findLatestOpenWithSeller(limit));
     }
 
     @Override
     public AuctionDto getAuctionById(Long id) {
-        return auctionRepository.findById(id).map(this::toDto).orElse(null);
+        // 입찰/마감 이벤트로 갱신되는 캐시에서 먼저 조회 (경매 + 판매자 조회를 매번 하지 않음)
+        // 아직 DB에 반영되지 않은 조회수/입찰수도 더해서 응답
+        return auctionCounters.applyPending(auctionCache.get(id, customAuctionRepository::findByIdWithSeller));
     }
 
     @Override
+    @Transactional
     public AuctionDto updateAuction(Long id, AuctionDto dto) {
-        return auctionRepository.findById(id).map(auction -> {
-            auction.setTitle(dto.getTitle());
-            auction.setCategory(dto.getCategory());
-            auction.setStatus(dto.getStatus());
-            auction.setBrand(dto.getBrand());
-            auction.setImageUrl1(dto.getImageUrl1());
-            auction.setImageUrl2(dto.getImageUrl2());
-            auction.setImageUrl3(dto.getImageUrl3());
-            auction.setDescription(dto.getDescription());
-            auction.setStartPrice(dto.getStartPrice());
-            auction.setBuyNowPrice(dto.getBuyNowPrice());
-            auction.setBidUnit(dto.getBidUnit());
-            auction.setStartTime(dto.getStartTime());
-            auction.setEndTime(dto.getEndTime());
-            auction.setMinBidCount(dto.getMinBidCount());
-            auction.setAutoExtend(dto.getAutoExtend());
-            auction.setShippingFee(dto.getShippingFee());
-            auction.setShippingType(dto.getShippingType());
-            auction.setLocation(dto.getLocation());
-            auction.setUpdatedAt(LocalDateTime.now());
-            auction.setHighestBid(dto.getHighestBid());
-            auction.setIsClosed(dto.getIsClosed());
-            auction.setWinner(dto.getWinner());
-            return toDto(auctionRepository.save(auction));
-        }).orElse(null);
+        // 엔티티 전체를 다시 저장하지 않고 수정 가능한 항목만 갱신한다
+        // (그 사이 반영된 조회수/입찰수/최고가/종료 여부를 덮어쓰지 않음)
+        if (customAuctionRepository.updateDetails(id, dto) == 0) {
+            return null;
+        }
+        AuctionDto updated = customAuctionRepository.findByIdWithSeller(id);
+        auctionChanged(id, updated.getEndTime(), !Boolean.TRUE.equals(updated.getIsClosed()));
+        return updated;
     }
 
     @Override
+    @Transactional
     public void deleteAuction(Long id) {
         commentService.deleteAllByAuctionId(id);
         auctionRepository.deleteById(id);
+        auctionChanged(id, null, false);
+    }
+
+    // 경매 등록/수정/삭제를 알린다 (입찰/마감은 각각의 이벤트로 알림)
+    // 상세 캐시/입찰 엔진/마감 예약/랜덤 추천 후보는 구독자가 커밋된 뒤에 모든 노드에서 갱신하므로 롤백되면 바뀌지 않는다
+    private void auctionChanged(Long auctionId, LocalDateTime endTime, boolean open) {
+        auctionEventBus.publish(AuctionEventBus.AUCTION_CHANGED, new AuctionChangedEvent(auctionId, endTime, open));
+        auctionEventBus.publish(AuctionEventBus.CONTENT_CHANGED, new ContentChangedEvent(ContentChangedEvent.AUCTION));
     }
 
     @Override
@@ -207,30 +235,41 @@ public class AuctionServiceImpl implements AuctionService {
 
     @Override
     public List<AuctionDto> getRandomAuctions(int count) {
-        List<AuctionDto> all = getAllAuctions();
-        Collections.shuffle(all);
-        return all.stream().limit(count).collect(Collectors.toList());
+        // 진행 중인 경매 ID 중 count 개만 뽑아 그 경매만 조회 (전체 경매를 읽어 섞지 않음)
+        List<Long> ids = auctionSampler.sample(count);
+        Map<Long, AuctionDto> byId = new HashMap<>();
+        for (AuctionDto dto : customAuctionRepository.findOpenByIdsWithSeller(ids)) {
+            byId.put(dto.getId(), dto);
+        }
+        List<AuctionDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            AuctionDto dto = byId.get(id);
+            if (dto != null) {
+                result.add(auctionCounters.applyPending(dto));
+            }
+        }
+        return result;
     }
 
     @Override
     public void incrementViewCount(Long auctionId) {
-        auctionRepository.findById(auctionId).ifPresent(a -> {
-            a.setViewCount(a.getViewCount() != null ? a.getViewCount() + 1 : 1);
-            auctionRepository.save(a);
-        });
+        // 메모리에 모아 두었다가 주기적으로 한 번에 반영 (경매를 읽고 다시 저장하지 않음)
+        auctionCounters.incrementView(auctionId);
     }
 
     @Override
     public void incrementBidCount(Long auctionId) {
-        auctionRepository.findById(auctionId).ifPresent(a -> {
-            a.setBidCount(a.getBidCount() != null ? a.getBidCount() + 1 : 1);
-            auctionRepository.save(a);
-        });
+        auctionCounters.incrementBid(auctionId);
     }
 
     @Override
     public List<AuctionDto> getAuctionsByUserId(Long userId) {
-        return auctionRepository.findByUserId(userId).stream().map(this::toDto).collect(Collectors.toList());
+        return auctionCounters.applyPending(customAuctionRepository.findByUserId(String.valueOf(userId)));
+    }
+
+    @Override
+    public List<AuctionListItemDto> searchAuctions(AuctionSearchCondition condition, Object afterKey, Long afterId, int limit) {
+        return auctionSearchRepository.search(condition, afterKey, afterId, limit);
     }
 
     @Lazy
@@ -238,26 +277,28 @@ public class AuctionServiceImpl implements AuctionService {
     private NotificationService notificationService;
 
     @Override
+    @Transactional
     public Auction buyNow(Long id, String buyerId) {
+        AuctionDto current = customAuctionRepository.findByIdWithSeller(id);
+        if (current == null) {
+            return null;
+        }
+        // 이미 종료된 경매인지 확인
+        if (Boolean.TRUE.equals(current.getIsClosed())) {
+            throw new IllegalStateException("이미 종료된 경매입니다.");
+        }
+        // 판매자가 본인 상품을 구매하는지 확인
+        if (current.getUserId() != null && String.valueOf(current.getUserId()).equals(buyerId)) {
+            throw new IllegalStateException("자신의 상품은 구매할 수 없습니다.");
+        }
+        // 진행 중일 때만 종료 처리 (확인 이후 마감/다른 즉시구매가 먼저 커밋되었으면 실패)
+        if (!customAuctionRepository.buyNow(id, buyerId)) {
+            throw new IllegalStateException("이미 종료된 경매입니다.");
+        }
+        // 갱신 후 처음 읽으므로 반영된 값이 보인다 (엔티티는 수정하지 않아 다시 저장되지 않음)
         return auctionRepository.findById(id).map(a -> {
-            // 이미 종료된 경매인지 확인
-            if (a.getIsClosed() != null && a.getIsClosed()) {
-                throw new IllegalStateException("이미 종료된 경매입니다.");
-            }
-            
-            // 판매자가 본인 상품을 구매하는지 확인
-            if (a.getUserId() != null && String.valueOf(a.getUserId()).equals(buyerId)) {
-                throw new IllegalStateException("자신의 상품은 구매할 수 없습니다.");
-            }
-            
-            // Update auction details
-            a.setHighestBid(a.getBuyNowPrice());
-            a.setStatus("종료");
-            a.setIsClosed(true);
-            a.setWinner(buyerId); // Set the winner to the buyer
-            
-            // Save the updated auction
-            Auction updatedAuction = auctionRepository.save(a);
+            // 엔진 상태/상세 캐시 정리와 마감 예약 해제는 구독자가 모든 노드에서 처리 (이벤트는 종료 처리와 함께 커밋)
+            auctionEventBus.publish(AuctionEventBus.AUCTION_CLOSED, new AuctionClosedEvent(id, buyerId));
             
             // Send notification to both buyer and seller
             if (notificationService != null) {
@@ -294,26 +335,24 @@ public class AuctionServiceImpl implements AuctionService {
                 }
             }
             
-            return updatedAuction;
+            return a;
         }).orElse(null);
     }
 
     @Override
+    @Transactional
     public Auction endAuction(Long id) {
-        return auctionRepository.findById(id).map(a -> {
-            a.setStatus("종료");
-            a.setIsClosed(true);
-
-            if (a.getWinner() == null) {
-                String highestBidder = bidRepository.findByAuctionId(id)
-                    .stream()
-                    .findFirst()
-                    .map(bid -> bid.getBidder())
-                    .orElse(null);
-                a.setWinner(highestBidder);
-            }
-
-            return auctionRepository.save(a);
+        AuctionDto current = customAuctionRepository.findByIdWithSeller(id);
+        if (current == null) {
+            return null;
+        }
+        // 진행 중일 때만 종료 처리 (이미 종료된 경매에 알림/이벤트를 다시 보내지 않음)
+        if (!customAuctionRepository.close(id, bidRepository.findTopBidderByAuctionId(id))) {
+            throw new IllegalStateException("이미 종료된 경매입니다.");
+        }
+        return auctionRepository.findById(id).map(closed -> {
+            auctionEventBus.publish(AuctionEventBus.AUCTION_CLOSED, new AuctionClosedEvent(id, closed.getWinner()));
+            return closed;
         }).orElse(null);
     }
 
@@ -1,32 +1,135 @@
 package com.auction.service;
 
+import com.auction.dto.AutoBidChangedEvent;
 import com.auction.dto.AutoBidDto;
 import com.auction.repository.AutoBidRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class AutoBidService {
     private final AutoBidRepository autoBidRepository;
+    private final AuctionEventBus auctionEventBus;
 
-    public AutoBidService(AutoBidRepository autoBidRepository) {
+    // 경매별 자동입찰 목록 캐시 (max_amount DESC, created_at ASC 정렬 유지)
+    // 등록/삭제는 AUTOBID_CHANGED 로 모든 노드에 알려 각 노드의 BidEngine 이 비운다
+    private final Map<Long, List<AutoBidDto>> ladders = new ConcurrentHashMap<>();
+
+    public AutoBidService(AutoBidRepository autoBidRepository, AuctionEventBus auctionEventBus) {
         this.autoBidRepository = autoBidRepository;
+        this.auctionEventBus = auctionEventBus;
     }
 
     // 자동입찰 등록/갱신
+    @Transactional
     public void registerAutoBid(Long auctionId, String userId, int maxAmount) {
         AutoBidDto dto = new AutoBidDto(auctionId, userId, maxAmount);
         autoBidRepository.saveOrUpdate(dto);
+        auctionEventBus.publish(AuctionEventBus.AUTOBID_CHANGED, new AutoBidChangedEvent(auctionId));
     }
 
     // 경매별 자동입찰자 목록
     public List<AutoBidDto> getAutoBidders(Long auctionId) {
-        return autoBidRepository.findByAuctionId(auctionId);
+        return ladders.computeIfAbsent(auctionId,
+            id -> Collections.unmodifiableList(autoBidRepository.findByAuctionId(id)));
     }
 
     // 자동입찰 삭제
+    @Transactional
     public void deleteAutoBid(Long auctionId, String userId) {
         autoBidRepository.delete(auctionId, userId);
+        auctionEventBus.publish(AuctionEventBus.AUTOBID_CHANGED, new AutoBidChangedEvent(auctionId));
+    }
+
+    // 캐시된 자동입찰 목록 제거 (자동입찰 변경, 경매 종료 등)
+    public void evictLadder(Long auctionId) {
+        ladders.remove(auctionId);
+    }
+
+    /**
+     * 자동입찰(프록시) 경쟁을 한 번에 정산한다.
+     * 입찰 단위마다 입찰을 만들어내는 대신, 2위 상한가 + 입찰단위(1위 상한가 이내)로 최종가와 최고 입찰자를 계산한다.
+     *
+     * @param leader       현재 최고 입찰자 (입찰이 없으면 null)
+     * @param price        현재 최고가
+     * @param minimumNext  현재 최고 입찰자가 아닌 사람이 낼 수 있는 최소 입찰가
+     * @param bidUnit      입찰단위
+     * @param buyNowPrice  즉시구매가 (입찰가는 이보다 낮아야 함, 없으면 null)
+     * @return 최고가/최고 입찰자가 바뀌면 결과, 변화가 없으면 null
+     */
+    public Resolution resolve(Long auctionId, String leader, long price, long minimumNext,
+                              long bidUnit, Long buyNowPrice) {
+        List<AutoBidDto> ladder = getAutoBidders(auctionId);
+        if (ladder.isEmpty()) {
+            return null;
+        }
+
+        long leaderCap = leader != null ? price : -1;
+        int leaderRank = Integer.MAX_VALUE;
+        AutoBidDto first = null;
+        int firstRank = -1;
+        long firstCap = -1;
+        long secondCap = -1;
+
+        // 목록이 이미 정렬되어 있으므로 한 번만 순회한다
+        for (int rank = 0; rank < ladder.size(); rank++) {
+            AutoBidDto proxy = ladder.get(rank);
+            long cap = proxy.getMaxAmount();
+            if (buyNowPrice != null) {
+                cap = Math.min(cap, buyNowPrice - 1);
+            }
+            if (leader != null && leader.equals(proxy.getUserId())) {
+                if (cap > leaderCap) {
+                    leaderCap = cap;
+                    leaderRank = rank;
+                }
+                continue;
+            }
+            if (cap < minimumNext) {
+                continue;
+            }
+            if (first == null) {
+                first = proxy;
+                firstRank = rank;
+                firstCap = cap;
+            } else if (secondCap < 0) {
+                secondCap = cap;
+            }
+        }
+
+        if (first == null) {
+            // 도전자가 없으면 현재 상태 유지
+            return null;
+        }
+
+        boolean leaderHolds = leader != null
+            && (leaderCap > firstCap || (leaderCap == firstCap && leaderRank < firstRank));
+        if (leaderHolds) {
+            long newPrice = Math.max(price, Math.min(leaderCap, firstCap + bidUnit));
+            return newPrice > price ? new Resolution(leader, newPrice) : null;
+        }
+
+        long runnerUp = Math.max(leaderCap, secondCap);
+        long newPrice = runnerUp < 0 ? minimumNext : Math.min(firstCap, runnerUp + bidUnit);
+        return new Resolution(first.getUserId(), Math.max(newPrice, minimumNext));
+    }
+
+    // 자동입찰 정산 결과
+    public static final class Resolution {
+        private final String leader;
+        private final long price;
+
+        public Resolution(String leader, long price) {
+            this.leader = leader;
+            this.price = price;
+        }
+
+        public String getLeader() { return leader; }
+        public long getPrice() { return price; }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,569 @@
+package com.auction.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.AutoBidChangedEvent;
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.dto.BidDto;
+import com.auction.dto.NotificationDto;
+import com.auction.entity.Auction;
+import com.auction.entity.NotificationType;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매별 인메모리 입찰 엔진.
+ * 경매마다 단일 작성자 큐(lane)를 두어 입찰을 순서대로 수락/거절하고,
+ * DB 반영은 별도 writer 스레드에서 비동기로 처리한다.
+ */
+@Component
+public class BidEngine {
+    private static final Logger logger = LoggerFactory.getLogger(BidEngine.class);
+
+    private static final long SUBMIT_TIMEOUT_MS = 5000;
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final AutoBidService autoBidService;
+    private final BidLedger bidLedger;
+    private final NotificationOutbox notificationOutbox;
+
+    // 자동 연장: 마감 window 이내에 입찰이 들어오면 종료 시각을 입찰 시점 + extension으로 미룬다
+    private final Duration extendWindow;
+    private final Duration extension;
+
+    private final Map<Long, AuctionBook> books = new ConcurrentHashMap<>();
+    private final List<Consumer<AcceptedBid>> listeners = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService laneExecutor;
+
+    public BidEngine(AuctionRepository auctionRepository, BidRepository bidRepository,
+                     AutoBidService autoBidService,
+                     BidLedger bidLedger,
+                     NotificationOutbox notificationOutbox,
+                     AuctionEventBus auctionEventBus,
+                     @Value("${auction.extend.window-seconds:300}") long extendWindowSeconds,
+                     @Value("${auction.extend.extension-seconds:300}") long extensionSeconds) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.autoBidService = autoBidService;
+        this.bidLedger = bidLedger;
+        this.notificationOutbox = notificationOutbox;
+        this.extendWindow = Duration.ofSeconds(extendWindowSeconds);
+        this.extension = Duration.ofSeconds(extensionSeconds);
+        this.laneExecutor = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), namedThreads("bid-lane"));
+
+        // 다른 노드에서 입찰이 반영되면 이 노드의 상태는 낡았으므로 다음 입찰 때 DB에서 다시 로드
+        auctionEventBus.subscribe(AuctionEventBus.BID_ACCEPTED, BidAcceptedEvent.class, (event, local) -> {
+            if (!local) {
+                evict(event.getAuctionId());
+            }
+        });
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class,
+            (event, local) -> evict(event.getAuctionId()));
+        // 어느 노드에서든 자동입찰이 등록/삭제되면 (커밋된 뒤) 이 노드의 자동입찰 목록 캐시를 비운다
+        auctionEventBus.subscribe(AuctionEventBus.AUTOBID_CHANGED, AutoBidChangedEvent.class,
+            (event, local) -> autoBidService.evictLadder(event.getAuctionId()));
+        // 경매 정보(시작가/입찰 단위/종료 시각 등)가 바뀌었으면 다음 입찰 때 DB에서 다시 로드
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CHANGED, AuctionChangedEvent.class,
+            (event, local) -> evict(event.getAuctionId()));
+        // 재시작 시 저널에서 복구한 입찰도 경매별 lane 을 거쳐 실시간 입찰과 같은 후처리를 받는다
+        bidLedger.onRecovering(this::recover);
+    }
+
+    // 입찰이 DB에 반영될 때 원장 스레드의 group commit 트랜잭션 안에서 호출될 리스너 등록
+    public void onAccepted(Consumer<AcceptedBid> listener) {
+        listeners.add(listener);
+    }
+
+    // 입찰 제출 (비동기)
+    public CompletableFuture<AcceptedBid> submit(BidDto bid) {
+        CompletableFuture<AcceptedBid> future = new CompletableFuture<>();
+        AuctionBook book = books.computeIfAbsent(bid.getAuctionId(), AuctionBook::new);
+        book.enqueue(new PendingBid(PendingBid.BID, bid, future));
+        return future;
+    }
+
+    // 입찰 제출 후 수락/거절 결과를 기다린다
+    public AcceptedBid placeBid(BidDto bid) {
+        try {
+            return submit(bid).get(SUBMIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("입찰 처리 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("입찰 처리 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 처리가 중단되었습니다.");
+        }
+    }
+
+    // 자동입찰 등록/변경 시 현재 상태 기준으로 자동입찰 경쟁을 정산한다
+    public void resolveProxies(Long auctionId) {
+        books.computeIfAbsent(auctionId, AuctionBook::new)
+            .enqueue(new PendingBid(PendingBid.RESOLVE, null, null));
+    }
+
+    /**
+     * 주어진 경매들에 대해 지금까지 이 노드가 수락한 입찰이 모두 DB에 반영될 때까지 기다린다 (마감 전 낙찰자 확정용).
+     * 저널 복구 중이면 복구가 끝나는 것도 기다린다. 제한 시간 안에 끝나면 true.
+     */
+    public boolean awaitCommitted(Collection<Long> auctionIds, long timeoutMs) {
+        List<CompletableFuture<?>> barriers = new ArrayList<>(auctionIds.size() + 1);
+        barriers.add(bidLedger.recovery());
+        for (Long auctionId : auctionIds) {
+            AuctionBook book = books.get(auctionId);
+            if (book != null) {
+                CompletableFuture<AcceptedBid> barrier = new CompletableFuture<>();
+                book.enqueue(new PendingBid(PendingBid.BARRIER, null, barrier));
+                barriers.add(barrier);
+            }
+        }
+        try {
+            CompletableFuture.allOf(barriers.toArray(new CompletableFuture<?>[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 원장 저널에서 복구한 입찰 (원장 복구 시 호출)
+    private void recover(BidDto bid) {
+        books.computeIfAbsent(bid.getAuctionId(), AuctionBook::new)
+            .enqueue(new PendingBid(PendingBid.RECOVER, bid, null));
+    }
+
+    // 경매 정보가 변경되었을 때 메모리 상태를 버린다
+    // 다시 로드는 이 경매의 입찰이 원장에서 모두 DB에 반영된 뒤 다음 입찰 때 한다
+    public void evict(Long auctionId) {
+        autoBidService.evictLadder(auctionId);
+        AuctionBook book = books.get(auctionId);
+        if (book != null) {
+            book.enqueue(new PendingBid(PendingBid.RELOAD, null, null));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        laneExecutor.shutdown();
+        try {
+            laneExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 경매 하나의 단일 작성자 큐
+    private final class AuctionBook {
+        private final Long auctionId;
+        private final Queue<PendingBid> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        // 아래 필드는 lane 스레드에서만 접근한다
+        private boolean loaded;
+        // evict 되었지만 원장에 남은 입찰 때문에 아직 다시 로드하지 않은 상태
+        private boolean stale;
+        // 이 경매에서 원장에 마지막으로 넘긴 입찰의 DB 반영 완료 (원장은 순서대로 처리하므로 이전 입찰도 모두 반영됨)
+        private CompletableFuture<Void> lastCommit = CompletableFuture.completedFuture(null);
+        private String title;
+        private Long sellerId;
+        private long startPrice;
+        private long bidUnit;
+        private Long buyNowPrice;
+        private long currentPrice;
+        private String leader;
+        private int bidCount;
+        private long sequence;
+        private boolean closed;
+        private boolean autoExtend;
+        private LocalDateTime endTime;
+
+        AuctionBook(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        void enqueue(PendingBid pending) {
+            queue.offer(pending);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                laneExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            PendingBid pending;
+            while ((pending = queue.peek()) != null) {
+                if (stale) {
+                    if (!lastCommit.isDone()) {
+                        // 지금 DB를 읽으면 아직 반영되지 않은 이 경매의 입찰이 빠진 상태가 되므로 반영된 뒤 이어서 처리
+                        lastCommit.whenComplete((ignored, error) -> resume());
+                        return;
+                    }
+                    stale = false;
+                    loaded = false;
+                }
+                queue.poll();
+                if (pending.kind == PendingBid.RELOAD) {
+                    stale = true;
+                    continue;
+                }
+                if (pending.kind == PendingBid.BARRIER) {
+                    // 앞서 넘긴 입찰이 모두 반영되면 완료
+                    CompletableFuture<AcceptedBid> barrier = pending.future;
+                    lastCommit.whenComplete((ignored, error) -> barrier.complete(null));
+                    continue;
+                }
+                if (pending.kind == PendingBid.RECOVER) {
+                    recover(pending.bid);
+                    continue;
+                }
+                if (pending.kind == PendingBid.RESOLVE) {
+                    try {
+                        resolveOnly();
+                    } catch (RuntimeException e) {
+                        logger.error("자동입찰 정산 실패 - auctionId: {}", auctionId, e);
+                    }
+                    continue;
+                }
+                try {
+                    AcceptedBid accepted = accept(pending.bid);
+                    // 저널에 기록(fsync)된 뒤 응답
+                    CompletableFuture<AcceptedBid> future = pending.future;
+                    accepted.durable.whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            future.completeExceptionally(error);
+                        } else {
+                            future.complete(accepted);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    pending.future.completeExceptionally(e);
+                }
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        // 원장 반영을 기다리며 멈췄던 lane 을 이어서 처리 (scheduled 는 true 로 남아 있다)
+        private void resume() {
+            try {
+                laneExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        // 원장에 넘기는 입찰의 DB 반영 완료를 lastCommit 으로 기록한다
+        // 콜백은 group commit 트랜잭션 안에서 호출되므로 완료는 커밋된 뒤에 한다 (롤백되면 재시도 때 다시 등록됨)
+        private Consumer<Boolean> track(Consumer<Boolean> onCommitted) {
+            CompletableFuture<Void> commit = new CompletableFuture<>();
+            lastCommit = commit;
+            return committed -> {
+                try {
+                    if (onCommitted != null) {
+                        onCommitted.accept(committed);
+                    }
+                } finally {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            commit.complete(null);
+                        }
+                    });
+                }
+            };
+        }
+
+        private AcceptedBid accept(BidDto bid) {
+            // DB 반영이 밀려 원장이 재시도 중이면 상태를 바꾸기 전에 거절한다
+            bidLedger.checkWritable();
+            if (!loaded) {
+                load();
+            }
+            if (closed || (endTime != null && endTime.isBefore(LocalDateTime.now()))) {
+                throw new IllegalStateException("이미 종료된 경매입니다.");
+            }
+            long amount = bid.getBidAmount() != null ? bid.getBidAmount() : 0L;
+            if (buyNowPrice != null && amount >= buyNowPrice) {
+                throw new IllegalArgumentException("입찰 가격은 즉시 구매가보다 낮아야 합니다. 현재 즉시 구매가: " + buyNowPrice);
+            }
+            long minimum = minimumNextBid();
+            if (amount < minimum) {
+                throw new IllegalArgumentException("입찰 가격은 " + minimum + "원 이상이어야 합니다.");
+            }
+
+            AcceptedBid accepted = apply(bid, extendIfSniped(bid.getBidTime()));
+            // 입찰이 들어올 때마다 자동입찰 경쟁을 한 번에 정산
+            resolveProxyBids();
+            return accepted;
+        }
+
+        private void resolveOnly() {
+            bidLedger.checkWritable();
+            if (!loaded) {
+                load();
+            }
+            if (closed || (endTime != null && endTime.isBefore(LocalDateTime.now()))) {
+                return;
+            }
+            resolveProxyBids();
+        }
+
+        private void resolveProxyBids() {
+            AutoBidService.Resolution resolution = autoBidService.resolve(
+                auctionId, leader, currentPrice, minimumNextBid(), bidUnit, buyNowPrice);
+            if (resolution == null) {
+                return;
+            }
+            BidDto proxyBid = new BidDto();
+            proxyBid.setAuctionId(auctionId);
+            proxyBid.setBidder(resolution.getLeader());
+            proxyBid.setBidAmount(resolution.getPrice());
+            proxyBid.setBidTime(LocalDateTime.now());
+            apply(proxyBid, extendIfSniped(proxyBid.getBidTime()));
+        }
+
+        // 저널에서 복구한 입찰: 크래시 전에 이미 수락 응답한 입찰이므로 검증 없이 상태에 반영한다 (DB 반영은 조건부 갱신이 판정)
+        // 현재가 이하면 DB에 이미 반영된 입찰이라 상태를 바꾸지 않는다. 어느 경우든 원장에는 정확히 한 번 넘긴다
+        private void recover(BidDto bid) {
+            Consumer<Boolean> onCommitted = null;
+            try {
+                if (!loaded) {
+                    load();
+                }
+                if (bid.getBidAmount() > currentPrice) {
+                    AcceptedBid accepted = advance(bid, extendIfSniped(bid.getBidTime()));
+                    onCommitted = committedCallback(bid, accepted);
+                }
+            } catch (RuntimeException e) {
+                logger.error("복구 입찰 상태 반영 실패 - auctionId: {}, amount: {}", auctionId, bid.getBidAmount(), e);
+            }
+            bidLedger.appendRecovered(bid, track(onCommitted));
+        }
+
+        // 마감 직전 입찰이면 종료 시각을 연장하고 true를 돌려준다
+        private boolean extendIfSniped(LocalDateTime bidTime) {
+            if (!autoExtend || endTime == null) {
+                return false;
+            }
+            LocalDateTime now = bidTime != null ? bidTime : LocalDateTime.now();
+            if (now.plus(extendWindow).isBefore(endTime)) {
+                return false;
+            }
+            LocalDateTime extended = now.plus(extension);
+            if (!extended.isAfter(endTime)) {
+                return false;
+            }
+            endTime = extended;
+            return true;
+        }
+
+        private AcceptedBid apply(BidDto bid, boolean extended) {
+            AcceptedBid accepted = advance(bid, extended);
+            accepted.durable = bidLedger.append(bid, track(committedCallback(bid, accepted)));
+            return accepted;
+        }
+
+        // 입찰을 메모리 상태에 반영하고 스냅샷을 만든다
+        private AcceptedBid advance(BidDto bid, boolean extended) {
+            currentPrice = bid.getBidAmount();
+            leader = bid.getBidder();
+            bidCount++;
+            sequence++;
+
+            return new AcceptedBid(auctionId, title, sellerId, bid.getBidder(), currentPrice,
+                bid.getBidTime(), bidCount, sequence, endTime, extended);
+        }
+
+        private long minimumNextBid() {
+            return currentPrice > 0 ? currentPrice + bidUnit : startPrice;
+        }
+
+        private void load() {
+            Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다. ID: " + auctionId));
+            title = auction.getTitle();
+            sellerId = auction.getUserId();
+            startPrice = auction.getStartPrice() != null ? auction.getStartPrice() : 0L;
+            bidUnit = auction.getBidUnit() != null ? auction.getBidUnit() : 1000L;
+            buyNowPrice = auction.getBuyNowPrice() != null ? auction.getBuyNowPrice().longValue() : null;
+            currentPrice = auction.getHighestBid() != null ? auction.getHighestBid() : 0L;
+            bidCount = auction.getBidCount() != null ? auction.getBidCount() : 0;
+            sequence = Math.max(sequence, bidCount);
+            closed = Boolean.TRUE.equals(auction.getIsClosed());
+            autoExtend = Boolean.TRUE.equals(auction.getAutoExtend());
+            endTime = auction.getEndTime();
+            leader = bidRepository.findTopBidderByAuctionId(auctionId);
+            loaded = true;
+        }
+    }
+
+    private Consumer<Boolean> committedCallback(BidDto bid, AcceptedBid accepted) {
+        return committed -> {
+            // group commit 에서 채워진 bids.id
+            accepted.bidId = bid.getId();
+            applyCommitResult(committed, accepted);
+        };
+    }
+
+    // 원장 스레드의 group commit 트랜잭션 안: 결과에 따라 종료 시각 연장/리스너 호출 (리스너의 이벤트 발행도 같은 트랜잭션에 기록)
+    private void applyCommitResult(boolean committed, AcceptedBid accepted) {
+        try {
+            if (!committed) {
+                // DB 기준으로 이미 더 높은 입찰이 있거나 종료된 경매 (다른 노드 등) → 입찰자에게 알리고 상태 재로드
+                logger.warn("입찰이 DB 조건부 갱신에서 거절됨 - auctionId: {}, bidder: {}, amount: {}",
+                    accepted.getAuctionId(), accepted.getBidder(), accepted.getAmount());
+                notifyRejected(accepted);
+                evict(accepted.getAuctionId());
+                return;
+            }
+            if (accepted.isExtended()) {
+                bidRepository.extendEndTime(accepted.getAuctionId(), accepted.getEndTime());
+            }
+        } catch (Exception e) {
+            logger.error("입찰 DB 반영 실패 - auctionId: {}, bidder: {}, amount: {}",
+                accepted.getAuctionId(), accepted.getBidder(), accepted.getAmount(), e);
+            evict(accepted.getAuctionId());
+            return;
+        }
+        for (Consumer<AcceptedBid> listener : listeners) {
+            try {
+                listener.accept(accepted);
+            } catch (Exception e) {
+                logger.error("입찰 후처리 실패 - auctionId: {}", accepted.getAuctionId(), e);
+            }
+        }
+    }
+
+    // 수락 응답을 받았지만 DB에 반영되지 못한 입찰을 입찰자에게 알린다 (group commit 트랜잭션의 알림 아웃박스에 기록)
+    private void notifyRejected(AcceptedBid accepted) {
+        try {
+            notificationOutbox.write(List.of(NotificationDto.builder()
+                .auctionId(accepted.getAuctionId())
+                .userId(accepted.getBidder())
+                .title(accepted.getTitle())
+                .type(NotificationType.BID_REJECTED.name())
+                .message("⚠️ '" + accepted.getTitle() + "'에 " + String.format("%,d", accepted.getAmount())
+                    + "원으로 한 입찰이 먼저 반영된 입찰 또는 경매 종료로 취소되었습니다.")
+                .isRead(0)
+                .build()));
+        } catch (Exception e) {
+            logger.error("입찰 거절 알림 실패 - auctionId: {}, bidder: {}", accepted.getAuctionId(), accepted.getBidder(), e);
+        }
+    }
+
+    private static final class PendingBid {
+        static final int BID = 0;
+        static final int RELOAD = 1;
+        static final int RESOLVE = 2;
+        static final int RECOVER = 3;
+        static final int BARRIER = 4;
+
+        private final int kind;
+        private final BidDto bid;
+        private final CompletableFuture<AcceptedBid> future;
+
+        PendingBid(int kind, BidDto bid, CompletableFuture<AcceptedBid> future) {
+            this.kind = kind;
+            this.bid = bid;
+            this.future = future;
+        }
+    }
+
+    // 수락된 입찰의 불변 스냅샷
+    public static final class AcceptedBid {
+        private final Long auctionId;
+        private final String title;
+        private final Long sellerId;
+        private final String bidder;
+        private final long amount;
+        private final LocalDateTime bidTime;
+        private final int bidCount;
+        private final long sequence;
+        private final LocalDateTime endTime;
+        private final boolean extended;
+        // 원장 저널 기록 완료 시점 (lane 내부에서만 사용)
+        private CompletableFuture<Void> durable;
+        // DB 반영 후 채워지는 bids.id (원장 스레드에서 리스너 호출 전에 설정)
+        private Long bidId;
+
+        AcceptedBid(Long auctionId, String title, Long sellerId, String bidder, long amount,
+                    LocalDateTime bidTime, int bidCount, long sequence, LocalDateTime endTime,
+                    boolean extended) {
+            this.auctionId = auctionId;
+            this.title = title;
+            this.sellerId = sellerId;
+            this.bidder = bidder;
+            this.amount = amount;
+            this.bidTime = bidTime;
+            this.bidCount = bidCount;
+            this.sequence = sequence;
+            this.endTime = endTime;
+            this.extended = extended;
+        }
+
+        public Long getBidId() { return bidId; }
+        public Long getAuctionId() { return auctionId; }
+        public String getTitle() { return title; }
+        public Long getSellerId() { return sellerId; }
+        public String getBidder() { return bidder; }
+        public long getAmount() { return amount; }
+        public LocalDateTime getBidTime() { return bidTime; }
+        public int getBidCount() { return bidCount; }
+        public long getSequence() { return sequence; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public boolean isExtended() { return extended; }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,354 @@
+package com.auction.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.dto.BidDto;
+import com.auction.repository.BidRepository;
+import com.auction.util.BidEventLog;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 입찰 이력 서비스.
+ * DB에 반영된 입찰을 BidEventLog 에 순서대로 기록하고,
+ * 경매별 레코드 위치 색인으로 이력 조회/특정 시점 재구성을 로그에서 처리한다.
+ * 색인은 (금액, bids.id) 오름차순으로 유지하므로 페이지 조회는 커서 위치를 이진 탐색한 뒤 limit 건만 읽는다.
+ * 시작 시 로그에 없는 입찰을 DB에서 따라잡고, 경매별 건수가 DB와 맞는 것을 확인하기 전까지는 DB에서 조회한다.
+ */
+@Component
+public class BidHistoryService {
+    private static final Logger logger = LoggerFactory.getLogger(BidHistoryService.class);
+
+    // 이 건수마다 매핑된 세그먼트를 디스크에 반영 (수락 시점의 내구성은 BidLedger 저널이 보장)
+    private static final int FORCE_EVERY = 1024;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final BidRepository bidRepository;
+    private final BidEventLog eventLog;
+
+    // 경매별 레코드 위치 ((금액, bids.id) 순)
+    private final Map<Long, Positions> positions = new ConcurrentHashMap<>();
+    // 입찰자 해시 → 입찰자 (로그에는 해시만 저장)
+    private final Map<Long, String> bidders = new ConcurrentHashMap<>();
+    // 새로 기록된 레코드를 받는 구독자 (통계 등)
+    private final List<BidEventLog.RecordVisitor> listeners = new CopyOnWriteArrayList<>();
+
+    // 중복 확인 → 로그 기록 → 색인 → 구독자 통지를 한 단위로 묶는다
+    private final Object appendLock = new Object();
+    // 로그에 기록된 가장 큰 bids.id (appendLock 으로 보호)
+    private long maxBidId;
+    // 로그가 DB와 같다고 확인되기 전까지는 DB에서 조회
+    private volatile boolean complete;
+
+    public BidHistoryService(BidRepository bidRepository,
+                             AuctionEventBus auctionEventBus,
+                             @Value("${auction.event-log.dir:data/bid-log}") String logDir,
+                             @Value("${auction.event-log.segment-bytes:67108864}") int segmentBytes) throws IOException {
+        this.bidRepository = bidRepository;
+        this.eventLog = new BidEventLog(Paths.get(logDir), segmentBytes);
+
+        eventLog.replay((index, auctionId, bidderHash, amount, epochNanos, bidId, sequence) -> {
+            positions.computeIfAbsent(auctionId, id -> new Positions()).add(index);
+            maxBidId = Math.max(maxBidId, bidId);
+        });
+        logger.info("입찰 로그 적재 - 레코드 {}건, 경매 {}건, 마지막 입찰 id {}", eventLog.size(), positions.size(), maxBidId);
+
+        // 따라잡기 중에 들어온 입찰도 놓치지 않도록 먼저 구독한다 (중복은 append 에서 거른다)
+        auctionEventBus.subscribe(AuctionEventBus.BID_ACCEPTED, BidAcceptedEvent.class, this::record);
+    }
+
+    // 입찰이 DB에 반영된 순서대로 호출된다 (다른 노드의 입찰은 이벤트 버스 폴링 스레드에서)
+    private void record(BidAcceptedEvent event, boolean local) {
+        append(event.getAuctionId(), event.getBidder(), event.getAmount(), toEpochNanos(event.getBidTime()),
+            event.getBidId() != null ? event.getBidId() : 0L, event.getSequence());
+    }
+
+    // 로그에 없는 입찰을 DB에서 가져오고, 경매별 건수가 DB와 맞으면 로그 조회로 전환한다
+    // 로그가 비어 있으면 bids 테이블 전체를 옮겨 담는 것과 같다
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        try {
+            long afterId;
+            synchronized (appendLock) {
+                afterId = maxBidId;
+            }
+            int[] loaded = new int[1];
+            bidRepository.streamAfterId(afterId, (id, auctionId, bidder, amount, bidTime) -> {
+                if (append(auctionId, bidder, amount, toEpochNanos(bidTime), id, 0L)) {
+                    loaded[0]++;
+                }
+            });
+
+            // id 가 커밋 순서와 다르게 할당되어 afterId 아래에 빠진 입찰이 있으면 해당 경매만 다시 읽는다
+            List<Long> shortAuctions = shortAuctions(bidRepository.countByAuction());
+            for (Long auctionId : shortAuctions) {
+                bidRepository.streamByAuctionId(auctionId, (id, ignored, bidder, amount, bidTime) -> {
+                    if (append(auctionId, bidder, amount, toEpochNanos(bidTime), id, 0L)) {
+                        loaded[0]++;
+                    }
+                });
+            }
+            eventLog.force();
+
+            List<Long> stillShort = shortAuctions(bidRepository.countByAuction());
+            if (stillShort.isEmpty()) {
+                complete = true;
+                logger.info("입찰 로그 따라잡기 완료 - {}건 추가, 로그 {}건", loaded[0], eventLog.size());
+            } else {
+                logger.warn("입찰 로그가 DB와 맞지 않음 - 경매 {}건 (예: {}), 입찰 이력은 DB에서 조회",
+                    stillShort.size(), stillShort.get(0));
+            }
+        } catch (RuntimeException e) {
+            logger.error("입찰 로그 따라잡기 실패 - 입찰 이력은 DB에서 조회", e);
+        }
+    }
+
+    // 로그의 건수가 DB보다 적은 경매
+    private List<Long> shortAuctions(Map<Long, Long> dbCounts) {
+        List<Long> result = new ArrayList<>();
+        dbCounts.forEach((auctionId, count) -> {
+            Positions auctionPositions = positions.get(auctionId);
+            if (auctionPositions == null || auctionPositions.size() < count) {
+                result.add(auctionId);
+            }
+        });
+        return result;
+    }
+
+    // 로그에 없는 입찰이면 기록하고 색인에 넣는다. sequence 가 0이면 경매 내 순번을 새로 매긴다
+    private boolean append(long auctionId, String bidder, long amount, long epochNanos, long bidId, long sequence) {
+        synchronized (appendLock) {
+            Positions auctionPositions = positions.computeIfAbsent(auctionId, id -> new Positions());
+            if (bidId != 0 && auctionPositions.contains(amount, bidId)) {
+                return false;
+            }
+            long hash = hashBidder(bidder);
+            bidders.putIfAbsent(hash, bidder);
+            long seq = sequence != 0 ? sequence : auctionPositions.size() + 1;
+            long index = eventLog.append(auctionId, hash, amount, epochNanos, bidId, seq);
+            auctionPositions.add(index);
+            maxBidId = Math.max(maxBidId, bidId);
+            for (BidEventLog.RecordVisitor listener : listeners) {
+                listener.visit(index, auctionId, hash, amount, epochNanos, bidId, seq);
+            }
+            if (eventLog.unforcedCount() >= FORCE_EVERY) {
+                eventLog.force();
+            }
+            return true;
+        }
+    }
+
+    // 로그가 DB와 같다고 확인되어 로그에서 조회하는지
+    public boolean isComplete() {
+        return complete;
+    }
+
+    // 경매별 입찰 이력 한 페이지 ((금액, bids.id) 내림차순 keyset)
+    // 커서 위치를 색인에서 이진 탐색하고 그 앞의 limit 건만 읽으므로 경매의 입찰 수와 무관하다
+    public List<BidDto> getBidsPage(Long auctionId, Long beforeAmount, Long beforeId, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (!complete) {
+            return bidRepository.findByAuctionIdPage(auctionId, beforeAmount, beforeId, limit);
+        }
+        Positions auctionPositions = positions.get(auctionId);
+        if (auctionPositions == null) {
+            return Collections.emptyList();
+        }
+        long maxAmount = beforeAmount != null ? beforeAmount : Long.MAX_VALUE;
+        long maxId = beforeId != null ? beforeId : Long.MAX_VALUE;
+        long[] indexes = auctionPositions.before(maxAmount, maxId, limit);
+        List<BidDto> bids = new ArrayList<>(indexes.length);
+        List<Long> hashes = new ArrayList<>(indexes.length);
+        for (long position : indexes) {
+            eventLog.read(position, (index, id, bidderHash, amount, epochNanos, bidId, sequence) -> {
+                bids.add(toBid(id, bidId, bidderHash, amount, epochNanos));
+                hashes.add(bidderHash);
+            });
+        }
+        resolveBidders(auctionId, bids, hashes);
+        return bids;
+    }
+
+    // 특정 시점까지의 입찰 이력 ((금액, bids.id) 내림차순). at이 null이면 전체
+    public List<BidDto> getBidsAt(Long auctionId, LocalDateTime at) {
+        if (!complete) {
+            return bidRepository.findByAuctionIdAt(auctionId, at);
+        }
+        Positions auctionPositions = positions.get(auctionId);
+        if (auctionPositions == null) {
+            return Collections.emptyList();
+        }
+        long[] indexes = auctionPositions.snapshot();
+        long until = at != null ? toEpochNanos(at) : Long.MAX_VALUE;
+        List<BidDto> bids = new ArrayList<>(indexes.length);
+        List<Long> hashes = new ArrayList<>(indexes.length);
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            eventLog.read(indexes[i], (index, id, bidderHash, amount, epochNanos, bidId, sequence) -> {
+                if (epochNanos > until) {
+                    return;
+                }
+                bids.add(toBid(id, bidId, bidderHash, amount, epochNanos));
+                hashes.add(bidderHash);
+            });
+        }
+        resolveBidders(auctionId, bids, hashes);
+        return bids;
+    }
+
+    private BidDto toBid(long auctionId, long bidId, long bidderHash, long amount, long epochNanos) {
+        BidDto bid = new BidDto();
+        // /export, 사용자별 이력과 같은 bids.id
+        bid.setId(bidId);
+        bid.setAuctionId(auctionId);
+        // 이름을 모르면 null 로 두고 resolveBidders 에서 채운다
+        bid.setBidder(bidders.get(bidderHash));
+        bid.setBidAmount(amount);
+        bid.setBidTime(toLocalDateTime(epochNanos));
+        bid.setCreatedAt(bid.getBidTime());
+        return bid;
+    }
+
+    // 재시작 후 처음 조회되는 경매는 입찰자 이름을 한 번만 DB에서 가져온다
+    private void resolveBidders(Long auctionId, List<BidDto> bids, List<Long> hashes) {
+        boolean loaded = false;
+        for (int i = 0; i < bids.size(); i++) {
+            BidDto bid = bids.get(i);
+            if (bid.getBidder() != null) {
+                continue;
+            }
+            if (!loaded) {
+                for (String bidder : bidRepository.findBiddersByAuctionId(auctionId)) {
+                    bidders.putIfAbsent(hashBidder(bidder), bidder);
+                }
+                loaded = true;
+            }
+            bid.setBidder(bidders.get(hashes.get(i)));
+        }
+    }
+
+    // 지금까지의 로그를 재생한 뒤 이후 기록되는 레코드도 받는다 (통계 복원 등)
+    // 재생과 구독 사이에 기록된 레코드를 빠뜨리거나 두 번 받지 않도록 기록과 같은 락 안에서 처리한다
+    public void replayAndSubscribe(BidEventLog.RecordVisitor visitor) {
+        synchronized (appendLock) {
+            eventLog.replay(visitor);
+            listeners.add(visitor);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventLog.close();
+    }
+
+    // 64비트 FNV-1a
+    static long hashBidder(String bidder) {
+        long hash = 0xcbf29ce484222325L;
+        if (bidder == null) {
+            return hash;
+        }
+        for (byte b : bidder.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        Instant instant = (time != null ? time : LocalDateTime.now()).atZone(ZONE).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofInstant(
+            Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L)),
+            ZONE);
+    }
+
+    // 경매 하나의 레코드 위치 목록 ((금액, bids.id) 오름차순)
+    // 입찰은 대부분 직전보다 높은 금액으로 들어오므로 보통 끝에 붙고,
+    // 다른 노드의 입찰이 늦게 전달된 경우에만 이진 탐색한 자리에 끼워 넣는다
+    private final class Positions {
+        private long[] items = new long[4];
+        private int size;
+
+        synchronized void add(long index) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            long amount = eventLog.amount(index);
+            long bidId = eventLog.bidId(index);
+            int at = size == 0 || compareAt(size - 1, amount, bidId) < 0 ? size : lowerBound(amount, bidId);
+            System.arraycopy(items, at, items, at + 1, size - at);
+            items[at] = index;
+            size++;
+        }
+
+        // (amount, bidId) 보다 작은 마지막 limit 개를 큰 것부터
+        synchronized long[] before(long amount, long bidId, int limit) {
+            int end = lowerBound(amount, bidId);
+            int count = Math.min(limit, end);
+            long[] page = new long[count];
+            for (int i = 0; i < count; i++) {
+                page[i] = items[end - 1 - i];
+            }
+            return page;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized boolean contains(long amount, long bidId) {
+            int at = lowerBound(amount, bidId);
+            return at < size && compareAt(at, amount, bidId) == 0;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(items, size);
+        }
+
+        // (amount, bidId) 이상인 첫 위치
+        private int lowerBound(long amount, long bidId) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareAt(mid, amount, bidId) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compareAt(int position, long amount, long bidId) {
+            long index = items[position];
+            int byAmount = Long.compare(eventLog.amount(index), amount);
+            return byAmount != 0 ? byAmount : Long.compare(eventLog.bidId(index), bidId);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 // com.auction.service.BidService.java
 package com.auction.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -11,9 +14,19 @@ public interface BidService {
     
     BidDto createBid(BidDto bidDto);
     
-    List<BidDto> getBidsByAuctionId(Long auctionId);
+    // 경매별 입찰 내역 한 페이지 ((bid_amount, id) 내림차순, before* 이 null이면 첫 페이지)
+    List<BidDto> getBidsByAuctionId(Long auctionId, Long beforeAmount, Long beforeId, int limit);
+
+    // 특정 시점까지의 입찰 이력 (분쟁 확인용)
+    List<BidDto> getBidsByAuctionIdAt(Long auctionId, LocalDateTime at);
     
-    List<BidDto> getBidsByUserId(Long userId);
+    // 사용자별 입찰 내역 한 페이지 ((bid_time, id) 내림차순)
+    List<BidDto> getBidsByUserId(Long userId, LocalDateTime beforeTime, Long beforeId, int limit);
+
+    // 전체 내역을 NDJSON(한 줄에 입찰 하나)으로 스트리밍
+    void exportBidsByAuctionId(Long auctionId, OutputStream out) throws IOException;
+
+    void exportBidsByUserId(Long userId, OutputStream out) throws IOException;
     
     Map<String, Object> getBidStats(Long auctionId);
 }
@@ -1,109 +1,134 @@
 package com.auction.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import com.auction.dto.AuctionDto;
+import com.auction.dto.BidAcceptedEvent;
 import com.auction.dto.BidDto;
 import com.auction.repository.BidRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class BidServiceImpl implements BidService {
+    private static final Logger logger = LoggerFactory.getLogger(BidServiceImpl.class);
+
     private final BidRepository bidRepository;
-    private final AuctionService auctionService;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final NotificationService notificationService;
+    private final AuctionEventBus auctionEventBus;
+    private final BidEngine bidEngine;
+    private final BidHistoryService bidHistoryService;
+    private final BidStatsService bidStatsService;
+    private final ObjectMapper objectMapper;
 
-    public BidServiceImpl(BidRepository bidRepository, AuctionService auctionService, 
-                         SimpMessagingTemplate messagingTemplate, NotificationService notificationService) {
+    public BidServiceImpl(BidRepository bidRepository, AuctionEventBus auctionEventBus,
+                         BidEngine bidEngine, BidHistoryService bidHistoryService,
+                         BidStatsService bidStatsService, ObjectMapper objectMapper) {
         this.bidRepository = bidRepository;
-        this.auctionService = auctionService;
-        this.messagingTemplate = messagingTemplate;
-        this.notificationService = notificationService;
+        this.auctionEventBus = auctionEventBus;
+        this.bidEngine = bidEngine;
+        this.bidHistoryService = bidHistoryService;
+        this.bidStatsService = bidStatsService;
+        this.objectMapper = objectMapper;
+        this.bidEngine.onAccepted(this::afterBidAccepted);
     }
 
     @Override
     public void saveBid(BidDto bid) {
-        // 입찰 저장
-        bidRepository.save(bid);
-        
-        // 경매 정보 업데이트 (최고가 갱신 및 입찰수 증가)
-        AuctionDto auction = auctionService.getAuctionById(bid.getAuctionId());
-        if (auction != null) {
-            Long highestBid = bidRepository.findHighestBidByAuctionId(bid.getAuctionId());
-            if (highestBid == null) highestBid = 0L;
-            auction.setHighestBid((int) Math.max(highestBid, auction.getStartPrice().longValue()));
-            
-            // 입찰수 증가
-            auctionService.incrementBidCount(bid.getAuctionId());
-            
-            // WebSocket으로 실시간 업데이트 전송
-            messagingTemplate.convertAndSend("/topic/auction-updates", auction);
-            
-            // 입찰 알림 전송 (경매 등록자에게)
-            notificationService.sendBidNotification(
-                bid.getAuctionId(), 
-                auction.getTitle(), 
-                bid.getBidder(), 
-                bid.getBidAmount()
-            );
-            // 자동입찰 기능은 추후 구현 예정
+        if (bid.getBidTime() == null) {
+            bid.setBidTime(LocalDateTime.now());
         }
+        // 입찰 엔진에서 수락/거절 (DB 반영은 엔진이 비동기로 처리)
+        bidEngine.placeBid(bid);
+    }
+
+    // 엔진이 입찰을 DB에 반영할 때 원장 스레드의 group commit 트랜잭션 안에서 호출된다 (이벤트는 입찰과 함께 커밋)
+    private void afterBidAccepted(BidEngine.AcceptedBid accepted) {
+        // 실시간 전송/통계/이력은 이벤트 버스 구독자가 처리 (다른 노드에도 전달)
+        // 입찰 알림은 group commit 트랜잭션에서 알림 아웃박스로 이미 기록되었다
+        auctionEventBus.publish(AuctionEventBus.BID_ACCEPTED, new BidAcceptedEvent(
+            accepted.getBidId(), accepted.getAuctionId(), accepted.getTitle(), accepted.getSellerId(), accepted.getBidder(),
+            accepted.getAmount(), accepted.getBidTime(), accepted.getBidCount(), accepted.getSequence(),
+            accepted.getEndTime(), accepted.isExtended()));
+        logger.debug("입찰 후처리 완료 - auctionId: {}, seq: {}", accepted.getAuctionId(), accepted.getSequence());
     }
 
     @Override
     public BidDto createBid(BidDto bidDto) {
-        // 경매 정보 조회
-        AuctionDto auction = auctionService.getAuctionById(bidDto.getAuctionId());
-        
-        // 즉시 구매가가 설정되어 있고, 입찰가가 즉시 구매가보다 높은 경우 예외 발생
-        if (auction.getBuyNowPrice() != null && bidDto.getBidAmount() >= auction.getBuyNowPrice()) {
-            throw new IllegalArgumentException("입찰 가격은 즉시 구매가보다 낮아야 합니다. 현재 즉시 구매가: " + auction.getBuyNowPrice());
-        }
-        
         // 입찰 시간 설정
         bidDto.setBidTime(LocalDateTime.now());
         
-        // 입찰 저장
+        // 입찰 저장 (즉시 구매가/최소 입찰가 검증은 엔진에서 수행)
         saveBid(bidDto);
         
         return bidDto;
     }
 
     @Override
-    public List<BidDto> getBidsByAuctionId(Long auctionId) {
-        return bidRepository.findByAuctionId(auctionId);
+    public List<BidDto> getBidsByAuctionId(Long auctionId, Long beforeAmount, Long beforeId, int limit) {
+        // 입찰 이력은 DB 대신 입찰 로그에서 조회
+        return bidHistoryService.getBidsPage(auctionId, beforeAmount, beforeId, limit);
     }
 
     @Override
-    public List<BidDto> getBidsByUserId(Long userId) {
-        return bidRepository.findByUserId(userId);
+    public List<BidDto> getBidsByAuctionIdAt(Long auctionId, LocalDateTime at) {
+        return bidHistoryService.getBidsAt(auctionId, at);
     }
 
     @Override
-    public Map<String, Object> getBidStats(Long auctionId) {
-        Map<String, Object> stats = new HashMap<>();
-        
-        List<BidDto> bids = getBidsByAuctionId(auctionId);
-        
-        stats.put("totalBids", bids.size());
-        stats.put("uniqueBidders", bids.stream().map(BidDto::getBidder).distinct().count());
-        
-        if (!bids.isEmpty()) {
-            stats.put("highestBid", bids.stream().mapToLong(BidDto::getBidAmount).max().orElse(0));
-            stats.put("lowestBid", bids.stream().mapToLong(BidDto::getBidAmount).min().orElse(0));
-            stats.put("averageBid", bids.stream().mapToLong(BidDto::getBidAmount).average().orElse(0));
-        } else {
-            stats.put("highestBid", 0);
-            stats.put("lowestBid", 0);
-            stats.put("averageBid", 0);
+    public List<BidDto> getBidsByUserId(Long userId, LocalDateTime beforeTime, Long beforeId, int limit) {
+        return bidRepository.findByUserIdPage(userId, beforeTime, beforeId, limit);
+    }
+
+    @Override
+    public void exportBidsByAuctionId(Long auctionId, OutputStream out) throws IOException {
+        export(out, callback -> bidRepository.streamByAuctionId(auctionId, callback));
+    }
+
+    @Override
+    public void exportBidsByUserId(Long userId, OutputStream out) throws IOException {
+        export(out, callback -> bidRepository.streamByUserId(userId, callback));
+    }
+
+    // ResultSet 에서 읽은 행을 바로 응답 스트림에 쓴다 (목록을 만들지 않음)
+    private void export(OutputStream out, Consumer<BidRepository.BidRowCallback> query) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 줄바꿈은 직접 쓰므로 최상위 값 사이의 기본 구분자(공백)는 넣지 않는다
+        generator.setRootValueSeparator(null);
+        try {
+            query.accept((id, auctionId, bidder, amount, bidTime) -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", id);
+                    generator.writeNumberField("auctionId", auctionId);
+                    generator.writeStringField("bidder", bidder);
+                    generator.writeNumberField("bidAmount", amount);
+                    generator.writeStringField("bidTime", bidTime.toString());
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            generator.flush();
         }
-        
-        return stats;
+    }
+
+    @Override
+    public Map<String, Object> getBidStats(Long auctionId) {
+        // 입찰마다 누적되는 집계에서 바로 응답
+        return bidStatsService.getStats(auctionId);
     }
 }
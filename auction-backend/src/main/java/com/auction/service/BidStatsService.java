@@ -0,0 +1,153 @@
+package com.auction.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.repository.StatisticsRepository;
+import com.auction.util.HyperLogLog;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 경매별 입찰 통계 (실시간 누적 집계).
+ * 입찰이 DB에 반영될 때마다 건수/합계/최저/최고/고유 입찰자 수를 O(1)로 갱신하고,
+ * 시작 시에는 입찰 로그를 재생해 복원하고 이후에는 로그에 기록되는 입찰을 받는다.
+ * 변경된 경매만 주기적으로 statistics 테이블에 반영한다.
+ */
+@Component
+public class BidStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(BidStatsService.class);
+
+    private static final int HLL_PRECISION = 12;
+
+    private final StatisticsRepository statisticsRepository;
+    private final int exactBidderLimit;
+
+    private final Map<Long, AuctionStats> stats = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher;
+
+    public BidStatsService(StatisticsRepository statisticsRepository,
+                           BidHistoryService bidHistoryService,
+                           @Value("${auction.stats.exact-bidder-limit:1024}") int exactBidderLimit,
+                           @Value("${auction.stats.flush-seconds:30}") long flushSeconds) {
+        this.statisticsRepository = statisticsRepository;
+        this.exactBidderLimit = exactBidderLimit;
+
+        // 입찰 로그에 새로 기록되는 입찰(다른 노드의 입찰, 시작 시 DB에서 따라잡은 입찰 포함)을 받아
+        // 로그와 같은 입찰을 정확히 한 번씩 센다
+        bidHistoryService.replayAndSubscribe((index, auctionId, bidderHash, amount, epochNanos, bidId, sequence) -> {
+            stats.computeIfAbsent(auctionId, id -> new AuctionStats()).add(amount, bidderHash);
+            dirty.add(auctionId);
+        });
+        logger.info("입찰 통계 복원 - 경매 {}건", stats.size());
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bid-stats-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    // /api/bids/stats/auction/{id} 응답 (기존 키 유지)
+    public Map<String, Object> getStats(Long auctionId) {
+        Map<String, Object> result = new HashMap<>();
+        AuctionStats auctionStats = stats.get(auctionId);
+        if (auctionStats == null) {
+            result.put("totalBids", 0);
+            result.put("uniqueBidders", 0L);
+            result.put("highestBid", 0);
+            result.put("lowestBid", 0);
+            result.put("averageBid", 0);
+            return result;
+        }
+        synchronized (auctionStats) {
+            result.put("totalBids", auctionStats.count);
+            result.put("uniqueBidders", auctionStats.uniqueBidders());
+            result.put("highestBid", auctionStats.max);
+            result.put("lowestBid", auctionStats.min);
+            result.put("averageBid", (double) auctionStats.sum / auctionStats.count);
+        }
+        return result;
+    }
+
+    // 변경된 경매 통계를 statistics 테이블에 반영
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        dirty.removeAll(ids);
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long auctionId : ids) {
+            AuctionStats auctionStats = stats.get(auctionId);
+            if (auctionStats == null) {
+                continue;
+            }
+            synchronized (auctionStats) {
+                args.add(new Object[] { auctionStats.count, auctionStats.uniqueBidders(), auctionStats.sum,
+                    auctionStats.min, auctionStats.max, auctionId });
+            }
+        }
+        try {
+            statisticsRepository.upsertBidStats(args);
+        } catch (Exception e) {
+            logger.error("입찰 통계 저장 실패 - {}건", args.size(), e);
+            dirty.addAll(ids);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    // 경매 하나의 누적 집계
+    private final class AuctionStats {
+        private int count;
+        private long sum;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        // 입찰자가 적을 때는 정확한 집합, 한도를 넘으면 HyperLogLog 로 전환
+        private Set<Long> exactBidders = new HashSet<>();
+        private HyperLogLog bidderSketch;
+
+        synchronized void add(long amount, long bidderHash) {
+            count++;
+            sum += amount;
+            min = Math.min(min, amount);
+            max = Math.max(max, amount);
+            if (bidderSketch != null) {
+                bidderSketch.add(bidderHash);
+                return;
+            }
+            exactBidders.add(bidderHash);
+            if (exactBidders.size() > exactBidderLimit) {
+                bidderSketch = new HyperLogLog(HLL_PRECISION);
+                for (Long hash : exactBidders) {
+                    bidderSketch.add(hash);
+                }
+                exactBidders = null;
+            }
+        }
+
+        long uniqueBidders() {
+            return bidderSketch != null ? bidderSketch.estimate() : exactBidders.size();
+        }
+    }
+}
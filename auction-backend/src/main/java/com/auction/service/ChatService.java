@@ -5,8 +5,8 @@ import com.auction.dto.ChatMessageDto;
 import com.auction.dto.ChatParticipantDto;
 import com.auction.repository.ChatRoomRepository;
 import com.auction.repository.ChatMessageRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,14 +16,18 @@ public class ChatService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final AuctionEventBus auctionEventBus;
 
     public ChatService(ChatRoomRepository chatRoomRepository, 
                       ChatMessageRepository chatMessageRepository,
-                      SimpMessagingTemplate messagingTemplate) {
+                      AuctionEventBus auctionEventBus,
+                      WebSocketFanOut webSocketFanOut) {
         this.chatRoomRepository = chatRoomRepository;
         this.chatMessageRepository = chatMessageRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.auctionEventBus = auctionEventBus;
+        // 채팅방 구독자가 다른 노드에 연결되어 있어도 전달
+        auctionEventBus.subscribe(AuctionEventBus.CHAT_MESSAGE_POSTED, ChatMessageDto.class,
+            (chatMessage, local) -> webSocketFanOut.convertAndSend("/topic/chat/" + chatMessage.getRoomId(), chatMessage, local));
     }
 
     // 채팅방 생성 또는 조회
@@ -50,23 +54,25 @@ public class ChatService {
     }
 
     // 메시지 전송
+    @Transactional
     public ChatMessageDto sendMessage(Long roomId, String senderId, String senderName, String message) {
         ChatMessageDto chatMessage = new ChatMessageDto(roomId, senderId, senderName, message);
         chatMessageRepository.save(chatMessage);
 
         // WebSocket으로 실시간 메시지 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, chatMessage);
+        auctionEventBus.publish(AuctionEventBus.CHAT_MESSAGE_POSTED, chatMessage);
 
         return chatMessage;
     }
 
     // 시스템 메시지 전송
+    @Transactional
     public ChatMessageDto sendSystemMessage(Long roomId, String message) {
         ChatMessageDto systemMessage = new ChatMessageDto(roomId, "SYSTEM", "시스템", message, "SYSTEM");
         chatMessageRepository.save(systemMessage);
 
         // WebSocket으로 실시간 시스템 메시지 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, systemMessage);
+        auctionEventBus.publish(AuctionEventBus.CHAT_MESSAGE_POSTED, systemMessage);
 
         return systemMessage;
     }
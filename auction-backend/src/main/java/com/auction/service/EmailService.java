@@ -85,6 +85,16 @@ public class EmailService {
         }
     }
 
+    // 알림 메일 (실패 시 예외를 그대로 던져 알림 아웃박스가 재시도하도록 한다)
+    public void sendNotificationEmail(String email, String subject, String text) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(email);
+        message.setSubject("[경매 시스템] " + subject);
+        message.setText(text);
+        mailSender.send(message);
+        logger.info("알림 메일 발송 성공: {}", email);
+    }
+
     private String generateVerificationCode() {
         Random random = new Random();
         StringBuilder code = new StringBuilder();
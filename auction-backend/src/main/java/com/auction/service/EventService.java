@@ -7,18 +7,23 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.EventDto;
 import com.auction.repository.EventRepository;
 
 @Service
 public class EventService {
     private final EventRepository eventRepository;
+    private final AuctionEventBus auctionEventBus;
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository, AuctionEventBus auctionEventBus) {
         this.eventRepository = eventRepository;
+        this.auctionEventBus = auctionEventBus;
     }
 
+    @Transactional
     public void createEvent(EventDto dto) {
         dto.setCreatedAt(LocalDateTime.now());
         dto.setViews(0); // 초기 조회수 0으로 설정
@@ -38,6 +43,7 @@ public class EventService {
             dto.setEndDate(LocalDate.now().plusDays(30)); // 기본 종료일 (30일 후)
         }
         eventRepository.save(dto);
+        changed();
     }
 
     public List<EventDto> getAllEvents() {
@@ -77,42 +83,57 @@ public class EventService {
         return event;
     }
 
+    @Transactional
     public void updateEvent(EventDto dto) {
         dto.setUpdatedAt(LocalDateTime.now());
         eventRepository.update(dto);
+        changed();
     }
 
+    @Transactional
     public void deleteEvent(Long id) {
         eventRepository.delete(id);
+        changed();
     }
 
+    @Transactional
     public void publishEvent(Long id) {
         EventDto event = eventRepository.findById(id);
         if (event != null) {
             event.setStatus("published");
             event.setUpdatedAt(LocalDateTime.now());
             eventRepository.update(event);
+            changed();
         }
     }
 
+    @Transactional
     public void unpublishEvent(Long id) {
         EventDto event = eventRepository.findById(id);
         if (event != null) {
             event.setStatus("draft");
             event.setUpdatedAt(LocalDateTime.now());
             eventRepository.update(event);
+            changed();
         }
     }
 
+    @Transactional
     public void toggleImportant(Long id) {
         EventDto event = eventRepository.findById(id);
         if (event != null) {
             event.setImportant(!event.isImportant());
             event.setUpdatedAt(LocalDateTime.now());
             eventRepository.update(event);
+            changed();
         }
     }
 
+    // 홈 화면 스냅샷 등 공개 내용 캐시에 변경을 알린다 (다른 노드 포함)
+    private void changed() {
+        auctionEventBus.publish(AuctionEventBus.CONTENT_CHANGED, new ContentChangedEvent(ContentChangedEvent.EVENT));
+    }
+
     // 통계 정보 반환
     public Map<String, Object> getEventStats() {
         Map<String, Object> stats = new HashMap<>();
@@ -6,18 +6,23 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.FAQDto;
 import com.auction.repository.FAQRepository;
 
 @Service
 public class FAQService {
     private final FAQRepository faqRepository;
+    private final AuctionEventBus auctionEventBus;
 
-    public FAQService(FAQRepository faqRepository) {
+    public FAQService(FAQRepository faqRepository, AuctionEventBus auctionEventBus) {
         this.faqRepository = faqRepository;
+        this.auctionEventBus = auctionEventBus;
     }
 
+    @Transactional
     public void createFAQ(FAQDto dto) {
         dto.setCreatedAt(LocalDateTime.now());
         dto.setViews(0); // 초기 조회수 0으로 설정
@@ -31,6 +36,7 @@ public class FAQService {
             dto.setCategory("general"); // 기본 카테고리
         }
         faqRepository.save(dto);
+        changed();
     }
 
     public List<FAQDto> getAllFAQs() {
@@ -66,42 +72,57 @@ public class FAQService {
         return faq;
     }
 
+    @Transactional
     public void updateFAQ(FAQDto dto) {
         dto.setUpdatedAt(LocalDateTime.now());
         faqRepository.update(dto);
+        changed();
     }
 
+    @Transactional
     public void deleteFAQ(Long id) {
         faqRepository.delete(id);
+        changed();
     }
 
+    @Transactional
     public void publishFAQ(Long id) {
         FAQDto faq = faqRepository.findById(id);
         if (faq != null) {
             faq.setStatus("published");
             faq.setUpdatedAt(LocalDateTime.now());
             faqRepository.update(faq);
+            changed();
         }
     }
 
+    @Transactional
     public void unpublishFAQ(Long id) {
         FAQDto faq = faqRepository.findById(id);
         if (faq != null) {
             faq.setStatus("draft");
             faq.setUpdatedAt(LocalDateTime.now());
             faqRepository.update(faq);
+            changed();
         }
     }
 
+    @Transactional
     public void toggleImportant(Long id) {
         FAQDto faq = faqRepository.findById(id);
         if (faq != null) {
             faq.setImportant(!faq.isImportant());
             faq.setUpdatedAt(LocalDateTime.now());
             faqRepository.update(faq);
+            changed();
         }
     }
 
+    // 홈 화면 스냅샷 등 공개 내용 캐시에 변경을 알린다 (다른 노드 포함)
+    private void changed() {
+        auctionEventBus.publish(AuctionEventBus.CONTENT_CHANGED, new ContentChangedEvent(ContentChangedEvent.FAQ));
+    }
+
     // 통계 정보 반환
     public Map<String, Object> getFAQStats() {
         Map<String, Object> stats = new HashMap<>();
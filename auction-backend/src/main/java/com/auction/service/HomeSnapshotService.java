@@ -0,0 +1,207 @@
+package com.auction.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.dto.AuctionDto;
+import com.auction.dto.ContentChangedEvent;
+import com.auction.dto.EventDto;
+import com.auction.dto.FAQDto;
+import com.auction.dto.NoticeDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 홈(/api/home)/대시보드(/api/dashboard) 응답 스냅샷.
+ * 경매/공지사항/FAQ/이벤트를 SectionLoader 로 병렬로 읽어 두 응답을 미리 JSON 바이트로 만들어 두고, 내용 해시를 ETag 로 쓴다.
+ * 경매는 전체 목록이 아니라 진행 중인 최신 경매만 LIMIT 조회로 읽는다.
+ * 요청은 메모리에 있는 바이트를 그대로 내려주거나 304 로 끝난다.
+ * 마감/내용 변경 이벤트가 오면 잠시 모았다가 다시 만들고, 입찰가/조회수 등은 주기적으로 다시 만들어 반영한다
+ * (입찰가는 클라이언트가 경매 토픽의 실시간 변경으로 받는다).
+ */
+@Component
+public class HomeSnapshotService {
+    private static final Logger logger = LoggerFactory.getLogger(HomeSnapshotService.class);
+
+    private static final int ACTIVE_AUCTIONS = 6;
+
+    private final AuctionService auctionService;
+    private final NoticeService noticeService;
+    private final FAQService faqService;
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+    private final SectionLoader sectionLoader;
+    private final long debounceMs;
+    private final int dashboardAuctions;
+
+    private volatile Snapshot home;
+    private volatile Snapshot dashboard;
+    // 이벤트로 다시 만들기가 예약되어 있으면 true (이벤트가 몰려도 한 번만 만든다)
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+    private Sections lastGood = new Sections(Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+    public HomeSnapshotService(AuctionService auctionService,
+                               NoticeService noticeService,
+                               FAQService faqService,
+                               EventService eventService,
+                               ObjectMapper objectMapper,
+                               SectionLoader sectionLoader,
+                               AuctionEventBus auctionEventBus,
+                               @Value("${auction.home.refresh-seconds:30}") long refreshSeconds,
+                               @Value("${auction.home.debounce-ms:1000}") long debounceMs,
+                               @Value("${auction.home.dashboard-auctions:100}") int dashboardAuctions) {
+        this.auctionService = auctionService;
+        this.noticeService = noticeService;
+        this.faqService = faqService;
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+        this.sectionLoader = sectionLoader;
+        this.debounceMs = debounceMs;
+        this.dashboardAuctions = Math.max(ACTIVE_AUCTIONS, dashboardAuctions);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "home-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshSeconds, TimeUnit.SECONDS);
+
+        auctionEventBus.subscribe(AuctionEventBus.AUCTION_CLOSED, AuctionClosedEvent.class, (event, local) -> requestRebuild());
+        auctionEventBus.subscribe(AuctionEventBus.CONTENT_CHANGED, ContentChangedEvent.class, (event, local) -> requestRebuild());
+    }
+
+    public Snapshot getHome() throws Exception {
+        Snapshot snapshot = home;
+        if (snapshot == null) {
+            rebuild();
+            snapshot = home;
+        }
+        return snapshot;
+    }
+
+    public Snapshot getDashboard() throws Exception {
+        Snapshot snapshot = dashboard;
+        if (snapshot == null) {
+            rebuild();
+            snapshot = dashboard;
+        }
+        return snapshot;
+    }
+
+    // debounceMs 뒤에 한 번 다시 만든다 (그 사이의 변경은 함께 반영)
+    public void requestRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                rebuildScheduled.set(false);
+                refresh();
+            }, debounceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 바로 다시 만든다 (실패하면 이전 스냅샷 유지)
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            logger.error("홈 스냅샷 생성 실패", e);
+        }
+    }
+
+    // 구역별 조회를 병렬로 실행해 두 스냅샷을 함께 만든다
+    // 실패한 구역은 이전 스냅샷의 값으로 채우고, 모든 구역이 실패하면 이전 스냅샷을 그대로 둔다
+    private synchronized void rebuild() throws Exception {
+        SectionLoader.Batch batch = sectionLoader.batch("home");
+        SectionLoader.Section<List<AuctionDto>> auctions = batch.add("auctions",
+            () -> auctionService.getLatestOpenAuctions(dashboardAuctions), lastGood.auctions);
+        SectionLoader.Section<List<NoticeDto>> notices = batch.add("notices", noticeService::getPublishedNotices, lastGood.notices);
+        SectionLoader.Section<List<FAQDto>> faqs = batch.add("faqs", faqService::getPublishedFAQs, lastGood.faqs);
+        SectionLoader.Section<List<EventDto>> events = batch.add("events", eventService::getPublishedEvents, lastGood.events);
+        SectionLoader.Section<List<EventDto>> ongoingEvents = batch.add("ongoingEvents", eventService::getOngoingEvents, lastGood.ongoingEvents);
+        batch.await();
+        if (batch.allDegraded()) {
+            throw new IllegalStateException("홈 스냅샷의 모든 구역 조회에 실패했습니다.");
+        }
+        logger.debug("홈 스냅샷 구역 조회 - {}", batch.timings());
+        lastGood = new Sections(auctions.get(), notices.get(), faqs.get(), events.get(), ongoingEvents.get());
+
+        Map<String, Object> dashboardData = new HashMap<>();
+        // 진행 중인 최신 경매 (auction.home.dashboard-auctions 건까지)
+        dashboardData.put("auctions", lastGood.auctions);
+        dashboardData.put("notices", lastGood.notices);
+        dashboardData.put("faqs", lastGood.faqs);
+        dashboardData.put("events", lastGood.events);
+
+        Map<String, Object> homeData = new HashMap<>();
+        // 활성 경매 (최신 6개, 조회 결과가 이미 진행 중인 경매 최신순)
+        homeData.put("activeAuctions", lastGood.auctions.subList(0, Math.min(ACTIVE_AUCTIONS, lastGood.auctions.size())));
+        // 중요 공지사항 (최신 3개)
+        homeData.put("importantNotices", lastGood.notices.stream()
+            .filter(notice -> notice.isImportant())
+            .limit(3)
+            .toList());
+        // 중요 FAQ (최신 5개)
+        homeData.put("importantFaqs", lastGood.faqs.stream()
+            .filter(faq -> faq.isImportant())
+            .limit(5)
+            .toList());
+        // 진행 중인 이벤트 (최신 3개)
+        homeData.put("ongoingEvents", lastGood.ongoingEvents.stream()
+            .limit(3)
+            .toList());
+
+        dashboard = new Snapshot(objectMapper.writeValueAsBytes(dashboardData));
+        home = new Snapshot(objectMapper.writeValueAsBytes(homeData));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    // 마지막으로 성공한 구역 값 (처음에는 빈 목록)
+    private static final class Sections {
+        private final List<AuctionDto> auctions;
+        private final List<NoticeDto> notices;
+        private final List<FAQDto> faqs;
+        private final List<EventDto> events;
+        private final List<EventDto> ongoingEvents;
+
+        Sections(List<AuctionDto> auctions, List<NoticeDto> notices, List<FAQDto> faqs,
+                 List<EventDto> events, List<EventDto> ongoingEvents) {
+            this.auctions = auctions;
+            this.notices = notices;
+            this.faqs = faqs;
+            this.events = events;
+            this.ongoingEvents = ongoingEvents;
+        }
+    }
+
+    // 미리 직렬화한 응답 본문과 ETag (내용이 같으면 ETag 도 같다)
+    public static final class Snapshot {
+        private final byte[] body;
+        private final String etag;
+
+        Snapshot(byte[] body) {
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+
+        public byte[] getBody() { return body; }
+        public String getEtag() { return etag; }
+    }
+}
@@ -0,0 +1,76 @@
+package com.auction.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 단일 노드용 이벤트 버스 (기본값).
+ * 발행한 스레드에서 구독자를 순서대로 호출한다. 구독자 하나의 예외는 다른 구독자에 영향을 주지 않는다.
+ * 트랜잭션 안에서 발행하면 커밋된 뒤에 호출해 구독자가 커밋되지 않은 상태를 보지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.event-bus.mode", havingValue = "local", matchIfMissing = true)
+public class LocalAuctionEventBus implements AuctionEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(LocalAuctionEventBus.class);
+
+    private final Map<String, Class<?>> payloadTypes = new ConcurrentHashMap<>();
+    private final Map<String, List<EventHandler<Object>>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String type, Object payload) {
+        afterCommit(() -> dispatch(type, payload, true));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void subscribe(String type, Class<T> payloadType, EventHandler<T> handler) {
+        Class<?> registered = payloadTypes.putIfAbsent(type, payloadType);
+        if (registered != null && registered != payloadType) {
+            throw new IllegalArgumentException("이벤트 " + type + "의 payload 타입이 다릅니다: "
+                + registered.getSimpleName() + " / " + payloadType.getSimpleName());
+        }
+        handlers.computeIfAbsent(type, t -> new CopyOnWriteArrayList<>()).add((EventHandler<Object>) handler);
+    }
+
+    // 이벤트 타입에 등록된 payload 타입 (구독자가 없으면 null)
+    protected Class<?> payloadType(String type) {
+        return payloadTypes.get(type);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 실행하고(롤백되면 실행하지 않음), 아니면 바로 실행한다
+    protected void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    protected void dispatch(String type, Object payload, boolean local) {
+        List<EventHandler<Object>> subscribers = handlers.get(type);
+        if (subscribers == null) {
+            return;
+        }
+        for (EventHandler<Object> handler : subscribers) {
+            try {
+                handler.handle(payload, local);
+            } catch (Exception e) {
+                logger.error("이벤트 처리 실패 - type: {}, local: {}", type, local, e);
+            }
+        }
+    }
+}
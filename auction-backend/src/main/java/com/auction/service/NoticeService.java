@@ -6,18 +6,23 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.auction.dto.ContentChangedEvent;
 import com.auction.dto.NoticeDto;
 import com.auction.repository.NoticeRepository;
 
 @Service
 public class NoticeService {
     private final NoticeRepository noticeRepository;
+    private final AuctionEventBus auctionEventBus;
 
-    public NoticeService(NoticeRepository noticeRepository) {
+    public NoticeService(NoticeRepository noticeRepository, AuctionEventBus auctionEventBus) {
         this.noticeRepository = noticeRepository;
+        this.auctionEventBus = auctionEventBus;
     }
 
+    @Transactional
     public void createNotice(NoticeDto dto) {
         dto.setCreatedAt(LocalDateTime.now());
         dto.setViews(0); // 초기 조회수 0으로 설정
@@ -31,6 +36,7 @@ public class NoticeService {
             dto.setCategory("general"); // 기본 카테고리
         }
         noticeRepository.save(dto);
+        changed();
     }
 
     public List<NoticeDto> getAllNotices() {
@@ -66,42 +72,57 @@ public class NoticeService {
         return notice;
     }
 
+    @Transactional
     public void updateNotice(NoticeDto dto) {
         dto.setUpdatedAt(LocalDateTime.now());
         noticeRepository.update(dto);
+        changed();
     }
 
+    @Transactional
     public void deleteNotice(Long id) {
         noticeRepository.delete(id);
+        changed();
     }
 
+    @Transactional
     public void publishNotice(Long id) {
         NoticeDto notice = noticeRepository.findById(id);
         if (notice != null) {
             notice.setStatus("published");
             notice.setUpdatedAt(LocalDateTime.now());
             noticeRepository.update(notice);
+            changed();
         }
     }
 
+    @Transactional
     public void unpublishNotice(Long id) {
         NoticeDto notice = noticeRepository.findById(id);
         if (notice != null) {
             notice.setStatus("draft");
             notice.setUpdatedAt(LocalDateTime.now());
             noticeRepository.update(notice);
+            changed();
         }
     }
 
+    @Transactional
     public void toggleImportant(Long id) {
         NoticeDto notice = noticeRepository.findById(id);
         if (notice != null) {
             notice.setImportant(!notice.isImportant());
             notice.setUpdatedAt(LocalDateTime.now());
             noticeRepository.update(notice);
+            changed();
         }
     }
 
+    // 홈 화면 스냅샷 등 공개 내용 캐시에 변경을 알린다 (다른 노드 포함)
+    private void changed() {
+        auctionEventBus.publish(AuctionEventBus.CONTENT_CHANGED, new ContentChangedEvent(ContentChangedEvent.NOTICE));
+    }
+
     // 통계 정보 반환
     public Map<String, Object> getNoticeStats() {
         Map<String, Object> stats = new HashMap<>();
@@ -0,0 +1,72 @@
+package com.auction.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.repository.NotificationRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 알림 보관 작업.
+ * 보관 기간(기본 90일)이 지난 알림을 batch 단위로 notifications_archive(연도별 파티션)로 옮겨
+ * notifications 테이블을 최근 알림만 남도록 작게 유지한다. batch 마다 짧은 트랜잭션으로 처리한다.
+ */
+@Component
+public class NotificationArchiver {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationArchiver.class);
+
+    private final NotificationRepository notificationRepository;
+    private final int retentionDays;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public NotificationArchiver(NotificationRepository notificationRepository,
+                                @Value("${auction.notification.archive.enabled:true}") boolean enabled,
+                                @Value("${auction.notification.archive.retention-days:90}") int retentionDays,
+                                @Value("${auction.notification.archive.batch-size:1000}") int batchSize,
+                                @Value("${auction.notification.archive.interval-minutes:60}") long intervalMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            this.scheduler.scheduleWithFixedDelay(this::archive, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        }
+    }
+
+    // 보관 기간이 지난 알림을 모두 옮기고 옮긴 건수를 반환
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int moved;
+            do {
+                moved = notificationRepository.archiveBefore(cutoff, batchSize);
+                total += moved;
+            } while (moved == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            logger.error("알림 보관 실패 - {}건 처리 후 중단", total, e);
+        }
+        if (total > 0) {
+            logger.info("알림 보관 - {}일 이전 알림 {}건 이동", retentionDays, total);
+        }
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,290 @@
+package com.auction.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.auction.dto.NotificationDto;
+import com.auction.dto.NotificationReadAllEvent;
+import com.auction.entity.Notification;
+import com.auction.repository.NotificationRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자별 알림함 캐시.
+ * 최근 알림 N건과 정확한 안 읽은 알림 수를 메모리에 두고, 알림 생성/읽음/전체 읽음 이벤트로 갱신한다.
+ * 처음 조회할 때 DB에서 한 번 채우고, TTL 동안 조회가 없는 사용자는 비운다.
+ * 최근 N건보다 오래된 페이지는 DB keyset 조회로 넘긴다.
+ * 이벤트는 커밋된 뒤에 모든 노드로 전달되므로 캐시에는 커밋된 변경만 반영된다.
+ */
+@Component
+public class NotificationInbox {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationInbox.class);
+
+    // 알림함 순서: (생성 시각, id) 내림차순 (DB keyset 과 같은 순서)
+    private static final Comparator<NotificationDto> NEWEST_FIRST = Comparator
+        .comparing(NotificationDto::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(NotificationDto::getId)
+        .reversed();
+
+    private final NotificationRepository notificationRepository;
+    private final int size;
+    private final long ttlMillis;
+
+    private final Map<String, Inbox> inboxes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public NotificationInbox(NotificationRepository notificationRepository,
+                             AuctionEventBus auctionEventBus,
+                             @Value("${auction.notification.inbox.size:50}") int size,
+                             @Value("${auction.notification.inbox.ttl-minutes:30}") long ttlMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.size = size;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-inbox-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.MINUTES);
+
+        // 아웃박스 디스패처가 커밋된 알림을 발행하므로 캐시에는 커밋된 알림만 들어온다
+        auctionEventBus.subscribe(AuctionEventBus.NOTIFICATION_CREATED, NotificationDto.class,
+            (dto, local) -> apply(dto));
+        // 전체 읽음은 처리 트랜잭션이 커밋된 뒤 모든 노드에 전달된다
+        auctionEventBus.subscribe(AuctionEventBus.NOTIFICATION_READ_ALL, NotificationReadAllEvent.class,
+            (event, local) -> markAllRead(event.getUserId(), event.getUpToId()));
+    }
+
+    public int getPageSize() {
+        return size;
+    }
+
+    // 알림 한 페이지 (최신순). 최근 N건 안이면 캐시에서, 그보다 오래된 페이지는 DB keyset 조회
+    public List<NotificationDto> getPage(String userId, Long beforeId, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<NotificationDto> cached = inbox(userId).page(beforeId, limit);
+        if (cached != null) {
+            return cached;
+        }
+        LocalDateTime beforeCreatedAt = null;
+        if (beforeId != null) {
+            beforeCreatedAt = notificationRepository.findCreatedAt(beforeId);
+            if (beforeCreatedAt == null) {
+                // 커서 알림이 삭제/보관됨
+                return Collections.emptyList();
+            }
+        }
+        List<Notification> rows = notificationRepository.findPageByUserId(userId, beforeCreatedAt, beforeId, limit);
+        List<NotificationDto> page = new ArrayList<>(rows.size());
+        for (Notification row : rows) {
+            page.add(row.toDto());
+        }
+        return page;
+    }
+
+    public int getUnreadCount(String userId) {
+        return inbox(userId).unreadCount();
+    }
+
+    private void markAllRead(String userId, long upToId) {
+        Inbox inbox = inboxes.get(userId);
+        if (inbox != null) {
+            inbox.markAllRead(upToId);
+        }
+    }
+
+    private void apply(NotificationDto dto) {
+        if (dto.getUserId() == null) {
+            return;
+        }
+        // 아직 채우지 않은 알림함은 처음 조회할 때 DB에서 이 알림까지 읽는다
+        Inbox inbox = inboxes.get(dto.getUserId());
+        if (inbox == null) {
+            return;
+        }
+        if (dto.getId() == null) {
+            inbox.invalidate();
+        } else if (dto.getIsRead() == 1) {
+            inbox.markRead(dto.getId());
+        } else {
+            inbox.add(dto);
+        }
+    }
+
+    private Inbox inbox(String userId) {
+        Inbox inbox = inboxes.computeIfAbsent(userId, Inbox::new);
+        inbox.touch();
+        return inbox;
+    }
+
+    private void sweep() {
+        long idleBefore = System.currentTimeMillis() - ttlMillis;
+        int before = inboxes.size();
+        inboxes.values().removeIf(inbox -> inbox.lastAccess < idleBefore);
+        if (before != inboxes.size()) {
+            logger.debug("알림함 캐시 정리 - {}명 → {}명", before, inboxes.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdown();
+    }
+
+    // 한 사용자의 알림함. 최근 알림은 NEWEST_FIRST 순서
+    private final class Inbox {
+        private final String userId;
+        private final List<NotificationDto> recent = new ArrayList<>();
+        private int unread;
+        // DB의 알림이 모두 recent 안에 있으면 true (오래된 페이지도 캐시에서 응답)
+        private boolean complete;
+        private boolean loaded;
+        // 전체 읽음으로 처리된 알림 id 상한. 이보다 늦게 도착한 이 범위의 알림 생성 이벤트는 이미 읽었을 수 있다
+        private long readAllUpToId;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        Inbox(String userId) {
+            this.userId = userId;
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+
+        private void load() {
+            if (loaded) {
+                return;
+            }
+            List<Notification> rows = notificationRepository.findPageByUserId(userId, null, null, size + 1);
+            recent.clear();
+            for (int i = 0; i < rows.size() && i < size; i++) {
+                recent.add(rows.get(i).toDto());
+            }
+            complete = rows.size() <= size;
+            unread = notificationRepository.countUnreadByUserId(userId);
+            loaded = true;
+        }
+
+        // 캐시로 응답할 수 없으면 null
+        synchronized List<NotificationDto> page(Long beforeId, int limit) {
+            load();
+            int from = 0;
+            if (beforeId != null) {
+                from = indexOf(beforeId) + 1;
+                if (from == 0) {
+                    // 커서가 캐시 범위 밖
+                    return null;
+                }
+            }
+            int to = Math.min(recent.size(), from + limit);
+            if (to - from < limit && !complete) {
+                return null;
+            }
+            return new ArrayList<>(recent.subList(from, to));
+        }
+
+        synchronized int unreadCount() {
+            load();
+            return unread;
+        }
+
+        synchronized void add(NotificationDto dto) {
+            if (!loaded) {
+                return;
+            }
+            if (indexOf(dto.getId()) >= 0) {
+                // 처음 채울 때 이미 읽어 온 알림
+                return;
+            }
+            if (dto.getId() <= readAllUpToId) {
+                // 전체 읽음보다 먼저 만들어졌지만 이벤트가 늦게 도착한 알림은 읽음 여부를 DB에서 다시 읽는다
+                invalidate();
+                return;
+            }
+            int index = 0;
+            while (index < recent.size() && NEWEST_FIRST.compare(recent.get(index), dto) < 0) {
+                index++;
+            }
+            if (index == recent.size() && !complete) {
+                // 캐시 범위보다 오래된 알림이라 읽음 여부 추적은 DB에 맡긴다
+                invalidate();
+                return;
+            }
+            recent.add(index, dto);
+            unread++;
+            if (recent.size() > size) {
+                recent.remove(recent.size() - 1);
+                complete = false;
+            }
+        }
+
+        synchronized void markRead(Long id) {
+            if (!loaded) {
+                return;
+            }
+            int index = indexOf(id);
+            if (index >= 0) {
+                NotificationDto dto = recent.get(index);
+                if (dto.getIsRead() == 0) {
+                    dto.setIsRead(1);
+                    unread = Math.max(0, unread - 1);
+                }
+                return;
+            }
+            if (!complete) {
+                // 캐시 범위 밖의 알림은 원래 읽음 여부를 모르므로 다음 조회 때 다시 채운다
+                invalidate();
+            }
+        }
+
+        synchronized void markAllRead(long upToId) {
+            readAllUpToId = Math.max(readAllUpToId, upToId);
+            if (!loaded) {
+                return;
+            }
+            int remaining = 0;
+            for (NotificationDto dto : recent) {
+                if (dto.getId() <= upToId) {
+                    dto.setIsRead(1);
+                } else if (dto.getIsRead() == 0) {
+                    remaining++;
+                }
+            }
+            if (remaining > 0 && !complete) {
+                // 기준 이후의 안 읽은 알림이 캐시 범위 밖에도 있을 수 있으므로 다시 센다
+                invalidate();
+                return;
+            }
+            unread = remaining;
+        }
+
+        synchronized void invalidate() {
+            loaded = false;
+        }
+
+        private int indexOf(Long id) {
+            for (int i = 0; i < recent.size(); i++) {
+                if (recent.get(i).getId().equals(id)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.auction.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auction.dto.NotificationDto;
+import com.auction.entity.User;
+import com.auction.repository.NotificationOutboxRepository;
+import com.auction.repository.NotificationOutboxRepository.OutboxEntry;
+import com.auction.repository.NotificationRepository;
+import com.auction.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 알림 아웃박스.
+ * 알림 저장과 같은 트랜잭션에서 notification_outbox 에 전송할 부수 효과(WebSocket, 이메일)를 기록하고,
+ * 디스패처가 배치로 가져가(SKIP LOCKED) 스레드 풀에서 전송한다. 실패하면 지수 백오프로 재시도하고
+ * 최대 횟수를 넘기면 DEAD 로 남긴다. 같은 사용자의 알림은 한 스레드에서 순서대로 전송한다.
+ */
+@Component
+public class NotificationOutbox {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+
+    static final String CHANNEL_WS = "WS";
+    static final String CHANNEL_EMAIL = "EMAIL";
+
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final AuctionEventBus auctionEventBus;
+    private final EmailService emailService;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    // 이메일도 보낼 알림 종류 (비어 있으면 이메일 없음)
+    private final Set<String> emailTypes;
+
+    private final ScheduledExecutorService poller;
+    private final ExecutorService dispatchers;
+
+    public NotificationOutbox(NotificationRepository notificationRepository,
+                              NotificationOutboxRepository notificationOutboxRepository,
+                              AuctionEventBus auctionEventBus,
+                              EmailService emailService,
+                              UserRepository userRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${auction.notification.dispatch-threads:4}") int dispatchThreads,
+                              @Value("${auction.notification.poll-ms:50}") long pollMs,
+                              @Value("${auction.notification.batch-size:200}") int batchSize,
+                              @Value("${auction.notification.max-attempts:8}") int maxAttempts,
+                              @Value("${auction.notification.lease-seconds:30}") long leaseSeconds,
+                              @Value("${auction.notification.email-types:}") String emailTypes) {
+        this.notificationRepository = notificationRepository;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.auctionEventBus = auctionEventBus;
+        this.emailService = emailService;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.emailTypes = Arrays.stream(emailTypes.split(","))
+            .map(String::trim)
+            .filter(type -> !type.isEmpty())
+            .collect(Collectors.toSet());
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.dispatchers = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::poll, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 알림 저장 + 아웃박스 기록 (호출한 쪽 트랜잭션이 있으면 참여)
+    @Transactional
+    public void enqueue(List<NotificationDto> notifications) {
+        write(notifications);
+    }
+
+    // 알림 저장 없이 WebSocket 전송만 기록 (읽음 처리 등)
+    @Transactional
+    public void enqueuePush(NotificationDto dto) {
+        notificationOutboxRepository.insertAll(Collections.singletonList(
+            new Object[] { CHANNEL_WS, dto.getUserId(), toJson(dto) }));
+    }
+
+    // 이미 열린 트랜잭션 안에서 호출한다 (입찰 group commit 등). 프록시를 거치지 않으므로 롤백 표시를 남기지 않는다
+    void write(List<NotificationDto> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationDto dto : notifications) {
+            if (dto.getCreatedAt() == null) {
+                dto.setCreatedAt(now);
+            }
+        }
+        // 먼저 저장해 생성된 id 를 전송 payload 에 담는다 (클라이언트 읽음 처리용)
+        notificationRepository.saveAll(notifications);
+        List<Object[]> outbox = new ArrayList<>(notifications.size());
+        for (NotificationDto dto : notifications) {
+            String payload = toJson(dto);
+            outbox.add(new Object[] { CHANNEL_WS, dto.getUserId(), payload });
+            if (emailTypes.contains(dto.getType())) {
+                outbox.add(new Object[] { CHANNEL_EMAIL, dto.getUserId(), payload });
+            }
+        }
+        notificationOutboxRepository.insertAll(outbox);
+    }
+
+    private String toJson(NotificationDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (Exception e) {
+            throw new IllegalStateException("알림 직렬화 실패", e);
+        }
+    }
+
+    private void poll() {
+        try {
+            List<OutboxEntry> entries;
+            do {
+                entries = notificationOutboxRepository.claimDue(batchSize, leaseSeconds);
+                if (!entries.isEmpty()) {
+                    dispatch(entries);
+                }
+            } while (entries.size() == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("알림 아웃박스 처리 실패", e);
+        }
+    }
+
+    private void dispatch(List<OutboxEntry> entries) throws InterruptedException {
+        Map<String, List<OutboxEntry>> byUser = new LinkedHashMap<>();
+        for (OutboxEntry entry : entries) {
+            byUser.computeIfAbsent(entry.getUserId(), userId -> new ArrayList<>()).add(entry);
+        }
+        List<Long> delivered = Collections.synchronizedList(new ArrayList<>(entries.size()));
+        List<Object[]> failed = Collections.synchronizedList(new ArrayList<>());
+        List<Callable<Void>> tasks = new ArrayList<>(byUser.size());
+        for (List<OutboxEntry> userEntries : byUser.values()) {
+            tasks.add(() -> {
+                for (OutboxEntry entry : userEntries) {
+                    try {
+                        deliver(entry);
+                        delivered.add(entry.getId());
+                    } catch (Exception e) {
+                        failed.add(failure(entry, e));
+                    }
+                }
+                return null;
+            });
+        }
+        dispatchers.invokeAll(tasks);
+        notificationOutboxRepository.deleteAll(delivered);
+        notificationOutboxRepository.markFailed(failed);
+        if (!failed.isEmpty()) {
+            logger.warn("알림 전송 실패 {}건 (재시도 예약), 성공 {}건", failed.size(), delivered.size());
+        }
+    }
+
+    private void deliver(OutboxEntry entry) throws Exception {
+        NotificationDto dto = objectMapper.readValue(entry.getPayload(), NotificationDto.class);
+        if (CHANNEL_WS.equals(entry.getChannel())) {
+            // 실시간 전송은 이벤트 버스 구독자가 처리 (다른 노드에 연결된 사용자 포함)
+            auctionEventBus.publish(AuctionEventBus.NOTIFICATION_CREATED, dto);
+        } else if (CHANNEL_EMAIL.equals(entry.getChannel())) {
+            String email = findEmail(entry.getUserId());
+            if (email != null) {
+                emailService.sendNotificationEmail(email, dto.getTitle(), dto.getMessage());
+            }
+        } else {
+            logger.warn("알 수 없는 알림 채널 - id: {}, channel: {}", entry.getId(), entry.getChannel());
+        }
+    }
+
+    private String findEmail(String userId) {
+        try {
+            return userRepository.findById(Long.valueOf(userId)).map(User::getEmail).orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // args: attempts, 재시도까지 초, status, last_error, id
+    private Object[] failure(OutboxEntry entry, Exception e) {
+        int attempts = entry.getAttempts() + 1;
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts, 20));
+        String status = attempts >= maxAttempts ? "DEAD" : "PENDING";
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        if ("DEAD".equals(status)) {
+            logger.error("알림 전송 포기 - id: {}, channel: {}, userId: {}", entry.getId(), entry.getChannel(), entry.getUserId(), e);
+        }
+        return new Object[] { attempts, backoff, status, error, entry.getId() };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+        try {
+            poller.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatchers.shutdown();
+    }
+}
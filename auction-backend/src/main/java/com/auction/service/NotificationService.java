@@ -9,6 +9,7 @@ public interface NotificationService {
     void sendAuctionEndNotification(Long auctionId, String title, String winner, Long sellerId);
     void sendBuyNowNotification(Long auctionId, String title, String buyer);
     List<NotificationDto> getUserNotifications(String userId);
+    List<NotificationDto> getUserNotifications(String userId, Long beforeId, int limit);
     int getUnreadCount(String userId);
     void markAsRead(Long id);
     void markAllAsRead(String userId);
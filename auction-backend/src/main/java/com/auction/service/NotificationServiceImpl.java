@@ -1,19 +1,26 @@
 package com.auction.service;
 
 import com.auction.dto.AuctionDto;
+import com.auction.dto.BidDto;
 import com.auction.dto.NotificationDto;
+import com.auction.dto.NotificationReadAllEvent;
 import com.auction.entity.Notification;
 import com.auction.entity.NotificationType;
 import com.auction.repository.NotificationRepository;
+import com.auction.repository.NotificationRepository.AuctionSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -25,16 +32,29 @@ public class NotificationServiceImpl implements NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
 
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationInbox notificationInbox;
     private final AuctionService auctionService;
+    private final AuctionEventBus auctionEventBus;
 
     @Autowired
     public NotificationServiceImpl(NotificationRepository notificationRepository,
-                                 SimpMessagingTemplate messagingTemplate,
+                                 NotificationOutbox notificationOutbox,
+                                 NotificationInbox notificationInbox,
+                                 AuctionEventBus auctionEventBus,
+                                 WebSocketFanOut webSocketFanOut,
+                                 BidLedger bidLedger,
                                  @Lazy AuctionService auctionService) {
         this.notificationRepository = notificationRepository;
-        this.messagingTemplate = messagingTemplate;
+        this.notificationOutbox = notificationOutbox;
+        this.notificationInbox = notificationInbox;
         this.auctionService = auctionService;
+        this.auctionEventBus = auctionEventBus;
+        // 입찰 알림은 입찰 group commit 트랜잭션에서 아웃박스와 함께 기록 (입찰 응답 경로에서 알림 작업 제거)
+        bidLedger.onCommitting(this::writeBidNotifications);
+        // 알림 실시간 전송은 이벤트 버스 구독자가 처리 (사용자가 다른 노드에 연결되어 있어도 전달)
+        auctionEventBus.subscribe(AuctionEventBus.NOTIFICATION_CREATED, NotificationDto.class,
+            (dto, local) -> webSocketFanOut.convertAndSend("/topic/notifications/" + dto.getUserId(), dto, local));
     }
 
     @Override
@@ -43,16 +63,9 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending notification to user: {}, type: {}, message: {}", userId, dto.getType(), dto.getMessage());
             dto.setUserId(userId);
             
-            // Save to database
-            Notification notification = new Notification(dto);
-            Notification savedNotification = notificationRepository.save(notification);
-            logger.info("Notification saved to database with ID: {}", savedNotification.getId());
-
-            // Send via WebSocket
-            String destination = "/topic/notifications/" + userId;
-            logger.info("Sending WebSocket message to destination: {}", destination);
-            messagingTemplate.convertAndSend(destination, dto);
-            logger.info("WebSocket message sent successfully");
+            // 알림 저장과 전송 예약(아웃박스)을 한 트랜잭션으로 기록, 전송은 디스패처가 처리
+            notificationOutbox.enqueue(Collections.singletonList(dto));
+            logger.info("Notification saved and queued for delivery");
             
         } catch (Exception e) {
             logger.error("Error in sendNotification for user {}: {}", userId, e.getMessage(), e);
@@ -65,35 +78,39 @@ public class NotificationServiceImpl implements NotificationService {
         String winnerUserId = winner;
         String sellerUserId = sellerId.toString();
         List<String> bidders = notificationRepository.findBiddersByAuctionId(auctionId);
+        List<NotificationDto> notifications = new ArrayList<>(bidders.size() + 1);
 
         for (String bidder : bidders) {
-    NotificationType type = bidder.equals(winnerUserId) ? NotificationType.WIN : NotificationType.LOSE;
-    String msg = bidder.equals(winnerUserId)
-            ? String.format("🏆 '%s' 경매에서 낙찰되었습니다!", title)
-            : String.format("😢 '%s' 경매에서 패찰되었습니다. 낙찰자: %s", title, winnerUserId);
-    String notiTitle = type == NotificationType.WIN ? "낙찰 알림" : "패찰 알림";
-    NotificationDto dto = NotificationDto.builder()
-            .auctionId(auctionId)
-            .title(notiTitle)
-            .userId(bidder)
-            .type(type.name())
-            .message(msg)
-            .sellerId(Long.valueOf(sellerUserId))
-            .build();
-    sendNotification(bidder, dto);
-}
+            NotificationType type = bidder.equals(winnerUserId) ? NotificationType.WIN : NotificationType.LOSE;
+            String msg = bidder.equals(winnerUserId)
+                    ? String.format("🏆 '%s' 경매에서 낙찰되었습니다!", title)
+                    : String.format("😢 '%s' 경매에서 패찰되었습니다. 낙찰자: %s", title, winnerUserId);
+            String notiTitle = type == NotificationType.WIN ? "낙찰 알림" : "패찰 알림";
+            notifications.add(NotificationDto.builder()
+                    .auctionId(auctionId)
+                    .title(notiTitle)
+                    .userId(bidder)
+                    .type(type.name())
+                    .message(msg)
+                    .sellerId(Long.valueOf(sellerUserId))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
 
-if (sellerUserId != null && !sellerUserId.equals(winnerUserId)) {
-    NotificationDto sellerNotice = NotificationDto.builder()
-            .auctionId(auctionId)
-            .title("판매 완료")
-            .userId(sellerUserId)
-            .type(NotificationType.SOLD.name())
-            .message(String.format("📦 '%s' 경매가 마감되었습니다. 낙찰자: %s", title, winnerUserId))
-            .sellerId(Long.valueOf(sellerUserId))
-            .build();
-    sendNotification(sellerUserId, sellerNotice);
-}
+        if (sellerUserId != null && !sellerUserId.equals(winnerUserId)) {
+            notifications.add(NotificationDto.builder()
+                    .auctionId(auctionId)
+                    .title("판매 완료")
+                    .userId(sellerUserId)
+                    .type(NotificationType.SOLD.name())
+                    .message(String.format("📦 '%s' 경매가 마감되었습니다. 낙찰자: %s", title, winnerUserId))
+                    .sellerId(Long.valueOf(sellerUserId))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        // 입찰자 수만큼 INSERT 하지 않고 한 번에 저장 (실시간 전송은 아웃박스 디스패처가 처리)
+        notificationOutbox.enqueue(notifications);
     }
 
     @Override
@@ -118,8 +135,6 @@ if (sellerUserId != null && !sellerUserId.equals(winnerUserId)) {
     .message(String.format("✅ '%s' 즉시구매가 완료되었습니다!", title))
     .sellerId(Long.valueOf(sellerUserId))
     .build();
-sendNotification(buyerUserId, buyerNotice);
-            logger.info("Buy now notification sent to buyer {} for auction {}", buyerUserId, auctionId);
 
             // Always send notification to the seller, even if they are the buyer
             NotificationDto sellerNotice = NotificationDto.builder()
@@ -131,8 +146,10 @@ sendNotification(buyerUserId, buyerNotice);
                     sellerUserId.equals(buyerUserId) ? "본인" : buyerUserId))
                 .sellerId(Long.valueOf(sellerUserId))
                 .build();
-            sendNotification(sellerUserId, sellerNotice);
-            logger.info("Sale notification sent to seller {} for auction {}", sellerUserId, auctionId);
+
+            // 구매자/판매자 알림을 한 번에 저장
+            notificationOutbox.enqueue(List.of(buyerNotice, sellerNotice));
+            logger.info("Buy now notifications queued for buyer {} and seller {} (auction {})", buyerUserId, sellerUserId, auctionId);
             
         } catch (Exception e) {
             logger.error("Error sending buy now notification: ", e);
@@ -141,15 +158,18 @@ sendNotification(buyerUserId, buyerNotice);
 
     @Override
     public List<NotificationDto> getUserNotifications(String userId) {
-        List<Notification> list = notificationRepository.findByUserId(userId);
-        return list.stream()
-                .map(Notification::toDto)
-                .collect(Collectors.toList());
+        return getUserNotifications(userId, null, notificationInbox.getPageSize());
+    }
+
+    @Override
+    public List<NotificationDto> getUserNotifications(String userId, Long beforeId, int limit) {
+        // 최근 알림은 알림함 캐시에서, 오래된 페이지는 DB keyset 조회
+        return notificationInbox.getPage(userId, beforeId, limit);
     }
 
     @Override
     public int getUnreadCount(String userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return notificationInbox.getUnreadCount(userId);
     }
 
     @Override
@@ -168,10 +188,10 @@ sendNotification(buyerUserId, buyerNotice);
                 notificationRepository.markAsRead(id);
                 logger.debug("Marked notification as read: {}", id);
                 
-                // Send WebSocket update if needed
+                // 읽음 상태 전송 예약: 커밋된 뒤 디스패처가 발행해 모든 노드의 알림함 캐시와 클라이언트에 반영
                 NotificationDto dto = convertToDto(notification);
                 dto.setIsRead(1);
-                messagingTemplate.convertAndSend("/topic/notifications/" + notification.getUserId(), dto);
+                notificationOutbox.enqueuePush(dto);
             }
         } catch (Exception e) {
             logger.error("Error marking notification {} as read: {}", id, e.getMessage(), e);
@@ -180,18 +200,17 @@ sendNotification(buyerUserId, buyerNotice);
     }
 
     @Override
+    @Transactional
     public void markAllAsRead(String userId) {
-        notificationRepository.markAllAsRead(userId);
+        long upToId = notificationRepository.markAllAsRead(userId);
+        // 커밋된 뒤 모든 노드의 알림함 캐시에 반영
+        auctionEventBus.publish(AuctionEventBus.NOTIFICATION_READ_ALL, new NotificationReadAllEvent(userId, upToId));
     }
 
     @Override
     public void saveAndNotify(NotificationDto dto) {
-        // Save the notification to database
-        Notification notification = new Notification(dto);
-        notificationRepository.save(notification);
-        
-        // Send real-time notification via WebSocket
-        messagingTemplate.convertAndSend("/topic/notifications/" + dto.getUserId(), dto);
+        // Save the notification and queue real-time delivery in one transaction
+        notificationOutbox.enqueue(Collections.singletonList(dto));
     }
 
     @Override
@@ -236,39 +255,61 @@ sendNotification(buyerUserId, buyerNotice);
                 return;
             }
 
-            String sellerId = String.valueOf(auction.getUserId());
-            
-            // Always send notification to the seller, even if they are the bidder
-            String sellerMessage = bidder.equals(sellerId) 
-                ? "💡 본인 상품에 " + String.format("%,d", amount) + "원으로 입찰하셨습니다."
-                : "💰 새 입찰: '" + title + "'에 " + String.format("%,d", amount) + "원에 입찰되었습니다.";
-                
-            NotificationDto sellerNotice = NotificationDto.builder()
-                .auctionId(auctionId)
-                .title(bidder.equals(sellerId) ? "본인 입찰 알림" : "새 입찰 알림")
-                .userId(sellerId)
-                .type("NEW_BID")
-                .message(sellerMessage)
-                .sellerId(Long.valueOf(sellerId))
-                .build();
-            sendNotification(sellerId, sellerNotice);
-            logger.info("Bid notification sent to seller {} for auction {}", sellerId, auctionId);
-            
-            // Also send a notification to the bidder (optional)
-            NotificationDto bidderNotice = NotificationDto.builder()
-                .auctionId(auctionId)
-                .title(title)
-                .userId(bidder)
-                .type("BID_PLACED")
-                .message("✅ '" + title + "'에 " + String.format("%,d", amount) + "원으로 입찰하셨습니다.")
-                .isRead(0)
-                .build();
-            sendNotification(bidder, bidderNotice);
-            logger.info("Bid confirmation sent to bidder {} for auction {}", bidder, auctionId);
-            
+            List<NotificationDto> notifications = new ArrayList<>(2);
+            addBidNotifications(auctionId, title, String.valueOf(auction.getUserId()), bidder, amount, notifications);
+            notificationOutbox.enqueue(notifications);
+            logger.info("Bid notifications queued for auction {}", auctionId);
+
         } catch (Exception e) {
             logger.error("Error sending bid notification: ", e);
         }
     }
 
-}
\ No newline at end of file
+    // 입찰 group commit 트랜잭션 안에서 호출된다 (경매 정보는 배치당 한 번 조회)
+    private void writeBidNotifications(List<BidDto> bids) {
+        Set<Long> auctionIds = new HashSet<>();
+        for (BidDto bid : bids) {
+            auctionIds.add(bid.getAuctionId());
+        }
+        Map<Long, AuctionSummary> auctions = notificationRepository.findAuctionSummaries(auctionIds);
+        List<NotificationDto> notifications = new ArrayList<>(bids.size() * 2);
+        for (BidDto bid : bids) {
+            AuctionSummary auction = auctions.get(bid.getAuctionId());
+            if (auction == null || auction.getSellerId() == null) {
+                continue;
+            }
+            addBidNotifications(bid.getAuctionId(), auction.getTitle(), String.valueOf(auction.getSellerId()),
+                bid.getBidder(), bid.getBidAmount(), notifications);
+        }
+        notificationOutbox.write(notifications);
+    }
+
+    // 판매자에게 새 입찰 알림, 입찰자에게 입찰 확인 알림
+    private void addBidNotifications(Long auctionId, String title, String sellerId, String bidder, Long amount,
+                                     List<NotificationDto> out) {
+        // Always send notification to the seller, even if they are the bidder
+        String sellerMessage = bidder.equals(sellerId)
+            ? "💡 본인 상품에 " + String.format("%,d", amount) + "원으로 입찰하셨습니다."
+            : "💰 새 입찰: '" + title + "'에 " + String.format("%,d", amount) + "원에 입찰되었습니다.";
+
+        out.add(NotificationDto.builder()
+            .auctionId(auctionId)
+            .title(bidder.equals(sellerId) ? "본인 입찰 알림" : "새 입찰 알림")
+            .userId(sellerId)
+            .type(NotificationType.NEW_BID.name())
+            .message(sellerMessage)
+            .sellerId(Long.valueOf(sellerId))
+            .build());
+
+        // Also send a notification to the bidder (optional)
+        out.add(NotificationDto.builder()
+            .auctionId(auctionId)
+            .title(title)
+            .userId(bidder)
+            .type(NotificationType.BID_PLACED.name())
+            .message("✅ '" + title + "'에 " + String.format("%,d", amount) + "원으로 입찰하셨습니다.")
+            .isRead(0)
+            .build());
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.auction.service;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.auction.repository.AuctionEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 노드용 이벤트 버스 (auction.event-bus.mode=outbox).
+ * 이벤트는 발행한 스레드의 트랜잭션 안에서 auction_events 아웃박스에 기록되어 상태 변경과 함께 커밋/롤백되고,
+ * 발행한 노드의 구독자는 커밋된 뒤에 호출된다 (트랜잭션 밖에서 발행하면 바로 기록하고 호출).
+ * 폴링 스레드가 순번이 없는 이벤트에 SKIP LOCKED 로 seq 를 매기고, 각 노드는 자기 커서 이후의 이벤트를
+ * seq 순서대로 읽어 다른 노드가 발행한 것만 구독자에게 local=false 로 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.event-bus.mode", havingValue = "outbox")
+public class OutboxAuctionEventBus extends LocalAuctionEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxAuctionEventBus.class);
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+    private static final int PURGE_LIMIT = 10_000;
+
+    private final AuctionEventRepository auctionEventRepository;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final int batchSize;
+    private final long retentionMinutes;
+
+    private final ScheduledExecutorService poller;
+    // 아래 필드는 폴링 스레드에서만 접근한다
+    private long cursor;
+    private long lastPurgeAt;
+
+    public OutboxAuctionEventBus(AuctionEventRepository auctionEventRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${auction.event-bus.node-id:}") String nodeId,
+                                 @Value("${auction.event-bus.poll-ms:100}") long pollMs,
+                                 @Value("${auction.event-bus.batch-size:500}") int batchSize,
+                                 @Value("${auction.event-bus.retention-minutes:60}") long retentionMinutes) {
+        this.auctionEventRepository = auctionEventRepository;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId.isEmpty() ? defaultNodeId() : nodeId;
+        this.batchSize = batchSize;
+        this.retentionMinutes = retentionMinutes;
+        // 시작 전 이벤트는 DB 상태에 이미 반영되어 있으므로 현재 끝부터 읽는다
+        this.cursor = auctionEventRepository.findMaxSequence();
+        this.lastPurgeAt = System.currentTimeMillis();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-bus-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::poll, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        logger.info("아웃박스 이벤트 버스 시작 - node: {}, cursor: {}", this.nodeId, cursor);
+    }
+
+    @Override
+    public void publish(String type, Object payload) {
+        String json = null;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            logger.error("이벤트 직렬화 실패, 이 노드에만 전달 - type: {}", type, e);
+        }
+        if (json != null) {
+            auctionEventRepository.insert(type, json, nodeId);
+        }
+        afterCommit(() -> dispatch(type, payload, true));
+    }
+
+    private void poll() {
+        try {
+            int sequenced;
+            do {
+                sequenced = auctionEventRepository.assignSequences(batchSize);
+            } while (sequenced == batchSize);
+            deliverRemote();
+            purgeIfDue();
+        } catch (Exception e) {
+            logger.error("이벤트 버스 폴링 실패 - node: {}", nodeId, e);
+        }
+    }
+
+    private void deliverRemote() {
+        List<AuctionEventRepository.StoredEvent> events;
+        do {
+            events = auctionEventRepository.findAfter(cursor, batchSize);
+            for (AuctionEventRepository.StoredEvent event : events) {
+                cursor = event.getSeq();
+                if (nodeId.equals(event.getOriginNode())) {
+                    continue;
+                }
+                Class<?> payloadType = payloadType(event.getType());
+                if (payloadType == null) {
+                    continue;
+                }
+                try {
+                    dispatch(event.getType(), objectMapper.readValue(event.getPayload(), payloadType), false);
+                } catch (Exception e) {
+                    logger.error("이벤트 역직렬화 실패 - seq: {}, type: {}", event.getSeq(), event.getType(), e);
+                }
+            }
+        } while (events.size() == batchSize);
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeAt < PURGE_INTERVAL_MS) {
+            return;
+        }
+        lastPurgeAt = now;
+        int deleted = auctionEventRepository.deleteBefore(LocalDateTime.now().minusMinutes(retentionMinutes), PURGE_LIMIT);
+        if (deleted > 0) {
+            logger.info("오래된 이벤트 정리 - {}건", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+        try {
+            poller.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        String id = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return id.length() > 64 ? id.substring(id.length() - 64) : id;
+    }
+}
@@ -0,0 +1,88 @@
+package com.auction.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.auction.dto.ContentChangedEvent;
+import com.auction.util.LruTtlCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 공개 공지사항/FAQ/이벤트 목록 캐시.
+ * 종류(notice/faq/event)별로 목록(공개, 진행 중, 카테고리별)을 JSON 바이트와 ETag/Last-Modified 로 들고 있다가 그대로 내려준다.
+ * 관리자 등록/수정/삭제/공개/비공개/중요 표시는 CONTENT_CHANGED 이벤트로 받아 해당 종류를 비우므로 다른 노드에도 반영된다.
+ * 날짜로 바뀌는 목록(진행 중 이벤트)과 조회수는 TTL 이 지나 다시 읽을 때 반영된다.
+ */
+@Component
+public class PublishedContentCache {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, LruTtlCache<String, Entry>> caches = new HashMap<>();
+
+    public PublishedContentCache(ObjectMapper objectMapper,
+                                 AuctionEventBus auctionEventBus,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.cache.content.max-size:200}") int maxSize,
+                                 @Value("${auction.cache.content.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        for (String type : new String[] { ContentChangedEvent.NOTICE, ContentChangedEvent.FAQ, ContentChangedEvent.EVENT }) {
+            LruTtlCache<String, Entry> cache = new LruTtlCache<>(maxSize, ttlSeconds * 1000);
+            caches.put(type, cache);
+            FunctionCounter.builder("auction.cache.requests", cache, LruTtlCache::hitCount)
+                .tag("cache", "content-" + type).tag("result", "hit")
+                .register(meterRegistry);
+            FunctionCounter.builder("auction.cache.requests", cache, LruTtlCache::missCount)
+                .tag("cache", "content-" + type).tag("result", "miss")
+                .register(meterRegistry);
+        }
+
+        auctionEventBus.subscribe(AuctionEventBus.CONTENT_CHANGED, ContentChangedEvent.class, (event, local) -> {
+            LruTtlCache<String, Entry> cache = caches.get(event.getType());
+            if (cache != null) {
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    // type 은 ContentChangedEvent 의 종류, key 는 목록 이름 (예: published, category:공지)
+    public Entry get(String type, String key, Callable<?> loader) throws Exception {
+        LruTtlCache<String, Entry> cache = caches.get(type);
+        if (cache == null) {
+            throw new IllegalArgumentException("캐시하지 않는 내용 종류입니다: " + type);
+        }
+        Entry cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = cache.stamp(key);
+        Entry loaded = new Entry(objectMapper.writeValueAsBytes(loader.call()));
+        // 읽는 동안 내용이 바뀌었으면 넣지 않는다 (다음 조회에서 다시 읽음)
+        cache.putIfUnchanged(key, loaded, stamp);
+        return loaded;
+    }
+
+    // 직렬화한 목록과 조건부 요청용 값. Last-Modified 는 목록을 읽은 시각 (초 단위)
+    public static final class Entry {
+        private final byte[] body;
+        private final String etag;
+        private final long lastModified;
+
+        Entry(byte[] body) {
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            this.lastModified = System.currentTimeMillis() / 1000 * 1000;
+        }
+
+        public byte[] getBody() { return body; }
+        public String getEtag() { return etag; }
+        public long getLastModified() { return lastModified; }
+    }
+}
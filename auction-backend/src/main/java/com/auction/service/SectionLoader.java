@@ -0,0 +1,223 @@
+package com.auction.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 여러 구역으로 이루어진 집계 응답(홈/대시보드/상태 등)의 구역별 병렬 조회.
+ * 구역마다 제한 시간이 있고, 실패/시간 초과/풀 포화인 구역은 대체값으로 채워 나머지 구역은 정상 응답한다.
+ * 풀과 대기열 크기가 정해져 있어 느린 구역이 몰려도 스레드가 늘어나지 않는다.
+ * 구역별 소요 시간은 aggregate.section 타이머(page/section/outcome 태그)와 Server-Timing 헤더로 볼 수 있다.
+ */
+@Component
+public class SectionLoader {
+    private static final Logger logger = LoggerFactory.getLogger(SectionLoader.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long defaultTimeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public SectionLoader(MeterRegistry meterRegistry,
+                         @Value("${auction.sections.threads:8}") int threads,
+                         @Value("${auction.sections.queue-size:64}") int queueSize,
+                         @Value("${auction.sections.timeout-ms:3000}") long defaultTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        AtomicInteger index = new AtomicInteger();
+        // 대기열이 차면 바로 거절해 해당 구역만 대체값으로 응답한다
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "section-loader-" + index.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    // 한 응답을 구성하는 구역 묶음
+    public Batch batch(String page) {
+        return new Batch(page);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public enum Outcome { OK, ERROR, TIMEOUT, REJECTED }
+
+    public final class Batch {
+        private final String page;
+        private final List<Section<?>> sections = new ArrayList<>();
+
+        private Batch(String page) {
+            this.page = page;
+        }
+
+        public <T> Section<T> add(String name, Callable<T> loader, T fallback) {
+            return add(name, loader, fallback, defaultTimeoutMs);
+        }
+
+        // 바로 조회를 시작한다. fallback 은 실패/시간 초과 시 쓸 값
+        public <T> Section<T> add(String name, Callable<T> loader, T fallback, long timeoutMs) {
+            Section<T> section = new Section<>(name, fallback, timeoutMs);
+            try {
+                section.future = executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        return loader.call();
+                    } finally {
+                        section.elapsedNanos = System.nanoTime() - start;
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                section.complete(Outcome.REJECTED, fallback, e);
+            }
+            sections.add(section);
+            return section;
+        }
+
+        // 모든 구역이 끝나거나 각자의 제한 시간이 지날 때까지 기다린다
+        public Batch await() {
+            for (Section<?> section : sections) {
+                section.await();
+                Timer.builder("aggregate.section")
+                    .tag("page", page)
+                    .tag("section", section.name)
+                    .tag("outcome", section.outcome.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .record(section.elapsedNanos, TimeUnit.NANOSECONDS);
+                if (section.outcome != Outcome.OK) {
+                    logger.warn("구역 조회 실패, 대체값 사용 - page: {}, section: {}, outcome: {}, {}ms",
+                        page, section.name, section.outcome, section.elapsedMillis(), section.error);
+                }
+            }
+            return this;
+        }
+
+        // 실패/시간 초과/거절된 구역 이름
+        public List<String> degraded() {
+            List<String> names = new ArrayList<>();
+            for (Section<?> section : sections) {
+                if (section.outcome != Outcome.OK) {
+                    names.add(section.name);
+                }
+            }
+            return names;
+        }
+
+        public boolean allDegraded() {
+            return !sections.isEmpty() && degraded().size() == sections.size();
+        }
+
+        // 구역별 소요 시간 (ms)
+        public Map<String, Double> timings() {
+            Map<String, Double> timings = new LinkedHashMap<>();
+            for (Section<?> section : sections) {
+                timings.put(section.name, section.elapsedMillis());
+            }
+            return timings;
+        }
+
+        // Server-Timing 헤더 값 (예: auctions;dur=12.3, notices;dur=4.1;desc="timeout")
+        public String serverTiming() {
+            StringBuilder header = new StringBuilder();
+            for (Section<?> section : sections) {
+                if (header.length() > 0) {
+                    header.append(", ");
+                }
+                header.append(section.name).append(";dur=")
+                    .append(String.format(Locale.ROOT, "%.1f", section.elapsedMillis()));
+                if (section.outcome != Outcome.OK) {
+                    header.append(";desc=\"").append(section.outcome.name().toLowerCase(Locale.ROOT)).append('"');
+                }
+            }
+            return header.toString();
+        }
+    }
+
+    public static final class Section<T> {
+        private final String name;
+        private final T fallback;
+        private final long timeoutMs;
+        private final long submittedAt = System.nanoTime();
+        private Future<T> future;
+        private volatile long elapsedNanos;
+        private Outcome outcome;
+        private T value;
+        private Throwable error;
+
+        private Section(String name, T fallback, long timeoutMs) {
+            this.name = name;
+            this.fallback = fallback;
+            this.timeoutMs = timeoutMs;
+        }
+
+        // await() 이후에 호출한다. 실패한 구역이면 대체값
+        public T get() {
+            if (outcome == null) {
+                throw new IllegalStateException("아직 조회가 끝나지 않은 구역입니다: " + name);
+            }
+            return value;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        private void await() {
+            if (outcome != null) {
+                return;
+            }
+            // 제한 시간은 제출 시점부터 (구역들이 동시에 시작하므로 전체 대기도 가장 긴 제한 시간을 넘지 않음)
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs) - (System.nanoTime() - submittedAt);
+            try {
+                complete(Outcome.OK, future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS), null);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                elapsedNanos = System.nanoTime() - submittedAt;
+                complete(Outcome.TIMEOUT, fallback, null);
+            } catch (ExecutionException e) {
+                complete(Outcome.ERROR, fallback, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                complete(Outcome.ERROR, fallback, e);
+            }
+        }
+
+        private void complete(Outcome outcome, T value, Throwable error) {
+            this.outcome = outcome;
+            this.value = value;
+            this.error = error;
+        }
+
+        private double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+}
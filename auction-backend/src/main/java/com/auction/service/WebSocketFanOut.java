@@ -0,0 +1,39 @@
+package com.auction.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 버스 구독자가 WebSocket 으로 전송할지 결정한다.
+ * simple 브로커는 노드마다 구독이 따로 있으므로 모든 노드가 자기 클라이언트에게 보내고,
+ * relay/embedded 브로커는 구독을 공유하므로 이벤트를 발행한 노드만 보낸다 (중복 전송 방지).
+ */
+@Component
+public class WebSocketFanOut {
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean sharedBroker;
+
+    public WebSocketFanOut(SimpMessagingTemplate messagingTemplate,
+                           @Value("${auction.websocket.broker:simple}") String brokerMode) {
+        this.messagingTemplate = messagingTemplate;
+        this.sharedBroker = !"simple".equals(brokerMode);
+    }
+
+    public boolean shouldSend(boolean local) {
+        return local || !sharedBroker;
+    }
+
+    public void convertAndSend(String destination, Object payload, boolean local) {
+        if (shouldSend(local)) {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    public void send(String destination, Message<?> message, boolean local) {
+        if (shouldSend(local)) {
+            messagingTemplate.send(destination, message);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.auction.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 입찰 이벤트 로그.
+ * 고정 길이(48바이트) 레코드를 메모리 매핑된 세그먼트 파일에 순서대로 append 한다.
+ *
+ * <pre>
+ * | auctionId(8) | bidderHash(8) | amount(8) | epochNanos(8) | bidId(8) | sequence(8) |
+ * </pre>
+ *
+ * bidId 는 bids.id 로, 이력 응답의 id 와 페이지 커서에 그대로 쓰여 노드와 무관하게 같은 값이다.
+ * 세그먼트는 미리 0으로 채워진 크기로 생성되므로 sequence가 0인 첫 레코드가 로그의 끝이다.
+ * 레코드 위치(index)는 세그먼트 번호 * 세그먼트당 레코드 수 + 슬롯으로 전역에서 유일하다.
+ * 예전 40바이트 형식(bids-*.log)의 세그먼트는 읽지 않으므로, 처음 시작할 때 bids 테이블에서 다시 채워진다.
+ * 읽기는 매핑된 버퍼에서 바로 값을 꺼내므로 복사나 역직렬화 객체가 생기지 않는다.
+ */
+public class BidEventLog implements AutoCloseable {
+    public static final int RECORD_SIZE = 48;
+
+    private static final String SEGMENT_PREFIX = "bids-v2-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path dir;
+    private final int recordsPerSegment;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    // 다음에 기록할 전역 레코드 위치
+    private long writeIndex;
+    private long unforced;
+
+    // 레코드 방문자 (레코드마다 객체를 만들지 않도록 원시값으로 전달)
+    @FunctionalInterface
+    public interface RecordVisitor {
+        void visit(long index, long auctionId, long bidderHash, long amount, long epochNanos, long bidId, long sequence);
+    }
+
+    public BidEventLog(Path dir, int segmentBytes) throws IOException {
+        if (segmentBytes < RECORD_SIZE) {
+            throw new IllegalArgumentException("segmentBytes는 " + RECORD_SIZE + " 이상이어야 합니다.");
+        }
+        this.dir = dir;
+        this.recordsPerSegment = segmentBytes / RECORD_SIZE;
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                    && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+        for (Path file : files) {
+            segments.add(map(file));
+        }
+        if (segments.isEmpty()) {
+            segments.add(map(segmentPath(0)));
+        }
+        this.writeIndex = recoverWriteIndex();
+    }
+
+    public synchronized long append(long auctionId, long bidderHash, long amount, long epochNanos, long bidId, long sequence) {
+        if (sequence == 0) {
+            throw new IllegalArgumentException("sequence는 0일 수 없습니다.");
+        }
+        int segmentNo = (int) (writeIndex / recordsPerSegment);
+        if (segmentNo >= segments.size()) {
+            try {
+                segments.add(map(segmentPath(segmentNo)));
+            } catch (IOException e) {
+                throw new IllegalStateException("입찰 로그 세그먼트 생성 실패", e);
+            }
+        }
+        MappedByteBuffer segment = segments.get(segmentNo);
+        int offset = (int) (writeIndex % recordsPerSegment) * RECORD_SIZE;
+        segment.putLong(offset, auctionId);
+        segment.putLong(offset + 8, bidderHash);
+        segment.putLong(offset + 16, amount);
+        segment.putLong(offset + 24, epochNanos);
+        segment.putLong(offset + 32, bidId);
+        // sequence를 마지막에 기록해 레코드가 완성되었음을 표시
+        segment.putLong(offset + 40, sequence);
+        unforced++;
+        return writeIndex++;
+    }
+
+    // 기록된 레코드 수
+    public synchronized long size() {
+        return writeIndex;
+    }
+
+    // 레코드 하나 읽기
+    public void read(long index, RecordVisitor visitor) {
+        visit(segmentOf(index), index, visitor);
+    }
+
+    // 레코드의 금액 (정렬/검색용으로 방문자 없이 읽는다)
+    public long amount(long index) {
+        return field(index, 16);
+    }
+
+    // 레코드의 bids.id
+    public long bidId(long index) {
+        return field(index, 32);
+    }
+
+    // 처음부터 현재 끝까지 순차 재생
+    public void replay(RecordVisitor visitor) {
+        long end;
+        List<MappedByteBuffer> snapshot;
+        synchronized (this) {
+            end = writeIndex;
+            snapshot = new ArrayList<>(segments);
+        }
+        for (long index = 0; index < end; index++) {
+            visit(snapshot.get((int) (index / recordsPerSegment)), index, visitor);
+        }
+    }
+
+    // 디스크 반영 (변경된 세그먼트만)
+    public synchronized void force() {
+        if (unforced == 0) {
+            return;
+        }
+        int from = (int) (Math.max(0, writeIndex - unforced) / recordsPerSegment);
+        for (int i = from; i < segments.size(); i++) {
+            segments.get(i).force();
+        }
+        unforced = 0;
+    }
+
+    public synchronized long unforcedCount() {
+        return unforced;
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+    }
+
+    private void visit(MappedByteBuffer segment, long index, RecordVisitor visitor) {
+        int offset = (int) (index % recordsPerSegment) * RECORD_SIZE;
+        visitor.visit(index,
+            segment.getLong(offset),
+            segment.getLong(offset + 8),
+            segment.getLong(offset + 16),
+            segment.getLong(offset + 24),
+            segment.getLong(offset + 32),
+            segment.getLong(offset + 40));
+    }
+
+    private long field(long index, int fieldOffset) {
+        return segmentOf(index).getLong((int) (index % recordsPerSegment) * RECORD_SIZE + fieldOffset);
+    }
+
+    private synchronized MappedByteBuffer segmentOf(long index) {
+        if (index < 0 || index >= writeIndex) {
+            throw new IndexOutOfBoundsException("index: " + index);
+        }
+        return segments.get((int) (index / recordsPerSegment));
+    }
+
+    // 마지막 세그먼트에서 sequence가 0인 첫 슬롯을 찾는다
+    private long recoverWriteIndex() {
+        int last = segments.size() - 1;
+        MappedByteBuffer segment = segments.get(last);
+        int slot = 0;
+        while (slot < recordsPerSegment && segment.getLong(slot * RECORD_SIZE + 40) != 0) {
+            slot++;
+        }
+        return (long) last * recordsPerSegment + slot;
+    }
+
+    private Path segmentPath(int segmentNo) {
+        return dir.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, segmentNo, SEGMENT_SUFFIX));
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지된다
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        }
+    }
+}
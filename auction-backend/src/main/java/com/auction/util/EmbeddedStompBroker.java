@@ -0,0 +1,382 @@
+package com.auction.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 로컬 개발/테스트용 최소 STOMP 브로커.
+ * 외부 브로커(RabbitMQ, ActiveMQ 등) 없이 broker relay 모드를 그대로 돌려 보기 위한 대역이다.
+ * CONNECT/STOMP, SUBSCRIBE, UNSUBSCRIBE, SEND, DISCONNECT 만 지원하고,
+ * 목적지는 정확히 일치하는 구독에만 전달한다. 하트비트는 0,0 으로 협상해 사용하지 않는다.
+ * 헤더의 \r, \n, :, \ 는 STOMP 1.2 규칙대로 escape/unescape 한다 (CONNECT/STOMP/CONNECTED 프레임은 제외).
+ * 연결마다 스레드 하나를 쓰므로 운영 용도가 아니다.
+ */
+public class EmbeddedStompBroker implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedStompBroker.class);
+
+    private final ServerSocket serverSocket;
+    private final Thread acceptor;
+    private final AtomicInteger connectionIds = new AtomicInteger();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    // 목적지 → 구독 목록
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    public EmbeddedStompBroker(String host, int port) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(InetAddress.getByName(host), port));
+        this.acceptor = new Thread(this::acceptLoop, "stomp-broker-accept");
+        this.acceptor.setDaemon(true);
+        this.acceptor.start();
+        logger.info("내장 STOMP 브로커 시작 - {}:{}", host, getPort());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.debug("STOMP 브로커 소켓 종료 실패", e);
+        }
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket, connectionIds.incrementAndGet());
+                connections.add(connection);
+                Thread thread = new Thread(connection::readLoop, "stomp-broker-conn-" + connection.id);
+                thread.setDaemon(true);
+                thread.start();
+            } catch (IOException e) {
+                if (running) {
+                    logger.warn("STOMP 브로커 연결 수락 실패", e);
+                }
+            }
+        }
+    }
+
+    private void deliver(String destination, Map<String, String> headers, byte[] body) {
+        Set<Subscription> targets = subscriptions.get(destination);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        String messageId = Long.toString(messageIds.incrementAndGet());
+        for (Subscription subscription : targets) {
+            Map<String, String> out = new LinkedHashMap<>();
+            out.put("destination", destination);
+            out.put("message-id", messageId);
+            out.put("subscription", subscription.id);
+            String contentType = headers.get("content-type");
+            if (contentType != null) {
+                out.put("content-type", contentType);
+            }
+            subscription.connection.send("MESSAGE", out, body);
+        }
+    }
+
+    private static final class Subscription {
+        final Connection connection;
+        final String id;
+        final String destination;
+
+        Subscription(Connection connection, String id, String destination) {
+            this.connection = connection;
+            this.id = id;
+            this.destination = destination;
+        }
+    }
+
+    private final class Connection {
+        private final Socket socket;
+        private final int id;
+        private final OutputStream out;
+        // 구독 id → 구독
+        private final Map<String, Subscription> owned = new ConcurrentHashMap<>();
+
+        Connection(Socket socket, int id) throws IOException {
+            this.socket = socket;
+            this.id = id;
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void readLoop() {
+            try (InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                while (running) {
+                    String command = readCommand(in);
+                    if (command == null) {
+                        break;
+                    }
+                    // CONNECT/STOMP 프레임 헤더는 escape 하지 않는다 (STOMP 1.0 호환)
+                    boolean escaped = !"CONNECT".equals(command) && !"STOMP".equals(command);
+                    Map<String, String> headers = readHeaders(in, escaped);
+                    byte[] body = readBody(in, headers.get("content-length"));
+                    if (!handle(command, headers, body)) {
+                        break;
+                    }
+                }
+            } catch (SocketException e) {
+                logger.debug("STOMP 연결 종료 - conn: {}", id);
+            } catch (IOException e) {
+                logger.warn("STOMP 프레임 처리 실패 - conn: {}", id, e);
+            } finally {
+                close();
+            }
+        }
+
+        private boolean handle(String command, Map<String, String> headers, byte[] body) {
+            switch (command) {
+                case "CONNECT", "STOMP" -> {
+                    Map<String, String> connected = new LinkedHashMap<>();
+                    connected.put("version", "1.2");
+                    connected.put("heart-beat", "0,0");
+                    connected.put("server", "auction-embedded");
+                    send("CONNECTED", connected, null);
+                }
+                case "SUBSCRIBE" -> {
+                    Subscription subscription = new Subscription(this, headers.get("id"), headers.get("destination"));
+                    if (subscription.id == null || subscription.destination == null) {
+                        error("SUBSCRIBE 에 id/destination 이 없습니다.");
+                        return false;
+                    }
+                    owned.put(subscription.id, subscription);
+                    subscriptions.computeIfAbsent(subscription.destination, d -> ConcurrentHashMap.newKeySet())
+                        .add(subscription);
+                }
+                case "UNSUBSCRIBE" -> {
+                    Subscription subscription = owned.remove(headers.getOrDefault("id", ""));
+                    if (subscription != null) {
+                        unsubscribe(subscription);
+                    }
+                }
+                case "SEND" -> {
+                    String destination = headers.get("destination");
+                    if (destination == null) {
+                        error("SEND 에 destination 이 없습니다.");
+                        return false;
+                    }
+                    deliver(destination, headers, body);
+                }
+                case "DISCONNECT" -> {
+                    receipt(headers);
+                    return false;
+                }
+                default -> {
+                    error("지원하지 않는 명령: " + command);
+                    return false;
+                }
+            }
+            receipt(headers);
+            return true;
+        }
+
+        private void receipt(Map<String, String> headers) {
+            String receipt = headers.get("receipt");
+            if (receipt != null) {
+                Map<String, String> out = new LinkedHashMap<>();
+                out.put("receipt-id", receipt);
+                send("RECEIPT", out, null);
+            }
+        }
+
+        private void error(String message) {
+            Map<String, String> out = new LinkedHashMap<>();
+            out.put("message", message);
+            send("ERROR", out, null);
+        }
+
+        synchronized void send(String command, Map<String, String> headers, byte[] body) {
+            try {
+                boolean escaped = !"CONNECTED".equals(command);
+                StringBuilder frame = new StringBuilder(command).append('\n');
+                for (Map.Entry<String, String> header : headers.entrySet()) {
+                    frame.append(escaped ? escape(header.getKey()) : header.getKey()).append(':')
+                        .append(escaped ? escape(header.getValue()) : header.getValue()).append('\n');
+                }
+                if (body != null) {
+                    frame.append("content-length:").append(body.length).append('\n');
+                }
+                frame.append('\n');
+                out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+                if (body != null) {
+                    out.write(body);
+                }
+                out.write(0);
+                out.flush();
+            } catch (IOException e) {
+                logger.debug("STOMP 프레임 전송 실패 - conn: {}", id);
+                close();
+            }
+        }
+
+        void close() {
+            if (!connections.remove(this)) {
+                return;
+            }
+            for (Subscription subscription : owned.values()) {
+                unsubscribe(subscription);
+            }
+            owned.clear();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("STOMP 연결 종료 실패 - conn: {}", id);
+            }
+        }
+
+        private void unsubscribe(Subscription subscription) {
+            Set<Subscription> targets = subscriptions.get(subscription.destination);
+            if (targets != null) {
+                targets.remove(subscription);
+            }
+        }
+    }
+
+    // 프레임 사이의 빈 줄(하트비트)은 건너뛴다. 스트림 끝이면 null
+    private static String readCommand(InputStream in) throws IOException {
+        String line;
+        do {
+            line = readLine(in);
+            if (line == null) {
+                return null;
+            }
+        } while (line.isEmpty());
+        return line;
+    }
+
+    private static Map<String, String> readHeaders(InputStream in, boolean escaped) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>();
+        String line;
+        while ((line = readLine(in)) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                String name = line.substring(0, colon);
+                String value = line.substring(colon + 1);
+                if (escaped) {
+                    name = unescape(name);
+                    value = unescape(value);
+                }
+                // 같은 헤더가 반복되면 첫 번째 값을 쓴다 (STOMP 1.2)
+                headers.putIfAbsent(name, value);
+            }
+        }
+        return headers;
+    }
+
+    // STOMP 1.2 헤더 escape: \ → \\, CR → \r, LF → \n, : → \c
+    static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '\r' -> "\\r";
+                case '\n' -> "\\n";
+                case ':' -> "\\c";
+                default -> null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
+    }
+
+    // 정의되지 않은 escape 는 프레임 오류로 처리한다 (STOMP 1.2)
+    static String unescape(String value) throws IOException {
+        int backslash = value.indexOf('\\');
+        if (backslash < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length()).append(value, 0, backslash);
+        for (int i = backslash; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\') {
+                unescaped.append(c);
+                continue;
+            }
+            char next = ++i < value.length() ? value.charAt(i) : 0;
+            switch (next) {
+                case '\\' -> unescaped.append('\\');
+                case 'r' -> unescaped.append('\r');
+                case 'n' -> unescaped.append('\n');
+                case 'c' -> unescaped.append(':');
+                default -> throw new IOException("STOMP 헤더에 정의되지 않은 escape 가 있습니다: " + value);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static byte[] readBody(InputStream in, String contentLength) throws IOException {
+        if (contentLength != null) {
+            int length = Integer.parseInt(contentLength.trim());
+            byte[] body = in.readNBytes(length);
+            if (body.length < length || in.read() != 0) {
+                throw new IOException("STOMP 프레임 본문이 올바르지 않습니다.");
+            }
+            return body;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) > 0) {
+            body.write(b);
+        }
+        if (b < 0) {
+            throw new IOException("STOMP 프레임이 끝나기 전에 연결이 종료되었습니다.");
+        }
+        return body.toByteArray();
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                byte[] bytes = line.toByteArray();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            line.write(b);
+        }
+        return line.size() > 0 ? line.toString(StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,260 @@
+package com.auction.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 해시 타이밍 휠.
+ * 예약/취소는 O(1)이고, 단일 워커 스레드가 tick마다 슬롯 하나만 확인하므로
+ * 수십만 건의 마감 시각을 DB 폴링 없이 유지할 수 있다.
+ * 만료 콜백은 워커 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 한다.
+ */
+public class HashedTimingWheel<T> {
+    private static final Logger logger = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    // tick당 버킷으로 옮기는 최대 예약 수 (시작 시 대량 적재가 tick을 지연시키지 않도록)
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket<T>[] wheel;
+    private final Consumer<T> onExpire;
+
+    private final Queue<Timeout<T>> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    // 워커 스레드 전용
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Consumer<T> onExpire) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration은 0보다 커야 합니다.");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize는 0보다 커야 합니다.");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.onExpire = onExpire;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // delay 후에 key 만료 (음수/0이면 다음 tick에 만료)
+    public Timeout<T> schedule(T key, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("타이밍 휠이 중지되었습니다.");
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startNanos;
+        Timeout<T> timeout = new Timeout<>(this, key, deadline);
+        pending.incrementAndGet();
+        pendingAdds.offer(timeout);
+        return timeout;
+    }
+
+    // 만료/취소되지 않은 예약 수
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                continue;
+            }
+            int idx = (int) (tick & mask);
+            processCancels();
+            transferAdds();
+            wheel[idx].expire(deadline);
+            tick++;
+        }
+    }
+
+    // 다음 tick 시각까지 대기 후 해당 tick의 기준 시각(startNanos 기준)을 돌려준다
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (running) {
+            long current = System.nanoTime() - startNanos;
+            long sleepNanos = deadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void transferAdds() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout<T> timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 마감은 현재 tick 슬롯에 넣어 바로 만료시킨다
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancels() {
+        Timeout<T> timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout<T> timeout) {
+        if (!timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+            return;
+        }
+        pending.decrementAndGet();
+        try {
+            onExpire.accept(timeout.key);
+        } catch (RuntimeException e) {
+            logger.error("타이머 만료 처리 실패 - key: {}", timeout.key, e);
+        }
+    }
+
+    // 예약 핸들
+    public static final class Timeout<T> {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel<T> owner;
+        private final T key;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 워커 스레드 전용
+        private long remainingRounds;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        Timeout(HashedTimingWheel<T> owner, T key, long deadline) {
+            this.owner = owner;
+            this.key = key;
+            this.deadline = deadline;
+        }
+
+        public T getKey() { return key; }
+
+        public boolean isExpired() { return state.get() == ST_EXPIRED; }
+
+        public boolean isCancelled() { return state.get() == ST_CANCELLED; }
+
+        // 아직 만료되지 않았다면 취소 (버킷에서의 제거는 워커 스레드가 처리)
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            owner.pending.decrementAndGet();
+            owner.pendingCancels.offer(this);
+            return true;
+        }
+    }
+
+    // 슬롯 하나의 이중 연결 리스트
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long deadline) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.owner.fire(timeout);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
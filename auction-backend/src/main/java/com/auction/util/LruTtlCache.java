@@ -0,0 +1,143 @@
+package com.auction.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한(LRU) + TTL 캐시.
+ * 최대 크기를 넘으면 가장 오래 조회되지 않은 항목부터, TTL 이 지난 항목은 조회 시점에 제거한다.
+ * 적중/미적중/제거 횟수를 세어 두어 메트릭으로 내보낼 수 있다.
+ *
+ * DB에서 읽어 채우는 동안 같은 키가 갱신/무효화되면 오래된 값을 넣지 않도록,
+ * 키 해시별 stamp 를 읽기 전에 받아 두고 putIfUnchanged 로 넣는다.
+ */
+public class LruTtlCache<K, V> {
+    private static final int STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map;
+    // 키 해시 stripe 별 갱신 횟수
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruTtlCache(int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        // 접근 순서로 정렬해 맨 앞이 가장 오래 조회되지 않은 항목
+        this.map = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // 없거나 만료되었으면 null
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.value;
+        }
+        if (entry != null) {
+            map.remove(key);
+            evictions.increment();
+        }
+        misses.increment();
+        return null;
+    }
+
+    // 채우기 전에 받아 두는 값 (putIfUnchanged 에 그대로 넘긴다)
+    public long stamp(K key) {
+        return stamps.get(stripe(key));
+    }
+
+    // stamp 이후 같은 stripe 에 갱신/무효화가 없었을 때만 넣는다
+    public synchronized boolean putIfUnchanged(K key, V value, long stamp) {
+        if (stamps.get(stripe(key)) != stamp) {
+            return false;
+        }
+        store(key, value);
+        return true;
+    }
+
+    public synchronized void put(K key, V value) {
+        stamps.incrementAndGet(stripe(key));
+        store(key, value);
+    }
+
+    // 캐시에 있을 때만 새 값으로 바꾼다 (TTL 은 그대로)
+    public synchronized void update(K key, UnaryOperator<V> updater) {
+        stamps.incrementAndGet(stripe(key));
+        Entry<V> entry = map.get(key);
+        if (entry != null) {
+            V value = updater.apply(entry.value);
+            if (value == null) {
+                map.remove(key);
+            } else {
+                entry.value = value;
+            }
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        stamps.incrementAndGet(stripe(key));
+        map.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void store(K key, V value) {
+        map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        if (map.size() > maxSize) {
+            Iterator<Map.Entry<K, Entry<V>>> eldest = map.entrySet().iterator();
+            while (map.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private static final class Entry<V> {
+        private V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.auction.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.auction.dto.BidDto;
+import com.auction.service.BidService;
+
+class BidControllerTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2026, 1, 1, 12, 0, 30, 500_000_000);
+
+    private final BidService bidService = mock(BidService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        BidController controller = new BidController();
+        ReflectionTestUtils.setField(controller, "bidService", bidService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void auctionPageReturnsCursorOfLastRowWhenMoreRemain() throws Exception {
+        when(bidService.getBidsByAuctionId(eq(1L), isNull(), isNull(), eq(3)))
+            .thenReturn(List.of(bid(30L, 5_000L), bid(20L, 4_000L), bid(10L, 3_000L)));
+
+        mockMvc.perform(get("/api/bids/auction/1").param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[1].id").value(20))
+            .andExpect(header().string("X-Next-Cursor", cursor("4000|20")));
+    }
+
+    @Test
+    void auctionCursorContinuesFromAmountAndId() throws Exception {
+        when(bidService.getBidsByAuctionId(eq(1L), eq(4_000L), eq(20L), eq(3)))
+            .thenReturn(List.of(bid(10L, 3_000L)));
+
+        // 마지막 페이지에는 커서가 없다
+        mockMvc.perform(get("/api/bids/auction/1").param("limit", "2").param("cursor", cursor("4000|20")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void userCursorRoundTripsBidTime() throws Exception {
+        when(bidService.getBidsByUserId(eq(7L), isNull(), isNull(), eq(2)))
+            .thenReturn(List.of(bid(30L, 5_000L), bid(20L, 4_000L)));
+        String next = mockMvc.perform(get("/api/bids/user/7").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/bids/user/7").param("limit", "1").param("cursor", next))
+            .andExpect(status().isOk());
+
+        verify(bidService).getBidsByUserId(7L, BID_TIME, 30L, 2);
+    }
+
+    @Test
+    void rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/bids/auction/1").param("cursor", cursor("4000")))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/bids/auction/1").param("cursor", "!!!"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/bids/user/7").param("cursor", cursor("어제|20")))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(bidService);
+    }
+
+    @Test
+    void exportStreamsNdjson() throws Exception {
+        String body = "{\"id\":30}\n{\"id\":20}\n";
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(bidService).exportBidsByAuctionId(eq(1L), any());
+
+        MvcResult result = mockMvc.perform(get("/api/bids/auction/1/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string(body));
+    }
+
+    private static BidDto bid(Long id, long amount) {
+        BidDto bid = new BidDto();
+        bid.setId(id);
+        bid.setAuctionId(1L);
+        bid.setBidder("alice");
+        bid.setBidAmount(amount);
+        bid.setBidTime(BID_TIME);
+        return bid;
+    }
+
+    private static String cursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
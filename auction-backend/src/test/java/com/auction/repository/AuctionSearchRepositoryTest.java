@@ -0,0 +1,106 @@
+package com.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.auction.dto.AuctionListItemDto;
+import com.auction.dto.AuctionSearchCondition;
+import com.auction.dto.AuctionSearchCondition.Sort;
+
+class AuctionSearchRepositoryTest {
+
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2026, 3, 1, 18, 30, 15, 250_000_000);
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final AuctionSearchRepository repository = new AuctionSearchRepository(jdbcTemplate);
+
+    @Test
+    void firstPageHasNoKeysetPredicate() {
+        repository.search(new AuctionSearchCondition(), null, null, 21);
+
+        assertThat(jdbcTemplate.sql).doesNotContain("WHERE")
+            .endsWith(" ORDER BY a.end_time ASC, a.id ASC LIMIT ?");
+        assertThat(jdbcTemplate.args).containsExactly(21);
+    }
+
+    @Test
+    void ascendingCursorContinuesAfterLastRow() {
+        repository.search(new AuctionSearchCondition(), END_TIME, 42L, 21);
+
+        assertThat(jdbcTemplate.sql)
+            .contains(" WHERE (a.end_time > ? OR (a.end_time = ? AND a.id > ?))")
+            .endsWith(" ORDER BY a.end_time ASC, a.id ASC LIMIT ?");
+        // 시각 키는 Timestamp 로 바인딩된다
+        assertThat(jdbcTemplate.args).containsExactly(Timestamp.valueOf(END_TIME), Timestamp.valueOf(END_TIME), 42L, 21);
+    }
+
+    @Test
+    void descendingCursorUsesLessThanOnKeyAndId() {
+        AuctionSearchCondition condition = new AuctionSearchCondition();
+        condition.setSort(Sort.PRICE);
+        condition.setDescending(true);
+
+        repository.search(condition, 15_000L, 7L, 11);
+
+        assertThat(jdbcTemplate.sql)
+            .contains(" WHERE (a.current_price < ? OR (a.current_price = ? AND a.id < ?))")
+            .endsWith(" ORDER BY a.current_price DESC, a.id DESC LIMIT ?");
+        assertThat(jdbcTemplate.args).containsExactly(15_000L, 15_000L, 7L, 11);
+    }
+
+    @Test
+    void filtersAreBoundBeforeCursorAndLimit() {
+        AuctionSearchCondition condition = new AuctionSearchCondition();
+        condition.setClosed(false);
+        condition.setCategory("전자기기");
+        condition.setMinPrice(1_000L);
+        condition.setQuery("100%_정품");
+        condition.setSort(Sort.BID_COUNT);
+
+        repository.search(condition, 3L, 9L, 5);
+
+        assertThat(jdbcTemplate.sql).contains(" WHERE a.is_closed = ? AND a.category = ? AND a.current_price >= ? "
+            + "AND (a.title LIKE ? OR a.brand LIKE ? OR a.description LIKE ?) "
+            + "AND (a.bid_count > ? OR (a.bid_count = ? AND a.id > ?))");
+        // LIKE 와일드카드는 문자 그대로 찾는다
+        String pattern = "%100\\%\\_정품%";
+        assertThat(jdbcTemplate.args).containsExactly(false, "전자기기", 1_000L, pattern, pattern, pattern, 3L, 3L, 9L, 5);
+    }
+
+    @Test
+    void cursorKeyRoundTripsThroughSort() {
+        AuctionListItemDto last = new AuctionListItemDto();
+        last.setId(42L);
+        last.setEndTime(END_TIME);
+        last.setCurrentPrice(15_000L);
+        last.setBidCount(3);
+        last.setCreatedAt(END_TIME.minusDays(7));
+
+        // 커서에 문자열로 넣은 정렬 키가 같은 값으로 돌아와야 경계 행을 건너뛰거나 다시 읽지 않는다
+        assertThat(Sort.END_TIME.parseKey(Sort.END_TIME.keyOf(last))).isEqualTo(END_TIME);
+        assertThat(Sort.CREATED_AT.parseKey(Sort.CREATED_AT.keyOf(last))).isEqualTo(END_TIME.minusDays(7));
+        assertThat(Sort.PRICE.parseKey(Sort.PRICE.keyOf(last))).isEqualTo(15_000L);
+        assertThat(Sort.BID_COUNT.parseKey(Sort.BID_COUNT.keyOf(last))).isEqualTo(3L);
+    }
+
+    // 실행한 SQL 과 인자만 기록하는 JdbcTemplate
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private String sql;
+        private List<Object> args;
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            this.sql = sql;
+            this.args = List.of(args);
+            return Collections.emptyList();
+        }
+    }
+}
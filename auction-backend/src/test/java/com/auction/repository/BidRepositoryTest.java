@@ -0,0 +1,129 @@
+package com.auction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.auction.dto.BidDto;
+
+class BidRepositoryTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BidRepository bidRepository = new BidRepository(jdbcTemplate);
+    // RETURNING id 로 돌려줄 다음 bids.id
+    private final AtomicLong nextId = new AtomicLong(100);
+    // INSERT 마다 바인딩된 PreparedStatement
+    private final List<PreparedStatement> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> {
+                String sql = invocation.getArgument(0);
+                PreparedStatementSetter setter = invocation.getArgument(1);
+                PreparedStatement ps = mock(PreparedStatement.class);
+                setter.setValues(ps);
+                inserted.add(ps);
+                int rows = sql.split("\\(\\?, \\?, \\?, \\?\\)", -1).length - 1;
+                List<Long> ids = new ArrayList<>(rows);
+                for (int i = 0; i < rows; i++) {
+                    ids.add(nextId.getAndIncrement());
+                }
+                return ids;
+            });
+    }
+
+    @Test
+    void insertsOnlyBidsThatWonConditionalUpdate() throws Exception {
+        List<BidDto> bids = List.of(bid(1L, 1_000L, "alice"), bid(1L, 1_000L, "bob"), bid(2L, 5_000L, "carol"));
+        // 두 번째 입찰은 같은 금액이 먼저 반영되어 조건부 갱신에서 진다
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1, 0, 1 });
+
+        boolean[] accepted = bidRepository.acceptBids(bids);
+
+        assertThat(accepted).containsExactly(true, false, true);
+        assertThat(inserted).hasSize(1);
+        // 수락된 입찰만 VALUES 순서대로 기록되고 bids.id 도 같은 순서로 채워진다
+        PreparedStatement ps = inserted.get(0);
+        verify(ps).setString(2, "alice");
+        verify(ps).setString(6, "carol");
+        assertThat(bids.get(0).getId()).isEqualTo(100L);
+        assertThat(bids.get(1).getId()).isNull();
+        assertThat(bids.get(2).getId()).isEqualTo(101L);
+    }
+
+    @Test
+    void conditionalUpdateGuardsClosedAuctionAndBuyNowPrice() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 0 });
+
+        boolean[] accepted = bidRepository.acceptBids(List.of(bid(3L, 7_000L, "dave")));
+
+        assertThat(accepted).containsExactly(false);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), args.capture());
+        assertThat(sql.getValue())
+            .contains("is_closed = 0")
+            .contains("? >= IF(highest_bid > 0, highest_bid + bid_unit, start_price)")
+            .contains("(buy_now_price IS NULL OR ? < buy_now_price)");
+        assertThat(args.getValue()).hasSize(1);
+        assertThat(args.getValue().get(0)).containsExactly(7_000L, 3L, 7_000L, 7_000L);
+        // 거절된 입찰은 기록하지 않는다
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    void assignsIdsInOrderAcrossInsertChunks() {
+        List<BidDto> bids = new ArrayList<>();
+        for (int i = 0; i < 1_201; i++) {
+            bids.add(bid(1L, 1_000L + i, "user" + i));
+        }
+        int[] counts = new int[bids.size()];
+        Arrays.fill(counts, 1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(counts);
+
+        bidRepository.acceptBids(bids);
+
+        assertThat(inserted).hasSize(3);
+        for (int i = 0; i < bids.size(); i++) {
+            assertThat(bids.get(i).getId()).isEqualTo(100L + i);
+        }
+    }
+
+    @Test
+    void emptyBatchTouchesNothing() {
+        assertThat(bidRepository.acceptBids(List.of())).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static BidDto bid(Long auctionId, long amount, String bidder) {
+        BidDto bid = new BidDto();
+        bid.setAuctionId(auctionId);
+        bid.setBidAmount(amount);
+        bid.setBidder(bidder);
+        bid.setBidTime(BID_TIME);
+        return bid;
+    }
+}
@@ -0,0 +1,160 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.dto.AuctionDto;
+import com.auction.repository.CustomAuctionRepository;
+
+class AuctionCountersTest {
+
+    private final CustomAuctionRepository customAuctionRepository = mock(CustomAuctionRepository.class);
+    private final AuctionCache auctionCache = mock(AuctionCache.class);
+    // DB에 반영된 경매별 조회수/입찰수
+    private final Map<Long, AtomicLong> storedViews = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> storedBids = new ConcurrentHashMap<>();
+    private AuctionCounters auctionCounters;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            List<Object[]> viewDeltas = invocation.getArgument(0);
+            List<Object[]> bidDeltas = invocation.getArgument(1);
+            store(storedViews, viewDeltas);
+            store(storedBids, bidDeltas);
+            return null;
+        }).when(customAuctionRepository).addCounts(any(), any());
+        // 주기 flush 는 테스트가 직접 호출한다
+        auctionCounters = new AuctionCounters(customAuctionRepository, auctionCache, 3_600_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auctionCounters.shutdown();
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLostAcrossFlushes() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        long[] auctionIds = { 1L, 2L, 3L };
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < perThread; i++) {
+                    long auctionId = auctionIds[i % auctionIds.length];
+                    auctionCounters.incrementView(auctionId);
+                    auctionCounters.incrementBid(auctionId);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        Thread flusher = new Thread(() -> {
+            await(start);
+            while (running.get()) {
+                auctionCounters.flush();
+            }
+        });
+        flusher.start();
+
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        running.set(false);
+        flusher.join();
+        auctionCounters.flush();
+
+        long total = 0;
+        for (long auctionId : auctionIds) {
+            long views = stored(storedViews, auctionId);
+            assertThat(stored(storedBids, auctionId)).isEqualTo(views);
+            // 반영이 끝나면 남은 증가분이 없다
+            assertThat(auctionCounters.applyPending(dto(auctionId, 0)).getViewCount()).isZero();
+            total += views;
+        }
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    void pendingDeltaStaysVisibleUntilCacheIsUpdated() {
+        auctionCounters.incrementView(1L);
+        auctionCounters.incrementView(1L);
+        List<Integer> seenDuringWrite = new ArrayList<>();
+        List<Integer> seenDuringCacheUpdate = new ArrayList<>();
+        doAnswer(invocation -> {
+            seenDuringWrite.add(auctionCounters.applyPending(dto(1L, 0)).getViewCount());
+            return null;
+        }).when(customAuctionRepository).addCounts(any(), any());
+        doAnswer(invocation -> {
+            seenDuringCacheUpdate.add(auctionCounters.applyPending(dto(1L, 0)).getViewCount());
+            return null;
+        }).when(auctionCache).addCounts(eq(1L), anyLong(), anyLong());
+
+        auctionCounters.flush();
+
+        // DB/캐시에 더해지는 동안에도 아직 반영되지 않은 값(0)에 증가분이 더해져 보인다
+        assertThat(seenDuringWrite).containsExactly(2);
+        assertThat(seenDuringCacheUpdate).containsExactly(2);
+        assertThat(auctionCounters.applyPending(dto(1L, 2)).getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsPendingDeltaWhenWriteFails() {
+        auctionCounters.incrementBid(1L);
+        doThrow(new IllegalStateException("DB 오류")).when(customAuctionRepository).addCounts(any(), any());
+
+        auctionCounters.flush();
+
+        assertThat(auctionCounters.applyPending(dto(1L, 0)).getBidCount()).isEqualTo(1);
+    }
+
+    private static void store(Map<Long, AtomicLong> stored, List<Object[]> deltas) {
+        for (Object[] args : deltas) {
+            stored.computeIfAbsent((Long) args[1], id -> new AtomicLong()).addAndGet((Long) args[0]);
+        }
+    }
+
+    private static long stored(Map<Long, AtomicLong> stored, long auctionId) {
+        AtomicLong value = stored.get(auctionId);
+        return value != null ? value.get() : 0;
+    }
+
+    private static AuctionDto dto(long auctionId, int count) {
+        AuctionDto dto = new AuctionDto();
+        dto.setId(auctionId);
+        dto.setViewCount(count);
+        dto.setBidCount(count);
+        return dto;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
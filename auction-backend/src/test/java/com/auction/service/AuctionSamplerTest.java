@@ -0,0 +1,118 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.dto.AuctionChangedEvent;
+import com.auction.dto.AuctionClosedEvent;
+import com.auction.repository.CustomAuctionRepository;
+
+class AuctionSamplerTest {
+
+    private final CustomAuctionRepository customAuctionRepository = mock(CustomAuctionRepository.class);
+    private final LocalAuctionEventBus eventBus = new LocalAuctionEventBus();
+    private AuctionSampler sampler;
+
+    @AfterEach
+    void tearDown() {
+        if (sampler != null) {
+            sampler.shutdown();
+        }
+    }
+
+    @Test
+    void drawsDistinctOpenIds() throws Exception {
+        List<Long> open = ids(100);
+        open(open);
+
+        Set<Long> seen = new HashSet<>();
+        for (int trial = 0; trial < 200; trial++) {
+            List<Long> sample = sampler.sample(10);
+            assertThat(sample).hasSize(10).doesNotHaveDuplicates();
+            assertThat(open).containsAll(sample);
+            seen.addAll(sample);
+        }
+        // 뒤쪽 위치에 치우치지 않고 모든 경매가 뽑힌다
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(open);
+    }
+
+    @Test
+    void returnsEveryIdWhenCountReachesSize() throws Exception {
+        List<Long> open = ids(5);
+        open(open);
+
+        assertThat(sampler.sample(5)).containsExactlyInAnyOrderElementsOf(open);
+        assertThat(sampler.sample(10)).containsExactlyInAnyOrderElementsOf(open);
+        assertThat(sampler.sample(0)).isEmpty();
+    }
+
+    @Test
+    void addsCreatedAuctionOnlyAfterCommit() throws Exception {
+        open(ids(3));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBus.publish(AuctionEventBus.AUCTION_CHANGED, new AuctionChangedEvent(4L, null, true));
+            // 커밋 전에는 후보가 아니다
+            assertThat(sampler.sample(10)).doesNotContain(4L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sampler.sample(10)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void rolledBackCreationIsNeverSampled() throws Exception {
+        open(ids(3));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            eventBus.publish(AuctionEventBus.AUCTION_CHANGED, new AuctionChangedEvent(4L, null, true));
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(sampler.sample(10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void removesClosedAndDeletedAuctions() throws Exception {
+        open(ids(4));
+
+        eventBus.publish(AuctionEventBus.AUCTION_CLOSED, new AuctionClosedEvent(2L, null));
+        eventBus.publish(AuctionEventBus.AUCTION_CHANGED, new AuctionChangedEvent(3L, null, false));
+
+        assertThat(sampler.sample(10)).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    // 표본기를 만들고 생성 직후 예약된 첫 재적재가 반영될 때까지 기다린다
+    private void open(List<Long> openIds) throws InterruptedException {
+        when(customAuctionRepository.findOpenIds()).thenReturn(openIds);
+        sampler = new AuctionSampler(customAuctionRepository, eventBus, 60);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (sampler.sample(Integer.MAX_VALUE).size() < openIds.size()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Long> ids(int count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+}
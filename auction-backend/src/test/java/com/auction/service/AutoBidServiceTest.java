@@ -0,0 +1,103 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.auction.dto.AutoBidDto;
+import com.auction.repository.AutoBidRepository;
+
+class AutoBidServiceTest {
+
+    private static final Long AUCTION_ID = 1L;
+    private static final long BID_UNIT = 1_000L;
+
+    private final AutoBidRepository autoBidRepository = mock(AutoBidRepository.class);
+    private final AutoBidService autoBidService = new AutoBidService(autoBidRepository, new LocalAuctionEventBus());
+
+    @Test
+    void earliestProxyWinsTieOnMaxAmount() {
+        // 목록은 max_amount DESC, created_at ASC (alice 가 먼저 등록)
+        ladder(proxy("alice", 50_000), proxy("bob", 50_000));
+
+        AutoBidService.Resolution resolution = autoBidService.resolve(AUCTION_ID, null, 0, 10_000, BID_UNIT, null);
+
+        assertThat(resolution.getLeader()).isEqualTo("alice");
+        assertThat(resolution.getPrice()).isEqualTo(50_000);
+    }
+
+    @Test
+    void laterProxyCannotTakeLeadOnTie() {
+        ladder(proxy("alice", 50_000), proxy("bob", 50_000));
+
+        // 먼저 등록한 alice 가 최고 입찰자면 같은 상한의 bob 은 넘지 못하고 가격만 상한까지 오른다
+        AutoBidService.Resolution held = autoBidService.resolve(AUCTION_ID, "alice", 20_000, 21_000, BID_UNIT, null);
+        assertThat(held.getLeader()).isEqualTo("alice");
+        assertThat(held.getPrice()).isEqualTo(50_000);
+
+        // 나중에 등록한 bob 이 최고 입찰자면 같은 상한의 alice 가 가져간다
+        AutoBidService.Resolution taken = autoBidService.resolve(AUCTION_ID, "bob", 20_000, 21_000, BID_UNIT, null);
+        assertThat(taken.getLeader()).isEqualTo("alice");
+        assertThat(taken.getPrice()).isEqualTo(50_000);
+    }
+
+    @Test
+    void ignoresProxyBelowMinimumNextBid() {
+        ladder(proxy("alice", 30_500));
+
+        assertThat(autoBidService.resolve(AUCTION_ID, "carol", 30_000, 31_000, BID_UNIT, null)).isNull();
+    }
+
+    @Test
+    void capsProxyBelowBuyNowPrice() {
+        ladder(proxy("alice", 100_000), proxy("bob", 90_000));
+
+        AutoBidService.Resolution resolution = autoBidService.resolve(AUCTION_ID, null, 0, 10_000, BID_UNIT, 40_000L);
+
+        // 입찰가는 즉시 구매가보다 낮아야 하므로 두 상한 모두 39,999원으로 깎인다
+        assertThat(resolution.getLeader()).isEqualTo("alice");
+        assertThat(resolution.getPrice()).isEqualTo(39_999);
+    }
+
+    @Test
+    void incumbentLeaderProxyOutbidsChallenger() {
+        ladder(proxy("alice", 60_000), proxy("bob", 45_000));
+
+        AutoBidService.Resolution resolution = autoBidService.resolve(AUCTION_ID, "alice", 20_000, 21_000, BID_UNIT, null);
+
+        // alice 가 자리를 지키고 가격은 bob 의 상한 + 입찰단위
+        assertThat(resolution.getLeader()).isEqualTo("alice");
+        assertThat(resolution.getPrice()).isEqualTo(46_000);
+        // 이미 그 가격이면 더 바뀔 것이 없다
+        assertThat(autoBidService.resolve(AUCTION_ID, "alice", 46_000, 47_000, BID_UNIT, null)).isNull();
+    }
+
+    @Test
+    void challengerProxyOutbidsIncumbentLeaderProxy() {
+        ladder(proxy("bob", 45_000), proxy("alice", 30_000));
+
+        AutoBidService.Resolution resolution = autoBidService.resolve(AUCTION_ID, "alice", 20_000, 21_000, BID_UNIT, null);
+
+        assertThat(resolution.getLeader()).isEqualTo("bob");
+        assertThat(resolution.getPrice()).isEqualTo(31_000);
+    }
+
+    @Test
+    void noProxiesKeepsCurrentState() {
+        ladder();
+
+        assertThat(autoBidService.resolve(AUCTION_ID, "carol", 30_000, 31_000, BID_UNIT, null)).isNull();
+    }
+
+    private void ladder(AutoBidDto... proxies) {
+        when(autoBidRepository.findByAuctionId(AUCTION_ID)).thenReturn(Arrays.asList(proxies));
+    }
+
+    private static AutoBidDto proxy(String userId, int maxAmount) {
+        return new AutoBidDto(AUCTION_ID, userId, maxAmount);
+    }
+}
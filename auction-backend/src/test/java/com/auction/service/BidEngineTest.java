@@ -0,0 +1,141 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.auction.dto.BidDto;
+import com.auction.dto.NotificationDto;
+import com.auction.entity.Auction;
+import com.auction.entity.NotificationType;
+import com.auction.repository.AuctionRepository;
+import com.auction.repository.BidRepository;
+
+class BidEngineTest {
+
+    private static final Long AUCTION_ID = 1L;
+
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final BidRepository bidRepository = mock(BidRepository.class);
+    private final AutoBidService autoBidService = mock(AutoBidService.class);
+    private final BidLedger bidLedger = mock(BidLedger.class);
+    private final NotificationOutbox notificationOutbox = mock(NotificationOutbox.class);
+    // 원장에 넘긴 입찰과 DB 반영 콜백 (group commit 결과는 테스트가 직접 전달한다)
+    private final List<BidDto> appended = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Boolean>> callbacks = new CopyOnWriteArrayList<>();
+    private final List<BidEngine.AcceptedBid> committed = new CopyOnWriteArrayList<>();
+    private BidEngine bidEngine;
+
+    @BeforeEach
+    void setUp() {
+        when(bidLedger.append(any(), any())).thenAnswer(invocation -> {
+            appended.add(invocation.getArgument(0));
+            callbacks.add(invocation.getArgument(1));
+            return CompletableFuture.completedFuture(null);
+        });
+        bidEngine = new BidEngine(auctionRepository, bidRepository, autoBidService, bidLedger,
+            notificationOutbox, new LocalAuctionEventBus(), 300, 300);
+        bidEngine.onAccepted(committed::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidEngine.shutdown();
+    }
+
+    @Test
+    void committedBidReachesListenersWithBidId() {
+        when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction(0)));
+
+        BidEngine.AcceptedBid accepted = bidEngine.placeBid(bid("alice", 1_000L));
+        appended.get(0).setId(42L);
+        commit(0, true);
+
+        assertThat(committed).containsExactly(accepted);
+        assertThat(accepted.getBidId()).isEqualTo(42L);
+        verify(notificationOutbox, never()).write(any());
+    }
+
+    @Test
+    void rejectedCommitNotifiesBidderAndReloadsState() {
+        // 다른 노드에서 5,000원 입찰이 먼저 반영되었다
+        when(auctionRepository.findById(AUCTION_ID))
+            .thenReturn(Optional.of(auction(0)))
+            .thenReturn(Optional.of(auction(5_000)));
+
+        bidEngine.placeBid(bid("alice", 1_000L));
+        commit(0, false);
+
+        // 리스너(입찰 이벤트/알림)는 호출하지 않고 입찰자에게 거절을 알린다
+        assertThat(committed).isEmpty();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDto>> notifications = ArgumentCaptor.forClass(List.class);
+        verify(notificationOutbox).write(notifications.capture());
+        assertThat(notifications.getValue()).singleElement().satisfies(dto -> {
+            assertThat(dto.getUserId()).isEqualTo("alice");
+            assertThat(dto.getType()).isEqualTo(NotificationType.BID_REJECTED.name());
+        });
+        verify(autoBidService).evictLadder(AUCTION_ID);
+
+        // 다음 입찰은 DB에서 다시 읽은 현재가 기준으로 검증한다
+        assertThatThrownBy(() -> bidEngine.placeBid(bid("bob", 1_100L)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("5100원 이상");
+        verify(auctionRepository, times(2)).findById(AUCTION_ID);
+        assertThat(appended).hasSize(1);
+    }
+
+    // 원장 스레드의 group commit 트랜잭션처럼 동기화를 켜고 콜백을 부른 뒤 커밋 완료를 알린다
+    private void commit(int index, boolean result) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            callbacks.get(index).accept(result);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Auction auction(int highestBid) {
+        Auction auction = new Auction();
+        auction.setId(AUCTION_ID);
+        auction.setTitle("경매");
+        auction.setUserId(10L);
+        auction.setStartPrice(1_000);
+        auction.setBidUnit(100);
+        auction.setHighestBid(highestBid);
+        auction.setBidCount(highestBid > 0 ? 1 : 0);
+        auction.setIsClosed(false);
+        auction.setAutoExtend(false);
+        auction.setEndTime(LocalDateTime.now().plusHours(1));
+        return auction;
+    }
+
+    private static BidDto bid(String bidder, long amount) {
+        BidDto bid = new BidDto();
+        bid.setAuctionId(AUCTION_ID);
+        bid.setBidder(bidder);
+        bid.setBidAmount(amount);
+        bid.setBidTime(LocalDateTime.now());
+        return bid;
+    }
+}
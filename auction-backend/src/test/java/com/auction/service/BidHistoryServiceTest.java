@@ -0,0 +1,153 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.dto.BidDto;
+import com.auction.repository.BidRepository;
+
+class BidHistoryServiceTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @TempDir
+    Path logDir;
+
+    private final List<BidHistoryService> services = new ArrayList<>();
+    private BidRepository bidRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 이전 실행에서 bids.id 1, 3 이 로그에 기록된 상태
+        LocalAuctionEventBus eventBus = new LocalAuctionEventBus();
+        BidHistoryService previous = new BidHistoryService(mock(BidRepository.class), eventBus, logDir.toString(), 1 << 20);
+        publish(eventBus, 1L, 1L, "alice", 1_000L);
+        publish(eventBus, 3L, 1L, "carol", 3_000L);
+        previous.shutdown();
+
+        bidRepository = mock(BidRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(BidHistoryService::shutdown);
+    }
+
+    @Test
+    void servesFromDatabaseUntilCaughtUp() throws Exception {
+        BidHistoryService service = open(bidRepository, new LocalAuctionEventBus());
+        List<BidDto> fromDb = List.of(bid(3L, 1L, "carol", 3_000L));
+        when(bidRepository.findByAuctionIdPage(1L, null, null, 10)).thenReturn(fromDb);
+
+        assertThat(service.isComplete()).isFalse();
+        assertThat(service.getBidsPage(1L, null, null, 10)).isSameAs(fromDb);
+        verify(bidRepository).findByAuctionIdPage(1L, null, null, 10);
+    }
+
+    @Test
+    void loadsBidsAfterLastLoggedIdAndBidsMissingBelowIt() throws Exception {
+        // id 2 는 id 3 보다 늦게 커밋되어 이전 실행의 로그에 없다
+        doAnswer(invocation -> {
+            BidRepository.BidRowCallback callback = invocation.getArgument(1);
+            callback.accept(4L, 2L, "dave", 500L, BID_TIME);
+            return null;
+        }).when(bidRepository).streamAfterId(eq(3L), any());
+        doAnswer(invocation -> {
+            BidRepository.BidRowCallback callback = invocation.getArgument(1);
+            callback.accept(3L, 1L, "carol", 3_000L, BID_TIME);
+            callback.accept(2L, 1L, "bob", 2_000L, BID_TIME);
+            callback.accept(1L, 1L, "alice", 1_000L, BID_TIME);
+            return null;
+        }).when(bidRepository).streamByAuctionId(eq(1L), any());
+        when(bidRepository.countByAuction()).thenReturn(Map.of(1L, 3L, 2L, 1L));
+
+        BidHistoryService service = open(bidRepository, new LocalAuctionEventBus());
+        service.catchUp();
+
+        assertThat(service.isComplete()).isTrue();
+        assertThat(ids(service.getBidsPage(1L, null, null, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(ids(service.getBidsPage(1L, 2_000L, 2L, 10))).containsExactly(1L);
+        assertThat(ids(service.getBidsPage(2L, null, null, 10))).containsExactly(4L);
+        assertThat(service.getBidsPage(1L, null, null, 10).get(1).getBidder()).isEqualTo("bob");
+    }
+
+    @Test
+    void ignoresEventForBidAlreadyCaughtUp() throws Exception {
+        doAnswer(invocation -> {
+            BidRepository.BidRowCallback callback = invocation.getArgument(1);
+            callback.accept(5L, 1L, "erin", 5_000L, BID_TIME);
+            return null;
+        }).when(bidRepository).streamAfterId(eq(3L), any());
+        when(bidRepository.countByAuction()).thenReturn(Map.of(1L, 3L));
+
+        LocalAuctionEventBus eventBus = new LocalAuctionEventBus();
+        BidHistoryService service = open(bidRepository, eventBus);
+        List<Long> recorded = new ArrayList<>();
+        service.replayAndSubscribe((index, auctionId, bidderHash, amount, epochNanos, bidId, sequence) ->
+            recorded.add(bidId));
+        service.catchUp();
+        // 따라잡기로 읽은 입찰의 이벤트가 뒤늦게 도착해도 두 번 기록하지 않는다
+        publish(eventBus, 5L, 1L, "erin", 5_000L);
+
+        assertThat(service.isComplete()).isTrue();
+        assertThat(recorded).containsExactly(1L, 3L, 5L);
+        assertThat(ids(service.getBidsPage(1L, null, null, 10))).containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    void staysOnDatabaseWhenCountsStillDiffer() throws Exception {
+        when(bidRepository.countByAuction()).thenReturn(Map.of(1L, 5L));
+
+        BidHistoryService service = open(bidRepository, new LocalAuctionEventBus());
+        service.catchUp();
+
+        assertThat(service.isComplete()).isFalse();
+        verify(bidRepository).streamAfterId(anyLong(), any());
+        verify(bidRepository).streamByAuctionId(eq(1L), any());
+        service.getBidsAt(1L, null);
+        verify(bidRepository).findByAuctionIdAt(1L, null);
+    }
+
+    private BidHistoryService open(BidRepository repository, AuctionEventBus eventBus) throws Exception {
+        BidHistoryService service = new BidHistoryService(repository, eventBus, logDir.toString(), 1 << 20);
+        services.add(service);
+        return service;
+    }
+
+    private static void publish(AuctionEventBus eventBus, long bidId, long auctionId, String bidder, long amount) {
+        eventBus.publish(AuctionEventBus.BID_ACCEPTED, new BidAcceptedEvent(bidId, auctionId, "경매", 1L, bidder,
+            amount, BID_TIME, (int) bidId, bidId, BID_TIME.plusHours(1), false));
+    }
+
+    private static BidDto bid(long id, long auctionId, String bidder, long amount) {
+        BidDto bid = new BidDto();
+        bid.setId(id);
+        bid.setAuctionId(auctionId);
+        bid.setBidder(bidder);
+        bid.setBidAmount(amount);
+        bid.setBidTime(BID_TIME);
+        return bid;
+    }
+
+    private static List<Long> ids(List<BidDto> bids) {
+        return bids.stream().map(BidDto::getId).toList();
+    }
+}
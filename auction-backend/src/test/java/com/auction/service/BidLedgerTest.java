@@ -0,0 +1,228 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auction.dto.BidDto;
+import com.auction.repository.BidRepository;
+
+class BidLedgerTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2026, 1, 1, 12, 0, 0, 123_000_000);
+
+    @TempDir
+    Path journalDir;
+
+    private final FakeBidRepository bidRepository = new FakeBidRepository();
+    private final List<BidLedger> ledgers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (BidLedger ledger : ledgers) {
+            ledger.shutdown();
+        }
+    }
+
+    @Test
+    void appendedBidIsJournaledAndCommitted() throws Exception {
+        BidLedger ledger = open();
+        ledger.recover();
+        ledger.checkWritable();
+
+        BlockingQueue<Boolean> committed = new LinkedBlockingQueue<>();
+        ledger.append(bid(1L, 1_000L, "alice"), committed::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(committed.poll(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bidRepository.accepted).hasSize(1);
+        assertThat(Files.size(journalDir.resolve("bids.journal"))).isPositive();
+    }
+
+    @Test
+    void committedBidsAreNotReplayed() throws Exception {
+        BidLedger first = open();
+        first.recover();
+        BlockingQueue<Boolean> committed = new LinkedBlockingQueue<>();
+        first.append(bid(1L, 1_000L, "alice"), committed::add).get(5, TimeUnit.SECONDS);
+        assertThat(committed.poll(5, TimeUnit.SECONDS)).isTrue();
+        close(first);
+
+        BidLedger second = open();
+        List<BidDto> replayed = new CopyOnWriteArrayList<>();
+        second.onRecovering(replayed::add);
+        second.recover();
+
+        assertThat(second.recovery().isDone()).isTrue();
+        assertThat(replayed).isEmpty();
+    }
+
+    @Test
+    void uncommittedBidsAreReplayedThroughHandler() throws Exception {
+        writeUncommitted(bid(1L, 1_000L, "alice"), bid(1L, 2_000L, "bob"));
+        assertThat(bidRepository.accepted).isEmpty();
+
+        BidLedger second = open();
+        List<BidDto> replayed = new CopyOnWriteArrayList<>();
+        BlockingQueue<Boolean> committed = new LinkedBlockingQueue<>();
+        second.onRecovering(recoveredBid -> {
+            replayed.add(recoveredBid);
+            second.appendRecovered(recoveredBid, committed::add);
+        });
+        assertThatThrownBy(second::checkWritable).isInstanceOf(IllegalStateException.class);
+
+        second.recover();
+        second.recovery().get(5, TimeUnit.SECONDS);
+
+        assertThat(replayed).hasSize(2);
+        assertThat(replayed.get(0).getAuctionId()).isEqualTo(1L);
+        assertThat(replayed.get(0).getBidAmount()).isEqualTo(1_000L);
+        assertThat(replayed.get(0).getBidder()).isEqualTo("alice");
+        assertThat(replayed.get(0).getBidTime()).isEqualTo(BID_TIME);
+        assertThat(replayed.get(1).getBidder()).isEqualTo("bob");
+        assertThat(committed.poll(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(committed.poll(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bidRepository.accepted).hasSize(2);
+        second.checkWritable();
+    }
+
+    @Test
+    void tornTailIsTruncatedAndEarlierRecordsReplayed() throws Exception {
+        Path journal = writeUncommitted(bid(1L, 1_000L, "alice"));
+        long validSize = Files.size(journal);
+        // 기록 도중 중단된 레코드: magic 과 길이만 있고 본문이 모자란다
+        append(journal, ByteBuffer.allocate(12).putInt(0x42494431).putInt(40).putInt(7).array());
+
+        List<BidDto> replayed = replay();
+
+        assertThat(replayed).hasSize(1);
+        assertThat(replayed.get(0).getBidder()).isEqualTo("alice");
+        assertThat(Files.size(journal)).isEqualTo(validSize);
+    }
+
+    @Test
+    void recordWithBadCrcEndsReplay() throws Exception {
+        Path journal = writeUncommitted(bid(1L, 1_000L, "alice"), bid(1L, 2_000L, "bob"));
+        // 마지막 레코드의 입찰자 바이트(CRC 바로 앞)를 바꾼다
+        long size = Files.size(journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 'X' }), size - 5);
+        }
+
+        List<BidDto> replayed = replay();
+
+        assertThat(replayed).hasSize(1);
+        assertThat(replayed.get(0).getBidder()).isEqualTo("alice");
+        assertThat(Files.size(journal)).isLessThan(size);
+    }
+
+    // DB 반영이 계속 실패하는 동안 종료해 저널에만 기록된 상태를 만든다
+    // 첫 배치가 재시도 중이면 다음 입찰은 종료 시 저널에만 기록된다
+    private Path writeUncommitted(BidDto... bids) throws Exception {
+        BidLedger ledger = open();
+        ledger.recover();
+        bidRepository.failing = true;
+        List<CompletableFuture<Void>> durable = new ArrayList<>();
+        for (BidDto bid : bids) {
+            durable.add(ledger.append(bid, null));
+        }
+        durable.get(0).get(5, TimeUnit.SECONDS);
+        close(ledger);
+        for (CompletableFuture<Void> future : durable) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        bidRepository.failing = false;
+        return journalDir.resolve("bids.journal");
+    }
+
+    // 새 원장으로 복구하고 복구된 입찰을 돌려준다
+    private List<BidDto> replay() throws Exception {
+        BidLedger ledger = open();
+        List<BidDto> replayed = new CopyOnWriteArrayList<>();
+        ledger.onRecovering(recoveredBid -> {
+            replayed.add(recoveredBid);
+            ledger.appendRecovered(recoveredBid, null);
+        });
+        ledger.recover();
+        ledger.recovery().get(5, TimeUnit.SECONDS);
+        return replayed;
+    }
+
+    private BidLedger open() throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        BidLedger ledger = new BidLedger(bidRepository, transactionTemplate, journalDir.toString(), 1024, 100, 1, 1 << 20);
+        ledgers.add(ledger);
+        return ledger;
+    }
+
+    private void close(BidLedger ledger) {
+        ledger.shutdown();
+        ledgers.remove(ledger);
+    }
+
+    private static void append(Path journal, byte[] bytes) throws IOException {
+        Files.write(journal, bytes, StandardOpenOption.APPEND);
+    }
+
+    private static BidDto bid(Long auctionId, Long amount, String bidder) {
+        BidDto bid = new BidDto();
+        bid.setAuctionId(auctionId);
+        bid.setBidAmount(amount);
+        bid.setBidder(bidder);
+        bid.setBidTime(BID_TIME);
+        return bid;
+    }
+
+    // 반영한 입찰을 기록하는 저장소 (failing 이면 group commit 실패)
+    private static final class FakeBidRepository extends BidRepository {
+        private final List<BidDto> accepted = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+
+        FakeBidRepository() {
+            super(null);
+        }
+
+        @Override
+        public boolean[] acceptBids(List<BidDto> bids) {
+            if (failing) {
+                throw new IllegalStateException("DB 연결 실패");
+            }
+            accepted.addAll(bids);
+            boolean[] committed = new boolean[bids.size()];
+            Arrays.fill(committed, true);
+            return committed;
+        }
+
+        // 복구 전에 반영된 입찰이 없으므로 모두 새 입찰
+        @Override
+        public Long[] findExistingIds(List<BidDto> bids) {
+            return new Long[bids.size()];
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.auction.repository.BidRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BidServiceImplTest {
+
+    private static final LocalDateTime BID_TIME = LocalDateTime.of(2026, 1, 1, 12, 0, 30);
+
+    private final BidRepository bidRepository = mock(BidRepository.class);
+    private final BidServiceImpl bidService = new BidServiceImpl(bidRepository, new LocalAuctionEventBus(),
+        mock(BidEngine.class), mock(BidHistoryService.class), mock(BidStatsService.class), new ObjectMapper());
+
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+        doAnswer(invocation -> {
+            BidRepository.BidRowCallback callback = invocation.getArgument(1);
+            callback.accept(30L, 1L, "alice", 5_000L, BID_TIME);
+            callback.accept(20L, 1L, "bob", 4_000L, BID_TIME.minusMinutes(1));
+            return null;
+        }).when(bidRepository).streamByAuctionId(eq(1L), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        bidService.exportBidsByAuctionId(1L, out);
+
+        // 줄 앞에 구분자가 붙지 않아야 NDJSON 으로 한 줄씩 읽을 수 있다
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+            "{\"id\":30,\"auctionId\":1,\"bidder\":\"alice\",\"bidAmount\":5000,\"bidTime\":\"2026-01-01T12:00:30\"}\n"
+            + "{\"id\":20,\"auctionId\":1,\"bidder\":\"bob\",\"bidAmount\":4000,\"bidTime\":\"2026-01-01T11:59:30\"}\n");
+    }
+
+    @Test
+    void exportWithoutRowsWritesNothing() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        bidService.exportBidsByUserId(7L, out);
+
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    void exportPropagatesClientDisconnect() {
+        doAnswer(invocation -> {
+            BidRepository.BidRowCallback callback = invocation.getArgument(1);
+            // 생성기 버퍼를 넘길 만큼 써서 스트림 쓰기가 일어나게 한다
+            for (long id = 1; id <= 1_000; id++) {
+                callback.accept(id, 1L, "alice", id, BID_TIME);
+            }
+            return null;
+        }).when(bidRepository).streamByUserId(eq(7L), any());
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+        };
+
+        assertThatThrownBy(() -> bidService.exportBidsByUserId(7L, closed))
+            .isInstanceOf(IOException.class)
+            .hasMessage("연결 끊김");
+    }
+}
@@ -0,0 +1,88 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.auction.dto.BidAcceptedEvent;
+import com.auction.repository.BidRepository;
+import com.auction.repository.StatisticsRepository;
+
+class BidStatsServiceTest {
+
+    private static final long AUCTION_ID = 1L;
+    private static final int EXACT_BIDDER_LIMIT = 10;
+
+    @TempDir
+    Path logDir;
+
+    private final LocalAuctionEventBus eventBus = new LocalAuctionEventBus();
+    private BidHistoryService bidHistoryService;
+    private BidStatsService bidStatsService;
+    private long bidId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bidHistoryService = new BidHistoryService(mock(BidRepository.class), eventBus, logDir.toString(), 1 << 20);
+        bidStatsService = new BidStatsService(mock(StatisticsRepository.class), bidHistoryService,
+            EXACT_BIDDER_LIMIT, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidStatsService.shutdown();
+        bidHistoryService.shutdown();
+    }
+
+    @Test
+    void countsBiddersExactlyUpToLimit() {
+        for (int i = 1; i <= EXACT_BIDDER_LIMIT; i++) {
+            bid("bidder" + i, 1_000L * i);
+            // 같은 입찰자의 재입찰은 고유 입찰자 수에 더하지 않는다
+            bid("bidder" + i, 1_000L * i + 500);
+        }
+
+        Map<String, Object> stats = bidStatsService.getStats(AUCTION_ID);
+        assertThat(stats.get("totalBids")).isEqualTo(EXACT_BIDDER_LIMIT * 2);
+        assertThat(stats.get("uniqueBidders")).isEqualTo((long) EXACT_BIDDER_LIMIT);
+        assertThat(stats.get("lowestBid")).isEqualTo(1_000L);
+        assertThat(stats.get("highestBid")).isEqualTo(10_500L);
+    }
+
+    @Test
+    void switchesToSketchPastLimitWithoutLosingBidders() {
+        for (int i = 1; i <= 500; i++) {
+            bid("bidder" + i, 1_000L + i);
+        }
+        // 한도를 넘긴 뒤의 재입찰도 HyperLogLog 에서 한 번만 센다
+        for (int i = 1; i <= 500; i++) {
+            bid("bidder" + i, 2_000L + i);
+        }
+
+        long uniqueBidders = (Long) bidStatsService.getStats(AUCTION_ID).get("uniqueBidders");
+        // 전환 시 정확한 집합을 모두 옮기므로 추정치가 실제 값 근처에 있어야 한다
+        assertThat(uniqueBidders).isBetween(485L, 515L);
+        assertThat(bidStatsService.getStats(AUCTION_ID).get("totalBids")).isEqualTo(1_000);
+    }
+
+    @Test
+    void unknownAuctionHasEmptyStats() {
+        Map<String, Object> stats = bidStatsService.getStats(99L);
+        assertThat(stats.get("totalBids")).isEqualTo(0);
+        assertThat(stats.get("uniqueBidders")).isEqualTo(0L);
+    }
+
+    private void bid(String bidder, long amount) {
+        bidId++;
+        eventBus.publish(AuctionEventBus.BID_ACCEPTED, new BidAcceptedEvent(bidId, AUCTION_ID, "경매", 1L, bidder,
+            amount, LocalDateTime.now(), (int) bidId, bidId, LocalDateTime.now().plusHours(1), false));
+    }
+}
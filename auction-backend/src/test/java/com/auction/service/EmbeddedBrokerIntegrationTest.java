@@ -0,0 +1,97 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import com.auction.dto.BidAcceptedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * auction.websocket.broker=embedded 로 띄워 relay 경로(클라이언트 → 내장 브로커 → 클라이언트)를 확인한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "auction.websocket.broker=embedded",
+    "auction.websocket.relay.port=61688",
+    "auction.broadcast.tick-ms=20"
+})
+class EmbeddedBrokerIntegrationTest {
+
+    private static final long AUCTION_ID = 987_654L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuctionEventBus auctionEventBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void subscriberReceivesDeltaAfterBid() throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+            new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new ByteArrayMessageConverter());
+        StompSession session = stompClient
+            .connectAsync("http://localhost:" + port + "/ws-auction", new StompSessionHandlerAdapter() { })
+            .get(10, TimeUnit.SECONDS);
+        try {
+            session.setAutoReceipt(true);
+            BlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+            StompSession.Receiptable subscription = session.subscribe("/topic/auctions/" + AUCTION_ID, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return byte[].class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received.add((byte[]) payload);
+                }
+            });
+            // 구독이 내장 브로커까지 등록된 뒤에 입찰을 보낸다
+            BlockingQueue<Boolean> subscribed = new LinkedBlockingQueue<>();
+            subscription.addReceiptTask(() -> subscribed.add(true));
+            assertThat(subscribed.poll(10, TimeUnit.SECONDS)).isTrue();
+
+            // 서버 쪽 relay 시스템 세션이 아직 연결 중이면 전송이 버려지므로 받을 때까지 입찰을 다시 보낸다
+            byte[] delta = null;
+            for (int attempt = 1; attempt <= 20 && delta == null; attempt++) {
+                long amount = 10_000L + attempt * 1_000L;
+                auctionEventBus.publish(AuctionEventBus.BID_ACCEPTED, new BidAcceptedEvent(
+                    (long) attempt, AUCTION_ID, "테스트 경매", 1L, "bidder", amount, LocalDateTime.now(),
+                    attempt, (long) attempt, LocalDateTime.now().plusHours(1), false));
+                delta = received.poll(500, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(delta).isNotNull();
+            JsonNode json = objectMapper.readTree(delta);
+            assertThat(json.get("auctionId").asLong()).isEqualTo(AUCTION_ID);
+            assertThat(json.get("price").asLong()).isPositive();
+        } finally {
+            session.disconnect();
+            stompClient.stop();
+        }
+    }
+}
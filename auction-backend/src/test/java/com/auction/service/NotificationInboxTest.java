@@ -0,0 +1,234 @@
+package com.auction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.auction.dto.NotificationDto;
+import com.auction.dto.NotificationReadAllEvent;
+import com.auction.entity.Notification;
+import com.auction.repository.NotificationRepository;
+
+class NotificationInboxTest {
+
+    private static final String USER = "7";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private final LocalAuctionEventBus eventBus = new LocalAuctionEventBus();
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    // notifications 테이블 대신 쓰는 목록 (id 순서 = 생성 순서)
+    private final List<Notification> table = new ArrayList<>();
+    private NotificationInbox inbox;
+
+    @AfterEach
+    void tearDown() {
+        if (inbox != null) {
+            inbox.shutdown();
+        }
+    }
+
+    @Test
+    void loadsRecentNotificationsAndUnreadCountOnce() {
+        open(5, 3);
+
+        assertThat(ids(inbox.getPage(USER, null, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(3);
+        assertThat(ids(inbox.getPage(USER, 3L, 10))).containsExactly(2L, 1L);
+
+        verify(notificationRepository, times(1)).findPageByUserId(eq(USER), any(), any(), anyInt());
+        verify(notificationRepository, times(1)).countUnreadByUserId(USER);
+    }
+
+    @Test
+    void addsCreatedNotificationInOrder() {
+        open(5, 2);
+        inbox.getUnreadCount(USER);
+
+        created(insert(false));
+
+        assertThat(ids(inbox.getPage(USER, null, 10))).containsExactly(3L, 2L, 1L);
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(3);
+        // 이미 들어 있는 알림의 이벤트가 다시 와도 두 번 세지 않는다
+        created(table.get(2).toDto());
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(3);
+    }
+
+    @Test
+    void marksSingleNotificationRead() {
+        open(5, 3);
+        inbox.getUnreadCount(USER);
+
+        table.get(1).setIsRead(1);
+        created(table.get(1).toDto());
+
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(2);
+        assertThat(inbox.getPage(USER, null, 10).get(1).getIsRead()).isEqualTo(1);
+    }
+
+    @Test
+    void marksAllReadUpToWatermark() {
+        open(5, 3);
+        inbox.getUnreadCount(USER);
+
+        readAll();
+
+        assertThat(inbox.getUnreadCount(USER)).isZero();
+        assertThat(inbox.getPage(USER, null, 10)).allMatch(dto -> dto.getIsRead() == 1);
+    }
+
+    @Test
+    void reloadsWhenCreatedEventArrivesAfterReadAll() {
+        open(5, 2);
+        inbox.getUnreadCount(USER);
+
+        // 3번 알림이 커밋된 뒤 전체 읽음이 먼저 전달되고, 3번의 생성 이벤트는 늦게 도착
+        Notification late = insert(false);
+        NotificationDto lateEvent = late.toDto();
+        readAll();
+        created(lateEvent);
+
+        assertThat(inbox.getUnreadCount(USER)).isZero();
+        assertThat(inbox.getPage(USER, null, 10).get(0).getIsRead()).isEqualTo(1);
+        verify(notificationRepository, times(2)).countUnreadByUserId(USER);
+    }
+
+    @Test
+    void keepsNotificationsAfterWatermarkUnread() {
+        open(5, 2);
+        inbox.getUnreadCount(USER);
+
+        readAll();
+        created(insert(false));
+
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(1);
+        assertThat(ids(inbox.getPage(USER, null, 10))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void pagesPastCachedWindowFromDatabase() {
+        open(2, 5);
+
+        assertThat(ids(inbox.getPage(USER, null, 2))).containsExactly(5L, 4L);
+        // 캐시 범위 끝의 커서는 DB keyset 으로 이어서 읽는다
+        assertThat(ids(inbox.getPage(USER, 4L, 2))).containsExactly(3L, 2L);
+        assertThat(ids(inbox.getPage(USER, 2L, 2))).containsExactly(1L);
+        // 캐시 범위 밖의 커서도 DB에서
+        assertThat(ids(inbox.getPage(USER, 3L, 10))).containsExactly(2L, 1L);
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(5);
+    }
+
+    @Test
+    void completeInboxServesOlderPagesFromCache() {
+        open(5, 5);
+
+        assertThat(ids(inbox.getPage(USER, null, 2))).containsExactly(5L, 4L);
+        assertThat(ids(inbox.getPage(USER, 4L, 10))).containsExactly(3L, 2L, 1L);
+
+        verify(notificationRepository, times(1)).findPageByUserId(eq(USER), any(), any(), anyInt());
+        verify(notificationRepository, times(0)).findCreatedAt(anyLong());
+    }
+
+    @Test
+    void invalidatesWhenReadOutsideIncompleteWindow() {
+        open(2, 4);
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(4);
+
+        // 캐시 범위 밖(1번)의 읽음은 원래 상태를 모르므로 다음 조회 때 다시 센다
+        table.get(0).setIsRead(1);
+        created(table.get(0).toDto());
+
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(3);
+        verify(notificationRepository, times(2)).countUnreadByUserId(USER);
+    }
+
+    @Test
+    void olderNotificationOutsideIncompleteWindowInvalidates() {
+        open(2, 3);
+        inbox.getUnreadCount(USER);
+
+        // 캐시 범위보다 오래된 시각의 알림
+        Notification older = insert(false);
+        older.setCreatedAt(BASE.minusDays(1));
+        created(older.toDto());
+
+        assertThat(inbox.getUnreadCount(USER)).isEqualTo(4);
+        assertThat(ids(inbox.getPage(USER, null, 2))).containsExactly(3L, 2L);
+    }
+
+    // 알림함을 만들고 count 건의 안 읽은 알림을 넣어 둔다
+    private void open(int size, int count) {
+        for (int i = 0; i < count; i++) {
+            insert(false);
+        }
+        when(notificationRepository.findPageByUserId(anyString(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime beforeCreatedAt = invocation.getArgument(1);
+            Long beforeId = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            return table.stream()
+                .filter(row -> beforeCreatedAt == null || beforeId == null
+                    || row.getCreatedAt().isBefore(beforeCreatedAt)
+                    || (row.getCreatedAt().equals(beforeCreatedAt) && row.getId() < beforeId))
+                .sorted(Comparator.comparing(Notification::getCreatedAt).thenComparing(Notification::getId).reversed())
+                .limit(limit)
+                .map(NotificationInboxTest::copy)
+                .toList();
+        });
+        when(notificationRepository.countUnreadByUserId(USER)).thenAnswer(invocation ->
+            (int) table.stream().filter(row -> row.getIsRead() == 0).count());
+        when(notificationRepository.findCreatedAt(anyLong())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            return table.stream().filter(row -> row.getId().equals(id)).map(Notification::getCreatedAt)
+                .findFirst().orElse(null);
+        });
+        inbox = new NotificationInbox(notificationRepository, eventBus, size, 30);
+    }
+
+    private Notification insert(boolean read) {
+        Notification row = new Notification(USER, 1L, "BID_PLACED", "경매", "입찰", null);
+        row.setId((long) table.size() + 1);
+        row.setCreatedAt(BASE.plusMinutes(table.size()));
+        row.setIsRead(read ? 1 : 0);
+        table.add(row);
+        return row;
+    }
+
+    private void created(Notification row) {
+        created(row.toDto());
+    }
+
+    private void created(NotificationDto dto) {
+        eventBus.publish(AuctionEventBus.NOTIFICATION_CREATED, dto);
+    }
+
+    // NotificationServiceImpl.markAllAsRead 와 같이 현재 최대 id 까지 읽음 처리 후 이벤트 발행
+    private void readAll() {
+        long upToId = table.stream().mapToLong(Notification::getId).max().orElse(0);
+        table.forEach(row -> row.setIsRead(1));
+        eventBus.publish(AuctionEventBus.NOTIFICATION_READ_ALL, new NotificationReadAllEvent(USER, upToId));
+    }
+
+    private static Notification copy(Notification row) {
+        Notification copy = new Notification(row.toDto());
+        copy.setId(row.getId());
+        return copy;
+    }
+
+    private static List<Long> ids(List<NotificationDto> page) {
+        return page.stream().map(NotificationDto::getId).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.auction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmbeddedStompBrokerTest {
+
+    private EmbeddedStompBroker broker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        broker = new EmbeddedStompBroker("127.0.0.1", 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.close();
+    }
+
+    @Test
+    void escapeAndUnescapeRoundTrip() throws IOException {
+        String raw = "a:b\\c\nd\re";
+        String escaped = EmbeddedStompBroker.escape(raw);
+
+        assertThat(escaped).isEqualTo("a\\cb\\\\c\\nd\\re");
+        assertThat(EmbeddedStompBroker.unescape(escaped)).isEqualTo(raw);
+        assertThat(EmbeddedStompBroker.escape("/topic/auctions/1")).isEqualTo("/topic/auctions/1");
+    }
+
+    @Test
+    void undefinedEscapeIsRejected() {
+        assertThatThrownBy(() -> EmbeddedStompBroker.unescape("a\\tb")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> EmbeddedStompBroker.unescape("a\\")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void escapedHeadersSurviveSubscribeAndDelivery() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", broker.getPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+
+            // CONNECT 헤더는 escape 하지 않는다
+            write(out, "CONNECT\naccept-version:1.2\nhost:localhost\n\n");
+            assertThat(readFrame(in)).startsWith("CONNECTED\n");
+
+            write(out, "SUBSCRIBE\nid:sub\\c1\ndestination:/topic/a\\cb\nreceipt:r\\\\1\n\n");
+            assertThat(readFrame(in)).isEqualTo("RECEIPT\nreceipt-id:r\\\\1\n\n");
+
+            write(out, "SEND\ndestination:/topic/a\\cb\ncontent-type:text/plain\ncontent-length:2\n\nhi");
+            String message = readFrame(in);
+            assertThat(message).startsWith("MESSAGE\n")
+                .contains("\ndestination:/topic/a\\cb\n")
+                .contains("\nsubscription:sub\\c1\n")
+                .endsWith("\n\nhi");
+        }
+    }
+
+    @Test
+    void undefinedEscapeClosesConnection() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", broker.getPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+
+            write(out, "CONNECT\naccept-version:1.2\n\n");
+            assertThat(readFrame(in)).startsWith("CONNECTED\n");
+
+            write(out, "SUBSCRIBE\nid:1\ndestination:/topic/a\\tb\n\n");
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    private static void write(OutputStream out, String frame) throws IOException {
+        out.write(frame.getBytes(StandardCharsets.UTF_8));
+        out.write(0);
+        out.flush();
+    }
+
+    // NUL 까지 한 프레임 (앞의 빈 줄은 건너뜀)
+    private static String readFrame(InputStream in) throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1 && b != 0) {
+            if (frame.size() == 0 && (b == '\n' || b == '\r')) {
+                continue;
+            }
+            frame.write(b);
+        }
+        return frame.toString(StandardCharsets.UTF_8);
+    }
+}
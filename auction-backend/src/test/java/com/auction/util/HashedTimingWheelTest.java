@@ -0,0 +1,114 @@
+package com.auction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    // 슬롯 8개 = 한 바퀴 80ms
+    private static final int WHEEL_SIZE = 8;
+
+    private final BlockingQueue<String> expired = new LinkedBlockingQueue<>();
+    // 키 → 만료된 시각 (nanoTime)
+    private final Map<String, Long> expiredAt = new ConcurrentHashMap<>();
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>("test-wheel", TICK_MS, TimeUnit.MILLISECONDS, WHEEL_SIZE, key -> {
+            expiredAt.put(key, System.nanoTime());
+            expired.add(key);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void expiresAfterDelay() throws InterruptedException {
+        long start = System.nanoTime();
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 50, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(expiredAt.get("a") - start)).isGreaterThanOrEqualTo(50L);
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(wheel.pendingCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void delayLongerThanOneRotationWaitsForRemainingRounds() throws InterruptedException {
+        long start = System.nanoTime();
+        // 300ms 는 휠 세 바퀴 이상이라 같은 슬롯을 여러 번 지나친 뒤에 만료되어야 한다
+        wheel.schedule("far", 300, TimeUnit.MILLISECONDS);
+        wheel.schedule("near", 20, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("near");
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("far");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(expiredAt.get("far") - start)).isGreaterThanOrEqualTo(300L);
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() throws InterruptedException {
+        wheel.schedule("late", -1_000, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.poll(1, TimeUnit.SECONDS)).isEqualTo("late");
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() throws InterruptedException {
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("cancelled", 30, TimeUnit.MILLISECONDS);
+        wheel.schedule("marker", 150, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isEqualTo(1L);
+
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("marker");
+        assertThat(expiredAt).doesNotContainKey("cancelled");
+        assertThat(timeout.isCancelled()).isTrue();
+    }
+
+    @Test
+    void expiredTimeoutCannotBeCancelled() throws InterruptedException {
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", 10, TimeUnit.MILLISECONDS);
+
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("a");
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void extendingReschedulesToNewDeadline() throws InterruptedException {
+        long start = System.nanoTime();
+        // AuctionCloseScheduler 의 연장처럼 새 예약을 걸고 이전 예약을 취소한다
+        HashedTimingWheel.Timeout<String> original = wheel.schedule("auction", 40, TimeUnit.MILLISECONDS);
+        wheel.schedule("auction", 200, TimeUnit.MILLISECONDS);
+        original.cancel();
+
+        assertThat(expired.poll(2, TimeUnit.SECONDS)).isEqualTo("auction");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(expiredAt.get("auction") - start)).isGreaterThanOrEqualTo(200L);
+        // 취소된 원래 예약은 한 번도 만료되지 않았다
+        assertThat(expired.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void stoppedWheelRejectsSchedule() {
+        wheel.stop();
+
+        assertThatThrownBy(() -> wheel.schedule("a", 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
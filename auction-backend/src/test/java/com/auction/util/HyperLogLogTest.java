@@ -0,0 +1,55 @@
+package com.auction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog(12).estimate()).isEqualTo(0L);
+    }
+
+    @Test
+    void duplicatesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int round = 0; round < 10; round++) {
+            for (long hash = 1; hash <= 100; hash++) {
+                sketch.add(hash);
+            }
+        }
+        // 작은 범위는 linear counting 이라 거의 정확하다
+        assertThat(sketch.estimate()).isBetween(98L, 102L);
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        // precision 12 의 표준 오차는 약 1.6%, 3 시그마인 5% 안에 들어와야 한다
+        for (long count : new long[] { 1_000, 10_000, 100_000, 1_000_000 }) {
+            HyperLogLog sketch = new HyperLogLog(12);
+            for (long hash = 0; hash < count; hash++) {
+                sketch.add(hash);
+            }
+            double error = Math.abs(sketch.estimate() - count) / (double) count;
+            assertThat(error).isLessThan(0.05);
+        }
+    }
+
+    @Test
+    void lowerPrecisionHasWiderError() {
+        // precision 4 (레지스터 16개) 도 동작은 하되 오차가 크다 (표준 오차 약 26%)
+        HyperLogLog sketch = new HyperLogLog(4);
+        for (long hash = 0; hash < 10_000; hash++) {
+            sketch.add(hash);
+        }
+        assertThat(sketch.estimate()).isBetween(2_000L, 18_000L);
+    }
+
+    @Test
+    void precisionOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(17)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
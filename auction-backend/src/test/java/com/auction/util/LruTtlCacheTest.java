@@ -0,0 +1,140 @@
+package com.auction.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LruTtlCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedOverMaxSize() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(2, 60_000);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        // a 를 조회해 b 가 가장 오래 조회되지 않은 항목이 된다
+        assertThat(cache.get("a")).isEqualTo("1");
+        cache.put("c", "3");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("c")).isEqualTo("3");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void expiresAfterTtl() throws InterruptedException {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 20);
+        cache.put("a", "1");
+        assertThat(cache.get("a")).isEqualTo("1");
+
+        Thread.sleep(50);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.hitCount()).isEqualTo(1L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void putIfUnchangedStoresWhenNothingChanged() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60_000);
+        long stamp = cache.stamp("a");
+
+        assertThat(cache.putIfUnchanged("a", "loaded", stamp)).isTrue();
+        assertThat(cache.get("a")).isEqualTo("loaded");
+    }
+
+    @Test
+    void putIfUnchangedSkipsValueLoadedBeforeInvalidate() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60_000);
+        long stamp = cache.stamp("a");
+        // DB 에서 읽는 사이에 다른 스레드가 무효화
+        cache.invalidate("a");
+
+        assertThat(cache.putIfUnchanged("a", "stale", stamp)).isFalse();
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void putIfUnchangedSkipsValueLoadedBeforePutOrUpdate() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60_000);
+        long stamp = cache.stamp("a");
+        cache.put("a", "fresh");
+
+        assertThat(cache.putIfUnchanged("a", "stale", stamp)).isFalse();
+        assertThat(cache.get("a")).isEqualTo("fresh");
+
+        stamp = cache.stamp("a");
+        cache.update("a", value -> value + "-updated");
+
+        assertThat(cache.putIfUnchanged("a", "stale", stamp)).isFalse();
+        assertThat(cache.get("a")).isEqualTo("fresh-updated");
+    }
+
+    @Test
+    void putIfUnchangedSkipsValueLoadedBeforeInvalidateAll() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60_000);
+        long stamp = cache.stamp("a");
+        cache.invalidateAll();
+
+        assertThat(cache.putIfUnchanged("a", "stale", stamp)).isFalse();
+    }
+
+    @Test
+    void updateOnlyTouchesCachedEntries() {
+        LruTtlCache<String, String> cache = new LruTtlCache<>(10, 60_000);
+        cache.update("missing", value -> "created");
+        assertThat(cache.get("missing")).isNull();
+
+        cache.put("a", "1");
+        // null 을 돌려주면 항목을 뺀다
+        cache.update("a", value -> null);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void concurrentInvalidateNeverLeavesStaleValue() throws Exception {
+        LruTtlCache<Integer, Integer> cache = new LruTtlCache<>(100, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                int key = round % 10;
+                CountDownLatch stamped = new CountDownLatch(1);
+                CountDownLatch invalidated = new CountDownLatch(1);
+                // 읽기: stamp → (무효화 발생) → 오래된 값 넣기 시도
+                Future<Boolean> loader = executor.submit(() -> {
+                    long stamp = cache.stamp(key);
+                    stamped.countDown();
+                    invalidated.await();
+                    return cache.putIfUnchanged(key, -1, stamp);
+                });
+                Future<?> writer = executor.submit(() -> {
+                    stamped.await();
+                    cache.invalidate(key);
+                    invalidated.countDown();
+                    return null;
+                });
+                writer.get(5, TimeUnit.SECONDS);
+
+                assertThat(loader.get(5, TimeUnit.SECONDS)).isFalse();
+                assertThat(cache.get(key)).isNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nonPositiveMaxSizeIsRejected() {
+        assertThatThrownBy(() -> new LruTtlCache<String, String>(0, 1_000))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
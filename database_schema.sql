@@ -33,7 +33,8 @@ CREATE TABLE IF NOT EXISTS auction (
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정시간',
     highest_bid INT NOT NULL DEFAULT 0 COMMENT '최고 입찰가',
     is_closed BOOLEAN NOT NULL DEFAULT FALSE COMMENT '경매 종료 여부',
-    winner VARCHAR(100) COMMENT '낙찰자'
+    winner VARCHAR(100) COMMENT '낙찰자',
+    current_price INT AS (GREATEST(highest_bid, start_price)) STORED COMMENT '현재가'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='경매 정보';
 
 -- =====================================================
@@ -100,13 +101,36 @@ CREATE TABLE IF NOT EXISTS notifications (
     is_read BOOLEAN NOT NULL DEFAULT FALSE COMMENT '읽음 여부',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
     FOREIGN KEY (auction_id) REFERENCES auction(id) ON DELETE CASCADE,
-    INDEX idx_user_id (user_id),
-    INDEX idx_is_read (is_read),
+    INDEX idx_notifications_user_read (user_id, is_read),
+    INDEX idx_notifications_user_created (user_id, created_at, id),
     INDEX idx_created_at (created_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='알림';
 
+-- 90일 지난 알림 보관 (연도별 파티션)
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT NOT NULL,
+    auction_id BIGINT,
+    title VARCHAR(200),
+    user_id VARCHAR(100),
+    type VARCHAR(50),
+    message TEXT,
+    is_read TINYINT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL,
+    seller_id BIGINT,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at),
+    INDEX idx_notifications_archive_user_created (user_id, created_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='보관된 알림'
+PARTITION BY RANGE (YEAR(created_at)) (
+    PARTITION p2024 VALUES LESS THAN (2025),
+    PARTITION p2025 VALUES LESS THAN (2026),
+    PARTITION p2026 VALUES LESS THAN (2027),
+    PARTITION p2027 VALUES LESS THAN (2028),
+    PARTITION pmax VALUES LESS THAN MAXVALUE
+);
+
 -- =====================================================
--- 📊 통계 테이블 (statistics) - 향후 통계 기능용
+-- 📊 통계 테이블 (statistics) - 경매별 입찰 집계
 -- =====================================================
 CREATE TABLE IF NOT EXISTS statistics (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -114,12 +138,53 @@ CREATE TABLE IF NOT EXISTS statistics (
     view_count INT NOT NULL DEFAULT 0 COMMENT '조회수',
     bid_count INT NOT NULL DEFAULT 0 COMMENT '입찰 수',
     unique_bidders INT NOT NULL DEFAULT 0 COMMENT '고유 입찰자 수',
+    total_amount BIGINT NOT NULL DEFAULT 0 COMMENT '입찰 금액 합계',
+    min_bid BIGINT NULL COMMENT '최저 입찰가',
+    max_bid BIGINT NULL COMMENT '최고 입찰가',
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일',
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일',
     FOREIGN KEY (auction_id) REFERENCES auction(id) ON DELETE CASCADE,
     UNIQUE KEY unique_auction_stat (auction_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='경매 통계';
 
+-- =====================================================
+-- 📡 경매 이벤트 아웃박스 (auction_events) - 노드 간 이벤트 버스
+-- =====================================================
+CREATE TABLE IF NOT EXISTS auction_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL COMMENT 'BID_ACCEPTED, AUCTION_CLOSED, NOTIFICATION_CREATED, CHAT_MESSAGE_POSTED',
+    payload TEXT NOT NULL COMMENT '이벤트 JSON',
+    origin_node VARCHAR(64) NOT NULL COMMENT '발행 노드',
+    seq BIGINT NULL COMMENT '커밋 순서 (순번 부여 전에는 NULL)',
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    UNIQUE KEY uk_auction_events_seq (seq),
+    INDEX idx_auction_events_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='경매 이벤트 아웃박스';
+
+-- 이벤트 순번 카운터 (행 하나, 순번 부여 트랜잭션을 커밋 순서대로 직렬화)
+CREATE TABLE IF NOT EXISTS auction_event_sequence (
+    id TINYINT PRIMARY KEY,
+    value BIGINT NOT NULL
+) ENGINE=InnoDB COMMENT='경매 이벤트 순번';
+
+INSERT IGNORE INTO auction_event_sequence (id, value) VALUES (1, 0);
+
+-- =====================================================
+-- 🔔 알림 전송 아웃박스 (notification_outbox)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    channel VARCHAR(10) NOT NULL COMMENT 'WS, EMAIL',
+    user_id VARCHAR(50) NOT NULL COMMENT '수신자',
+    payload TEXT NOT NULL COMMENT '알림 JSON',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '실패 횟수',
+    status VARCHAR(10) NOT NULL DEFAULT 'PENDING' COMMENT 'PENDING, DEAD',
+    next_attempt_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '다음 전송 시각',
+    last_error VARCHAR(500) NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    INDEX idx_notification_outbox_due (status, next_attempt_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='알림 전송 아웃박스';
+
 -- =====================================================
 -- 🎯 샘플 데이터 삽입
 -- =====================================================
@@ -221,9 +286,17 @@ CREATE INDEX idx_auction_end_time ON auction(end_time);
 CREATE INDEX idx_auction_is_closed ON auction(is_closed);
 CREATE INDEX idx_auction_created_at ON auction(created_at);
 
+-- 경매 검색 정렬/keyset 복합 인덱스 (bid_count 정렬 인덱스는 add_auction_search_indexes.sql)
+CREATE INDEX idx_auction_closed_end ON auction(is_closed, end_time, id);
+CREATE INDEX idx_auction_closed_price ON auction(is_closed, current_price, id);
+CREATE INDEX idx_auction_closed_created ON auction(is_closed, created_at, id);
+CREATE INDEX idx_auction_category_closed_end ON auction(category, is_closed, end_time, id);
+
 -- 입찰 테이블 인덱스
 CREATE INDEX idx_bids_bidder ON bids(bidder);
 CREATE INDEX idx_bids_bid_amount ON bids(bid_amount);
+CREATE INDEX idx_bids_auction_amount ON bids(auction_id, bid_amount);
+CREATE INDEX idx_bids_bidder_time ON bids(bidder, bid_time);
 
 -- =====================================================
 -- 📋 뷰 생성 (자주 사용되는 쿼리)
@@ -263,21 +336,8 @@ GROUP BY a.id;
 -- 🔧 트리거 생성
 -- =====================================================
 
--- 입찰 시 최고가 자동 업데이트 트리거
-DELIMITER //
-CREATE TRIGGER update_highest_bid_after_insert
-AFTER INSERT ON bids
-FOR EACH ROW
-BEGIN
-    UPDATE auction 
-    SET highest_bid = (
-        SELECT MAX(bid_amount) 
-        FROM bids 
-        WHERE auction_id = NEW.auction_id
-    )
-    WHERE id = NEW.auction_id;
-END//
-DELIMITER ;
+-- 입찰 시 최고가 갱신은 트리거 대신 애플리케이션의 조건부 UPDATE로 처리
+-- (BidRepository.acceptBid: highest_bid / bid_count 를 한 번의 행 잠금으로 갱신)
 
 -- =====================================================
 -- ✅ 완료 메시지
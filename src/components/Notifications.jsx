@@ -8,10 +8,32 @@ import { format } from 'date-fns';
 import './Notifications.css';
 import { toast } from 'react-toastify'; // toast 사용 시 반드시 import 필요
 
+const PAGE_SIZE = 50; // 서버 알림함 캐시 크기와 같게 (그보다 오래된 알림은 '더 보기'로)
+
+const normalizeNotification = (notification) => {
+  const isRead =
+    notification.isRead !== undefined ? Number(notification.isRead) :
+    notification.is_read !== undefined ? Number(notification.is_read) :
+    notification.read !== undefined ? Number(notification.read) : 0;
+
+  return {
+    id: notification.id,
+    userId: notification.userId,
+    auctionId: notification.auctionId,
+    type: notification.type,
+    title: notification.title || '새 알림',
+    message: notification.message,
+    isRead: isRead === 1 ? 1 : 0,
+    createdAt: notification.createdAt,
+    sellerId: notification.sellerId
+  };
+};
+
 const Notifications = ({ isOpen, onClose }) => {
   const { user } = useUser();
   const { notifications, markAsRead: markAsReadContext, deleteNotification, setNotifications } = useNotifications();
   const [error, setError] = useState(null);
+  const [hasMore, setHasMore] = useState(false);
   const navigate = useNavigate();
 
   const formatDate = (dateString) => {
@@ -75,33 +97,32 @@ const Notifications = ({ isOpen, onClose }) => {
       const response = await axios.get(`/api/notifications/${user.id}`, {
         params: {
           _t: Date.now(),
-          sort: 'created_at',
-          order: 'desc'
+          limit: PAGE_SIZE
         }
       });
 
-      const processedNotifications = response.data.map(notification => {
-        const isRead =
-          notification.isRead !== undefined ? Number(notification.isRead) :
-          notification.is_read !== undefined ? Number(notification.is_read) :
-          notification.read !== undefined ? Number(notification.read) : 0;
-
-        return {
-          id: notification.id,
-          userId: notification.userId,
-          auctionId: notification.auctionId,
-          type: notification.type,
-          title: notification.title || '새 알림',
-          message: notification.message,
-          isRead: isRead === 1 ? 1 : 0,
-          createdAt: notification.createdAt,
-          sellerId: notification.sellerId
-        };
+      setNotifications(response.data.map(normalizeNotification));
+      setHasMore(response.data.length === PAGE_SIZE);
+    } catch (error) {
+      console.error('Error fetching notifications:', error);
+      setError('알림을 불러오는 중 오류가 발생했습니다.');
+    }
+  };
+
+  // 이전 알림 페이지 (마지막으로 받은 알림 id 기준)
+  const fetchMoreNotifications = async () => {
+    if (!user?.id || notifications.length === 0) return;
+
+    try {
+      const lastId = notifications[notifications.length - 1].id;
+      const response = await axios.get(`/api/notifications/${user.id}`, {
+        params: { beforeId: lastId, limit: PAGE_SIZE }
       });
 
-      setNotifications(processedNotifications);
+      setNotifications(prev => [...prev, ...response.data.map(normalizeNotification)]);
+      setHasMore(response.data.length === PAGE_SIZE);
     } catch (error) {
-      console.error('Error fetching notifications:', error);
+      console.error('Error fetching more notifications:', error);
       setError('알림을 불러오는 중 오류가 발생했습니다.');
     }
   };
@@ -222,6 +243,9 @@ const Notifications = ({ isOpen, onClose }) => {
           ) : (
             <div className="no-notifications">📭 새로운 알림이 없습니다.</div>
           )}
+          {hasMore && (
+            <button className="load-more-button" onClick={fetchMoreNotifications}>더 보기</button>
+          )}
         </div>
       </div>
     </div>
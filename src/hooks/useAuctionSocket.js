@@ -1,27 +1,98 @@
 // src/hooks/useAuctionSocket.js
-import { useEffect } from 'react';
+import { useEffect, useRef } from 'react';
 import SockJS from 'sockjs-client';
 import { Client } from '@stomp/stompjs';
 
-export default function useAuctionSocket(onUpdate) {
+// 경매별 토픽(/topic/auctions/{id})을 구독하고 변경분을 onUpdate 로 전달한다
+// 변경분: { auctionId, price, leader, bidCount, endTime, sequence, intermediateBids }
+// sequence 가 건너뛰면 /app/auctions/{id}/snapshot 으로 현재 상태를 한 번 받아 다시 맞춘다
+export default function useAuctionSocket(auctionIds, onUpdate) {
+  const clientRef = useRef(null);
+  const subscriptionsRef = useRef({}); // id -> subscription
+  const sequencesRef = useRef({});     // id -> 마지막으로 반영한 sequence
+  const onUpdateRef = useRef(onUpdate);
+  const idsKey = (auctionIds || []).map(Number).filter(Boolean).sort((a, b) => a - b).join(',');
+
+  useEffect(() => {
+    onUpdateRef.current = onUpdate;
+  }, [onUpdate]);
+
+  const apply = (delta) => {
+    const id = Number(delta.auctionId);
+    const last = sequencesRef.current[id];
+    if (last !== undefined && delta.sequence <= last) return; // 이미 반영한 변경분
+    sequencesRef.current[id] = delta.sequence;
+    onUpdateRef.current(delta);
+  };
+
+  const requestSnapshot = (client, id) => {
+    const sub = client.subscribe(`/app/auctions/${id}/snapshot`, (message) => {
+      sub.unsubscribe();
+      const snapshot = JSON.parse(message.body);
+      // 스냅샷은 누락 여부와 관계없이 기준점으로 삼는다
+      delete sequencesRef.current[id];
+      apply(snapshot);
+    });
+  };
+
+  const syncSubscriptions = (client) => {
+    if (!client || !client.connected) return;
+    const wanted = new Set(idsKey ? idsKey.split(',').map(Number) : []);
+    const current = subscriptionsRef.current;
+
+    Object.keys(current).forEach((key) => {
+      const id = Number(key);
+      if (!wanted.has(id)) {
+        current[key].unsubscribe();
+        delete current[key];
+        delete sequencesRef.current[id];
+      }
+    });
+
+    wanted.forEach((id) => {
+      if (current[id]) return;
+      current[id] = client.subscribe(`/topic/auctions/${id}`, (message) => {
+        const delta = JSON.parse(message.body);
+        const last = sequencesRef.current[id];
+        // 서버가 tick 단위로 합쳐 보낸 중간 입찰(intermediateBids)은 누락이 아니다
+        if (last !== undefined && delta.sequence - (delta.intermediateBids || 0) > last + 1) {
+          console.warn(`📡 경매 ${id} 변경분 누락 (${last} → ${delta.sequence}), 스냅샷 요청`);
+          requestSnapshot(client, id);
+          return;
+        }
+        apply(delta);
+      });
+      // 구독 직후 현재 상태를 받아 sequence 기준점을 잡는다
+      requestSnapshot(client, id);
+    });
+  };
+
   useEffect(() => {
     const client = new Client({
       webSocketFactory: () => new SockJS('http://auction-alb-925869368.ap-northeast-2.elb.amazonaws.com/ws-auction'),
       reconnectDelay: 5000,
       onConnect: () => {
         console.log('[✅ WebSocket 연결됨]');
-        client.subscribe('/topic/auction-updates', (message) => {
-          const updated = JSON.parse(message.body);
-          console.log('📡 실시간 데이터 수신:', updated);
-          onUpdate(updated);
-        });
+        // 재연결 시 이전 구독은 무효이므로 처음부터 다시 구독
+        subscriptionsRef.current = {};
+        sequencesRef.current = {};
+        syncSubscriptions(client);
       },
       onStompError: (frame) => {
         console.error('❌ WebSocket STOMP 오류:', frame);
       },
     });
 
+    clientRef.current = client;
     client.activate();
-    return () => client.deactivate();
-  }, [onUpdate]);
+    return () => {
+      clientRef.current = null;
+      client.deactivate();
+    };
+  }, []);
+
+  // 화면에 보이는 경매 목록이 바뀌면 구독만 조정 (연결은 유지)
+  useEffect(() => {
+    syncSubscriptions(clientRef.current);
+  }, [idsKey]);
 }
@@ -54,46 +54,29 @@ const Home = ({ dashboardData }) => {
     setCurrentPrices(prev => ({ ...seed, ...prev })); // 기존 값 보존
   }, []);
 
-  // 실시간 경매 업데이트 콜백: id/필드 정규화 + 안전 머지 + 현재가 반영
-  const handleAuctionUpdate = useCallback((raw) => {
-    const updatedAuction = normalizeAuction(raw);
-
-    setAuctions(prev => {
-      let found = false;
-      const next = prev.map(a => {
-        if (Number(a.id) === updatedAuction.id) {
-          found = true;
-          const safePatch = Object.fromEntries(
-            Object.entries(updatedAuction).filter(([_, v]) => v !== undefined)
-          );
-          return { ...a, ...safePatch };
-        }
-        return a;
-      });
-      // 목록에 없던 경매가 실시간으로 들어오면 앞에 추가
-      const merged = found ? next : [updatedAuction, ...next];
-
-      // ✅ 현재가도 즉시 반영(웹소켓 수신 값 기준)
-      const start = Number(updatedAuction.startPrice ?? merged.find(x => x.id === updatedAuction.id)?.startPrice ?? 0);
-      const highest = Number(updatedAuction.highestBid ?? 0);
-      const nowPrice = Math.max(start, highest);
-      setCurrentPrices(prev => ({
-        ...prev,
-        [updatedAuction.id]: Math.max(nowPrice, prev[updatedAuction.id] ?? 0) // 낮아지는 경우 방지
-      }));
-
-      return merged;
-    });
-  }, []);
-
   // 즉시구매/시간만료 등 타이머 종료콜백(로그 위치)
   const handleEnd = (id) => {
     console.log('⏳ Time up for auction id:', id);
     // 필요 시 여기서 isClosed=true 패치
   };
 
-  // WebSocket 연결
-  useAuctionSocket(handleAuctionUpdate);
+  // 경매별 토픽 변경분(auctionId/price/leader/bidCount/endTime) → 목록 항목 패치
+  const handleAuctionDelta = useCallback((delta) => {
+    const id = Number(delta.auctionId);
+    const price = Number(delta.price ?? 0);
+    setAuctions(prev => prev.map(a => (
+      Number(a.id) === id
+        ? { ...a, highestBid: price, bidCount: Number(delta.bidCount ?? a.bidCount), endTime: delta.endTime ?? a.endTime }
+        : a
+    )));
+    setCurrentPrices(prev => ({
+      ...prev,
+      [id]: Math.max(price, prev[id] ?? 0) // 낮아지는 경우 방지
+    }));
+  }, []);
+
+  // WebSocket 연결 (목록에 있는 경매 토픽만 구독)
+  useAuctionSocket(auctions.map(a => a.id), handleAuctionDelta);
 
   // dashboardData가 변경될 때 auctions 상태 동기화 + 현재가 시드
   useEffect(() => {
@@ -5,14 +5,24 @@ import "../components/ProductCarousel.css";
 
 const SearchResult = () => {
   const [results, setResults] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
   const { search } = useLocation();
   const query = new URLSearchParams(search).get("query");
 
+  // 서버에서 검색/정렬하고, 다음 페이지 커서는 X-Next-Cursor 헤더로 받는다
+  const fetchPage = (cursor) =>
+    axios.get("/api/auctions/search", { params: { q: query, sort: "endTime", order: "asc", cursor } })
+      .then(res => {
+        setResults(prev => (cursor ? [...prev, ...res.data] : res.data));
+        setNextCursor(res.headers["x-next-cursor"] || null);
+      });
+
   useEffect(() => {
     if (query) {
-      axios.get(`/api/auctions?query=${encodeURIComponent(query)}`)
-        .then(res => setResults(res.data))
-        .catch(() => setResults([]));
+      fetchPage(null).catch(() => {
+        setResults([]);
+        setNextCursor(null);
+      });
     }
   }, [query]);
 
@@ -21,14 +31,19 @@ const SearchResult = () => {
       <h2 style={{ fontSize: '1.3rem', fontWeight: 700, marginBottom: 18 }}>검색 결과: "{query}"</h2>
       <div className="carousel-list">
         {results.length === 0 && <div>검색 결과가 없습니다.</div>}
-        {results.map((p, i) => (
-          <div className="product-card" key={i}>
+        {results.map((p) => (
+          <div className="product-card" key={p.id}>
             <img src={p.imageUrl1} alt={p.title} />
             <div className="product-title">{p.title}</div>
-            <div className="product-price">{p.highestBid ? p.highestBid.toLocaleString() : 0}원</div>
+            <div className="product-price">{p.currentPrice ? p.currentPrice.toLocaleString() : 0}원</div>
           </div>
         ))}
       </div>
+      {nextCursor && (
+        <button className="load-more-button" onClick={() => fetchPage(nextCursor).catch(() => setNextCursor(null))}>
+          더 보기
+        </button>
+      )}
     </div>
   );
 };